@@ -0,0 +1,89 @@
+package cz.vhromada.catalog.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import cz.vhromada.common.Movable;
+import cz.vhromada.validation.result.Result;
+
+import org.springframework.util.Assert;
+
+/**
+ * A class represents creator of facades, which return data from memory.
+ * <p>
+ * Facade is proxy, which answers methods by their names. Methods without answer return empty result with status OK (or null if they don't
+ * return result), so facade can be used for any facade interface without implementing all its methods.
+ *
+ * @author Vladimir Hromada
+ */
+public final class FacadeStubs {
+
+    /**
+     * Creates a new instance of FacadeStubs.
+     */
+    private FacadeStubs() {
+    }
+
+    /**
+     * Returns facade, which answers methods from memory.
+     *
+     * @param facadeType type of facade
+     * @param answers    answers - name of method to answer for arguments of method
+     * @param <F>        type of facade
+     * @return facade, which answers methods from memory
+     * @throws IllegalArgumentException if type of facade is null
+     *                                  or answers are null
+     */
+    public static <F> F create(final Class<F> facadeType, final Map<String, Function<Object[], Object>> answers) {
+        Assert.notNull(facadeType, "Type of facade mustn't be null.");
+        Assert.notNull(answers, "Answers mustn't be null.");
+
+        return facadeType.cast(Proxy.newProxyInstance(facadeType.getClassLoader(), new Class<?>[] { facadeType }, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return facadeType.getSimpleName() + "Stub";
+                }
+            }
+
+            final Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+
+            return Result.class.isAssignableFrom(method.getReturnType()) ? new Result<>() : null;
+        }));
+    }
+
+    /**
+     * Returns answer with result with data.
+     *
+     * @param data data
+     * @return answer with result with data
+     */
+    public static Function<Object[], Object> result(final Object data) {
+        final Result<Object> result = Result.of(data);
+        return args -> result;
+    }
+
+    /**
+     * Returns answer with result with data of parent, which is first argument.
+     *
+     * @param children data of parents - ID of parent to data
+     * @return answer with result with data of parent
+     */
+    public static Function<Object[], Object> children(final Map<Integer, ? extends List<?>> children) {
+        return args -> {
+            final List<?> data = children.get(((Movable) args[0]).getId());
+            return Result.of(data == null ? Collections.emptyList() : data);
+        };
+    }
+
+}
@@ -0,0 +1,213 @@
+package cz.vhromada.catalog.gui.common;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import cz.vhromada.catalog.benchmark.FacadeStubs;
+import cz.vhromada.catalog.cache.ShowAggregateCache;
+import cz.vhromada.catalog.entity.Episode;
+import cz.vhromada.catalog.entity.Movie;
+import cz.vhromada.catalog.entity.Music;
+import cz.vhromada.catalog.entity.Season;
+import cz.vhromada.catalog.entity.Show;
+import cz.vhromada.catalog.facade.EpisodeFacade;
+import cz.vhromada.catalog.facade.PictureFacade;
+import cz.vhromada.catalog.facade.SeasonFacade;
+import cz.vhromada.catalog.facade.SongFacade;
+import cz.vhromada.catalog.generator.SyntheticCatalog;
+import cz.vhromada.catalog.gui.music.MusicDataPanel;
+import cz.vhromada.catalog.gui.season.SeasonDataPanel;
+import cz.vhromada.catalog.gui.show.ShowDataPanel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A class represents benchmark for data panels.
+ * <p>
+ * Show has 10 seasons with same count of episodes and music has all songs. Facades return synthetic data from memory, so benchmarks measure
+ * aggregates computed in panels and not facades. Genres and subtitles are formatted for all movies, same as showing of each movie in panel.
+ *
+ * @author Vladimir Hromada
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class DataPanelBenchmark {
+
+    /**
+     * Count of seasons of show
+     */
+    private static final int SEASONS_COUNT = 10;
+
+    /**
+     * Method for finding data of parent
+     */
+    private static final String FIND_METHOD = "find";
+
+    /**
+     * Count of episodes of show, count of songs of music and count of movies
+     */
+    @Param({ "1000", "10000", "100000", "1000000" })
+    private int size;
+
+    /**
+     * Movies
+     */
+    private List<Movie> movies;
+
+    /**
+     * Show
+     */
+    private Show show;
+
+    /**
+     * First season of show
+     */
+    private Season season;
+
+    /**
+     * Music
+     */
+    private Music music;
+
+    /**
+     * Cache for aggregates of shows
+     */
+    private ShowAggregateCache showAggregateCache;
+
+    /**
+     * Panel with show
+     */
+    private ShowDataPanel showDataPanel;
+
+    /**
+     * Panel with season
+     */
+    private SeasonDataPanel seasonDataPanel;
+
+    /**
+     * Panel with music
+     */
+    private MusicDataPanel musicDataPanel;
+
+    /**
+     * Initializes data and panels.
+     */
+    @Setup
+    public void setUp() {
+        final SyntheticCatalog catalog = new SyntheticCatalog();
+        movies = catalog.movies(size, catalog.genres(20));
+        show = catalog.shows(1, catalog.genres(20)).get(0);
+        final List<Season> seasons = catalog.seasons(SEASONS_COUNT);
+        season = seasons.get(0);
+        final List<Episode> episodes = catalog.episodes(size);
+        final Map<Integer, List<Episode>> seasonEpisodes = new HashMap<>();
+        final int seasonSize = size / SEASONS_COUNT;
+        for (int i = 0; i < SEASONS_COUNT; i++) {
+            seasonEpisodes.put(seasons.get(i).getId(), episodes.subList(i * seasonSize, (i + 1) * seasonSize));
+        }
+        music = catalog.music(1).get(0);
+
+        final SeasonFacade seasonFacade = FacadeStubs.create(SeasonFacade.class,
+            Collections.singletonMap(FIND_METHOD, FacadeStubs.children(Collections.singletonMap(show.getId(), seasons))));
+        final EpisodeFacade episodeFacade = FacadeStubs.create(EpisodeFacade.class,
+            Collections.singletonMap(FIND_METHOD, FacadeStubs.children(seasonEpisodes)));
+        final SongFacade songFacade = FacadeStubs.create(SongFacade.class,
+            Collections.singletonMap(FIND_METHOD, FacadeStubs.children(Collections.singletonMap(music.getId(), catalog.songs(size)))));
+        final PictureFacade pictureFacade = FacadeStubs.create(PictureFacade.class, Collections.emptyMap());
+
+        showAggregateCache = new ShowAggregateCache(seasonFacade, episodeFacade);
+        showDataPanel = new ShowDataPanel(show, showAggregateCache, new PictureCache(pictureFacade));
+        seasonDataPanel = new SeasonDataPanel(season, showAggregateCache);
+        musicDataPanel = new MusicDataPanel(music, songFacade);
+    }
+
+    /**
+     * Measures showing of show without cached aggregates - all seasons and episodes are read.
+     *
+     * @return panel with show
+     */
+    @Benchmark
+    public ShowDataPanel show() {
+        showAggregateCache.clear();
+        showDataPanel.updateData(show);
+        return showDataPanel;
+    }
+
+    /**
+     * Measures showing of show after change of episodes of one season - only episodes of changed season are read.
+     *
+     * @return panel with show
+     */
+    @Benchmark
+    public ShowDataPanel showAfterSeasonChange() {
+        showAggregateCache.seasonChanged(season);
+        showDataPanel.updateData(show);
+        return showDataPanel;
+    }
+
+    /**
+     * Measures showing of season without cached aggregates.
+     *
+     * @return panel with season
+     */
+    @Benchmark
+    public SeasonDataPanel season() {
+        showAggregateCache.clear();
+        seasonDataPanel.updateData(season);
+        return seasonDataPanel;
+    }
+
+    /**
+     * Measures showing of music.
+     *
+     * @return panel with music
+     */
+    @Benchmark
+    public MusicDataPanel music() {
+        musicDataPanel.updateData(music);
+        return musicDataPanel;
+    }
+
+    /**
+     * Measures formatting of genres of all movies.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void getGenres(final Blackhole blackhole) {
+        for (final Movie movie : movies) {
+            blackhole.consume(AbstractDataPanel.getGenres(movie.getGenres()));
+        }
+    }
+
+    /**
+     * Measures formatting of subtitles of all movies.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void getSubtitles(final Blackhole blackhole) {
+        for (final Movie movie : movies) {
+            blackhole.consume(AbstractDataPanel.getSubtitles(movie.getSubtitles()));
+        }
+    }
+
+}
@@ -0,0 +1,108 @@
+package cz.vhromada.catalog.gui.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import cz.vhromada.catalog.entity.Movie;
+import cz.vhromada.catalog.generator.SyntheticCatalog;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A class represents benchmark for index for filtering of list with data.
+ * <p>
+ * Index is created from names of synthetic movies.
+ *
+ * @author Vladimir Hromada
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class FilterIndexBenchmark {
+
+    /**
+     * Count of display values
+     */
+    @Param({ "100000" })
+    private int size;
+
+    /**
+     * Display values
+     */
+    private List<String> displayValues;
+
+    /**
+     * Index for filtering
+     */
+    private FilterIndex index;
+
+    /**
+     * Initializes display values and index for filtering.
+     */
+    @Setup
+    public void setUp() {
+        final SyntheticCatalog catalog = new SyntheticCatalog();
+        displayValues = new ArrayList<>(size);
+        for (final Movie movie : catalog.movies(size, catalog.genres(20))) {
+            displayValues.add(movie.getCzechName());
+        }
+        index = new FilterIndex(displayValues);
+    }
+
+    /**
+     * Measures creating of index - normalizing and sorting of display values.
+     *
+     * @return index for filtering
+     */
+    @Benchmark
+    public FilterIndex create() {
+        return new FilterIndex(displayValues);
+    }
+
+    /**
+     * Measures finding of display values containing text.
+     *
+     * @return indexes of found display values
+     */
+    @Benchmark
+    public int[] find() {
+        return index.find("ko", null);
+    }
+
+    /**
+     * Measures finding of display values starting with text by binary search.
+     *
+     * @return indexes of found display values
+     */
+    @Benchmark
+    public int[] findPrefix() {
+        return index.findPrefix("ko");
+    }
+
+    /**
+     * Measures changing of one display value, which moves it in sorted display values.
+     *
+     * @return index for filtering
+     */
+    @Benchmark
+    public FilterIndex set() {
+        index.set(size / 2, displayValues.get(size / 3));
+        index.set(size / 2, displayValues.get(size / 2));
+        return index;
+    }
+
+}
@@ -0,0 +1,132 @@
+package cz.vhromada.catalog.gui.common;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import cz.vhromada.catalog.benchmark.FacadeStubs;
+import cz.vhromada.catalog.entity.Movie;
+import cz.vhromada.catalog.facade.MovieFacade;
+import cz.vhromada.catalog.generator.SyntheticCatalog;
+import cz.vhromada.catalog.gui.movie.MoviesListDataModel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A class represents benchmark for data model for list with data.
+ * <p>
+ * Model is loaded from facade for movies, which returns synthetic movies from memory.
+ *
+ * @author Vladimir Hromada
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ListDataModelBenchmark {
+
+    /**
+     * Count of movies
+     */
+    @Param({ "1000", "10000", "100000", "1000000" })
+    private int size;
+
+    /**
+     * Movies
+     */
+    private List<Movie> movies;
+
+    /**
+     * Facade for movies
+     */
+    private MovieFacade movieFacade;
+
+    /**
+     * Loaded model
+     */
+    private MoviesListDataModel model;
+
+    /**
+     * Initializes movies and loaded model.
+     */
+    @Setup
+    public void setUp() {
+        final SyntheticCatalog catalog = new SyntheticCatalog();
+        movies = catalog.movies(size, catalog.genres(20));
+        movieFacade = FacadeStubs.create(MovieFacade.class, Collections.singletonMap("getAll", FacadeStubs.result(movies)));
+        model = new MoviesListDataModel(movieFacade);
+        model.update();
+    }
+
+    /**
+     * Measures first loading of model - creating of index for filtering and setting of all data.
+     *
+     * @return loaded model
+     */
+    @Benchmark
+    public MoviesListDataModel updateFirst() {
+        final MoviesListDataModel newModel = new MoviesListDataModel(movieFacade);
+        newModel.update();
+        return newModel;
+    }
+
+    /**
+     * Measures loading of model with same data - only changed data are found.
+     *
+     * @return loaded model
+     */
+    @Benchmark
+    public MoviesListDataModel updateUnchanged() {
+        model.update();
+        return model;
+    }
+
+    /**
+     * Measures creating of index for filtering, which is done in background while loading data.
+     *
+     * @return index for filtering
+     */
+    @Benchmark
+    public FilterIndex createIndex() {
+        return model.createIndex(movies);
+    }
+
+    /**
+     * Measures getting of all shown values, e.g. painting of list without fixed size of cells.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void getElementAt(final Blackhole blackhole) {
+        for (int i = 0; i < model.getSize(); i++) {
+            blackhole.consume(model.getElementAt(i));
+        }
+    }
+
+    /**
+     * Measures filtering of loaded model by text and clearing of filter.
+     *
+     * @return count of filtered values
+     */
+    @Benchmark
+    public int filter() {
+        model.setFilter("ko");
+        final int result = model.getSize();
+        model.setFilter(null);
+        return result;
+    }
+
+}
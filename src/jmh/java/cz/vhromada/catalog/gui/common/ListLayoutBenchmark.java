@@ -0,0 +1,145 @@
+package cz.vhromada.catalog.gui.common;
+
+import java.awt.Component;
+import java.awt.Dimension;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.JList;
+
+import cz.vhromada.catalog.benchmark.FacadeStubs;
+import cz.vhromada.catalog.entity.Movie;
+import cz.vhromada.catalog.facade.MovieFacade;
+import cz.vhromada.catalog.generator.SyntheticCatalog;
+import cz.vhromada.catalog.gui.movie.MoviesListDataModel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A class represents benchmark for layout of list with data after change of data and after setting of all data to new list.
+ * <p>
+ * Lists with count of data at least minimal count of data of large list (system property <code>catalog.list.largeSize</code> in overview panel)
+ * have fixed size of cells same as large list in overview panel, lists without fixed size of cells measure all cells after change. Minimal count
+ * 1000 makes all measured lists large and minimal count 10000000 makes all measured lists small, so each count of data is measured below and above
+ * threshold.
+ *
+ * @author Vladimir Hromada
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ListLayoutBenchmark {
+
+    /**
+     * Width of fixed cells
+     */
+    private static final int CELL_WIDTH = 180;
+
+    /**
+     * Count of movies
+     */
+    @Param({ "1000", "10000", "100000", "200000", "1000000" })
+    private int size;
+
+    /**
+     * Minimal count of data of large list
+     */
+    @Param({ "1000", "10000000" })
+    private int largeSize;
+
+    /**
+     * Movies
+     */
+    private List<Movie> movies;
+
+    /**
+     * Facade for movies
+     */
+    private MovieFacade movieFacade;
+
+    /**
+     * Loaded model
+     */
+    private MoviesListDataModel model;
+
+    /**
+     * List with data
+     */
+    private JList<String> list;
+
+    /**
+     * Index of changed movie
+     */
+    private int index;
+
+    /**
+     * Initializes list with loaded model.
+     */
+    @Setup
+    public void setUp() {
+        final SyntheticCatalog catalog = new SyntheticCatalog();
+        movies = catalog.movies(size, catalog.genres(20));
+        movieFacade = FacadeStubs.create(MovieFacade.class, Collections.singletonMap("getAll", FacadeStubs.result(movies)));
+        model = new MoviesListDataModel(movieFacade);
+        model.update();
+        list = createList(model);
+        list.getPreferredSize();
+    }
+
+    /**
+     * Measures layout of list after update of one movie.
+     *
+     * @return preferred size of list
+     */
+    @Benchmark
+    public Dimension updateOne() {
+        index = (index + 1) % size;
+        model.update(index, movies.get(index));
+        return list.getPreferredSize();
+    }
+
+    /**
+     * Measures setting of all movies to new model of new list and layout of all cells of list.
+     *
+     * @return preferred size of list
+     */
+    @Benchmark
+    public Dimension setData() {
+        final MoviesListDataModel newModel = new MoviesListDataModel(movieFacade);
+        final JList<String> newList = createList(newModel);
+        newModel.setData(movies);
+        return newList.getPreferredSize();
+    }
+
+    /**
+     * Returns list with model. List with count of data at least minimal count of data of large list has fixed size of cells.
+     *
+     * @param listModel model
+     * @return list with model
+     */
+    private JList<String> createList(final MoviesListDataModel listModel) {
+        final JList<String> result = new JList<>(listModel);
+        if (size >= largeSize) {
+            final Component cell = result.getCellRenderer().getListCellRendererComponent(result, "Ag", 0, false, false);
+            result.setFixedCellHeight(cell.getPreferredSize().height);
+            result.setFixedCellWidth(CELL_WIDTH);
+        }
+
+        return result;
+    }
+
+}
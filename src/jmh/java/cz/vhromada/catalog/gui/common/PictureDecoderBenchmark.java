@@ -0,0 +1,90 @@
+package cz.vhromada.catalog.gui.common;
+
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import cz.vhromada.catalog.generator.SyntheticCatalog;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A class represents benchmark for decoding of pictures.
+ * <p>
+ * Pictures are synthetic JPEG pictures with ratio 4:3. Decoding in full resolution is measured for comparison with decoding with subsampling.
+ *
+ * @author Vladimir Hromada
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class PictureDecoderBenchmark {
+
+    /**
+     * Width of picture
+     */
+    @Param({ "640", "1920", "4000" })
+    private int width;
+
+    /**
+     * Content of picture
+     */
+    private byte[] content;
+
+    /**
+     * Initializes content of picture.
+     */
+    @Setup
+    public void setUp() {
+        content = new SyntheticCatalog().jpeg(width, width * 3 / 4);
+    }
+
+    /**
+     * Measures decoding of picture for data panel.
+     *
+     * @return decoded picture
+     */
+    @Benchmark
+    public Image decodePicture() {
+        return PictureDecoder.decode(content, AbstractDataPanel.HORIZONTAL_PICTURE_SIZE, AbstractDataPanel.VERTICAL_PICTURE_SIZE, () -> false);
+    }
+
+    /**
+     * Measures decoding of thumbnail.
+     *
+     * @return decoded thumbnail
+     */
+    @Benchmark
+    public Image decodeThumbnail() {
+        return PictureDecoder.decode(content, PictureCache.THUMBNAIL_SIZE, PictureCache.THUMBNAIL_SIZE, () -> false);
+    }
+
+    /**
+     * Measures decoding of picture in full resolution.
+     *
+     * @return decoded picture
+     * @throws IOException if picture can't be decoded
+     */
+    @Benchmark
+    public BufferedImage decodeFullResolution() throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(content));
+    }
+
+}
@@ -0,0 +1,216 @@
+package cz.vhromada.catalog.gui.common;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import cz.vhromada.catalog.benchmark.FacadeStubs;
+import cz.vhromada.catalog.entity.Game;
+import cz.vhromada.catalog.entity.Genre;
+import cz.vhromada.catalog.entity.Movie;
+import cz.vhromada.catalog.entity.Music;
+import cz.vhromada.catalog.entity.Program;
+import cz.vhromada.catalog.entity.Show;
+import cz.vhromada.catalog.facade.MusicFacade;
+import cz.vhromada.catalog.facade.ShowFacade;
+import cz.vhromada.catalog.generator.SyntheticCatalog;
+import cz.vhromada.catalog.gui.game.GamesStatsTableDataModel;
+import cz.vhromada.catalog.gui.genre.GenresStatsTableDataModel;
+import cz.vhromada.catalog.gui.movie.MoviesStatsTableDataModel;
+import cz.vhromada.catalog.gui.music.MusicStatsTableDataModel;
+import cz.vhromada.catalog.gui.program.ProgramsStatsTableDataModel;
+import cz.vhromada.catalog.gui.show.ShowsStatsTableDataModel;
+import cz.vhromada.common.Time;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A class represents benchmark for data models for tables with stats.
+ * <p>
+ * Each benchmark loads nested stats from facade, which returns synthetic totals from memory, and recomputes stats from all data, same as
+ * after loading of data in overview panel.
+ *
+ * @author Vladimir Hromada
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class StatsTableDataModelBenchmark {
+
+    /**
+     * Count of data
+     */
+    @Param({ "1000", "10000", "100000", "1000000" })
+    private int size;
+
+    /**
+     * Movies
+     */
+    private List<Movie> movies;
+
+    /**
+     * Shows
+     */
+    private List<Show> shows;
+
+    /**
+     * Music
+     */
+    private List<Music> music;
+
+    /**
+     * Games
+     */
+    private List<Game> games;
+
+    /**
+     * Programs
+     */
+    private List<Program> programs;
+
+    /**
+     * Genres
+     */
+    private List<Genre> genres;
+
+    /**
+     * Model for movies
+     */
+    private MoviesStatsTableDataModel moviesModel;
+
+    /**
+     * Model for shows
+     */
+    private ShowsStatsTableDataModel showsModel;
+
+    /**
+     * Model for music
+     */
+    private MusicStatsTableDataModel musicModel;
+
+    /**
+     * Model for games
+     */
+    private GamesStatsTableDataModel gamesModel;
+
+    /**
+     * Model for programs
+     */
+    private ProgramsStatsTableDataModel programsModel;
+
+    /**
+     * Model for genres
+     */
+    private GenresStatsTableDataModel genresModel;
+
+    /**
+     * Initializes data and models.
+     */
+    @Setup
+    public void setUp() {
+        final SyntheticCatalog catalog = new SyntheticCatalog();
+        genres = catalog.genres(size);
+        movies = catalog.movies(size, genres);
+        shows = catalog.shows(size, genres);
+        music = catalog.music(size);
+        games = catalog.games(size);
+        programs = catalog.programs(size);
+
+        final Map<String, Function<Object[], Object>> showAnswers = new HashMap<>();
+        showAnswers.put("getSeasonsCount", FacadeStubs.result(size * 3));
+        showAnswers.put("getEpisodesCount", FacadeStubs.result(size * 30));
+        showAnswers.put("getTotalLength", FacadeStubs.result(new Time(size * 30)));
+        final Map<String, Function<Object[], Object>> musicAnswers = new HashMap<>();
+        musicAnswers.put("getSongsCount", FacadeStubs.result(size * 12));
+        musicAnswers.put("getTotalLength", FacadeStubs.result(new Time(size * 12)));
+
+        moviesModel = new MoviesStatsTableDataModel();
+        showsModel = new ShowsStatsTableDataModel(FacadeStubs.create(ShowFacade.class, showAnswers));
+        musicModel = new MusicStatsTableDataModel(FacadeStubs.create(MusicFacade.class, musicAnswers));
+        gamesModel = new GamesStatsTableDataModel();
+        programsModel = new ProgramsStatsTableDataModel();
+        genresModel = new GenresStatsTableDataModel();
+    }
+
+    /**
+     * Measures stats of movies.
+     *
+     * @return model with stats
+     */
+    @Benchmark
+    public MoviesStatsTableDataModel movies() {
+        moviesModel.setStats(movies, moviesModel.loadNestedStats());
+        return moviesModel;
+    }
+
+    /**
+     * Measures stats of shows.
+     *
+     * @return model with stats
+     */
+    @Benchmark
+    public ShowsStatsTableDataModel shows() {
+        showsModel.setStats(shows, showsModel.loadNestedStats());
+        return showsModel;
+    }
+
+    /**
+     * Measures stats of music.
+     *
+     * @return model with stats
+     */
+    @Benchmark
+    public MusicStatsTableDataModel music() {
+        musicModel.setStats(music, musicModel.loadNestedStats());
+        return musicModel;
+    }
+
+    /**
+     * Measures stats of games.
+     *
+     * @return model with stats
+     */
+    @Benchmark
+    public GamesStatsTableDataModel games() {
+        gamesModel.setStats(games, gamesModel.loadNestedStats());
+        return gamesModel;
+    }
+
+    /**
+     * Measures stats of programs.
+     *
+     * @return model with stats
+     */
+    @Benchmark
+    public ProgramsStatsTableDataModel programs() {
+        programsModel.setStats(programs, programsModel.loadNestedStats());
+        return programsModel;
+    }
+
+    /**
+     * Measures stats of genres.
+     *
+     * @return model with stats
+     */
+    @Benchmark
+    public GenresStatsTableDataModel genres() {
+        genresModel.setStats(genres, genresModel.loadNestedStats());
+        return genresModel;
+    }
+
+}
@@ -1,10 +1,16 @@
 package cz.vhromada.catalog;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import javax.swing.SwingUtilities;
 import javax.swing.UIManager;
 import javax.swing.UnsupportedLookAndFeelException;
 
 import cz.vhromada.catalog.gui.Selector;
+import cz.vhromada.catalog.monitoring.EventQueueMonitor;
+import cz.vhromada.catalog.monitoring.StartupTimeline;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,14 +43,19 @@ public class SwingApplication {
     //CHECKSTYLE.OFF: UncommentedMain
     @SuppressWarnings("AccessOfSystemProperties")
     public static void main(final String... args) {
+        StartupTimeline.init(args);
         Thread.setDefaultUncaughtExceptionHandler(new ExceptionHandler());
         System.setProperty("sun.awt.exception.handler", ExceptionHandler.class.getName());
+        EventQueueMonitor.install();
 
         try {
             UIManager.setLookAndFeel("com.sun.java.swing.plaf.windows.WindowsLookAndFeel");
 
-            final ConfigurableApplicationContext context = new SpringApplicationBuilder(SwingApplication.class).headless(false).run(args);
-            SwingUtilities.invokeLater(() -> new Selector(context).setVisible(true));
+            final CompletableFuture<ConfigurableApplicationContext> context = startContext(args);
+            SwingUtilities.invokeLater(() -> {
+                new Selector(context).setVisible(true);
+                StartupTimeline.mark("Selector shown");
+            });
         } catch (final ReflectiveOperationException | UnsupportedLookAndFeelException ex) {
             logger.error("Error in setting look and feel.", ex);
             System.exit(1);
@@ -52,6 +63,32 @@ public class SwingApplication {
     }
     //CHECKSTYLE.ON: UncommentedMain
 
+    /**
+     * Starts application context in background thread, so selector can be shown while context and database are starting.
+     *
+     * @param args the command line arguments
+     * @return future with application context
+     */
+    private static CompletableFuture<ConfigurableApplicationContext> startContext(final String... args) {
+        final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "Catalog-Context"));
+        final CompletableFuture<ConfigurableApplicationContext> context = CompletableFuture.supplyAsync(
+            () -> {
+                final long start = System.nanoTime();
+                final ConfigurableApplicationContext result = new SpringApplicationBuilder(SwingApplication.class).headless(false).run(args);
+                StartupTimeline.record("Spring context", start);
+                return result;
+            }, executor);
+        executor.shutdown();
+        context.whenComplete((result, ex) -> {
+            if (ex != null) {
+                logger.error("Error in starting application context.", ex);
+                System.exit(2);
+            }
+        });
+
+        return context;
+    }
+
     /**
      * A class represents handler for uncaught exception.
      */
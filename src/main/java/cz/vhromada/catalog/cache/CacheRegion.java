@@ -0,0 +1,166 @@
+package cz.vhromada.catalog.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import org.springframework.util.Assert;
+
+/**
+ * A class represents cached results of one facade.
+ * <p>
+ * Each invalidation increases generation of region. Result is stored only if generation haven't changed during computing of result, so result computed
+ * before invalidation never gets to cache after invalidation.
+ * <p>
+ * Count of cached results is limited - least recently used results are removed, when count of results is greater than maximum.
+ *
+ * @author Vladimir Hromada
+ */
+final class CacheRegion {
+
+    /**
+     * Name
+     */
+    private final String name;
+
+    /**
+     * Maximal count of cached results
+     */
+    private final int maxSize;
+
+    /**
+     * Cached results - key to result, ordered from least recently used
+     */
+    private final Map<List<Object>, Object> entries = new LinkedHashMap<>(16, 0.75F, true);
+
+    /**
+     * Count of hits
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * Count of misses
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Generation
+     */
+    private long generation;
+
+    /**
+     * Creates a new instance of CacheRegion.
+     *
+     * @param name    name
+     * @param maxSize maximal count of cached results
+     * @throws IllegalArgumentException if maximal count of cached results isn't positive number
+     */
+    CacheRegion(final String name, final int maxSize) {
+        Assert.isTrue(maxSize > 0, "Maximal count of cached results must be positive number.");
+
+        this.name = name;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns name.
+     *
+     * @return name
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Returns count of hits.
+     *
+     * @return count of hits
+     */
+    long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns count of misses.
+     *
+     * @return count of misses
+     */
+    long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns count of cached results.
+     *
+     * @return count of cached results
+     */
+    synchronized int getSize() {
+        return entries.size();
+    }
+
+    /**
+     * Returns cached result. Hit or miss is counted.
+     *
+     * @param key key
+     * @return cached result or null if result isn't cached
+     */
+    synchronized Object get(final List<Object> key) {
+        final Object result = entries.get(key);
+        if (result == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns current generation.
+     *
+     * @return current generation
+     */
+    synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Stores result, if there wasn't invalidation since specified generation. Least recently used results are removed, until count of results isn't
+     * greater than maximum.
+     *
+     * @param key               key
+     * @param result            result
+     * @param currentGeneration generation before computing of result
+     */
+    synchronized void put(final List<Object> key, final Object result, final long currentGeneration) {
+        if (generation == currentGeneration) {
+            entries.put(key, result);
+            final Iterator<Object> iterator = entries.values().iterator();
+            while (entries.size() > maxSize) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes cached results with key which matches predicate.
+     *
+     * @param predicate predicate for keys
+     */
+    synchronized void invalidate(final Predicate<List<Object>> predicate) {
+        generation++;
+        entries.keySet().removeIf(predicate);
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    void invalidateAll() {
+        invalidate(key -> true);
+    }
+
+}
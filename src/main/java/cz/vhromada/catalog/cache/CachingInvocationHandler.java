@@ -0,0 +1,359 @@
+package cz.vhromada.catalog.cache;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+
+import cz.vhromada.common.Movable;
+import cz.vhromada.validation.result.Result;
+import cz.vhromada.validation.result.Status;
+
+/**
+ * A class represents invocation handler for caching results of facade.
+ * <p>
+ * Results of methods <code>get*</code> and <code>find*</code> with status OK are cached. Other methods change data and they invalidate affected results:
+ * <ul>
+ * <li><code>add</code> and <code>duplicate</code> keep cached data with ID, because existing data aren't changed</li>
+ * <li><code>update</code> and <code>remove</code> keep cached data with different ID</li>
+ * <li>other methods (moves, new data, updating positions) invalidate all results</li>
+ * </ul>
+ * Results of dependent facades (e.g. counts of seasons in facade for shows after change of season) are invalidated after each change. Listeners
+ * for changes of data are notified after invalidation.
+ * <p>
+ * Cached result is snapshot of result of facade with unmodifiable lists and all callers get same snapshot without copying, so returned data
+ * mustn't be changed. Caller, which changes data (e.g. GUI changes positions, genres or pictures before it updates data), changes copy of data
+ * created by {@link FacadeCache#copy(Object)}.
+ * <p>
+ * Changes of data in all facades are serialized by one lock, so change made in event dispatch thread waits until change in background thread
+ * (e.g. saving) is finished. Facade without cached results (results are too big to be cached) is only locked and its listeners are notified.
+ * <p>
+ * Changes made in one batch (e.g. removing of many data) don't invalidate results and don't notify listeners after each change. Changes are
+ * recorded and after batch is finished results of each changed facade are invalidated once and listeners are notified once about each recorded
+ * change - repeated changes of same data (or additions under same parent) are notified once. Listeners of batch of changed positions are notified
+ * once for each changed facade as if positions of data were updated.
+ *
+ * @author Vladimir Hromada
+ */
+final class CachingInvocationHandler implements InvocationHandler {
+
+    /**
+     * Method for getting data by ID
+     */
+    private static final String GET_METHOD = "get";
+
+    /**
+     * Method, which listeners are notified about after batch is finished
+     */
+    private static final String BATCH_METHOD = "updatePositions";
+
+    /**
+     * Changes of data in batch of current thread - handler of changed facade to changes of data in facade, null if current thread doesn't perform
+     * batch
+     */
+    private static final ThreadLocal<Map<CachingInvocationHandler, List<Change>>> BATCH = new ThreadLocal<>();
+
+    /**
+     * Facade
+     */
+    private final Object facade;
+
+    /**
+     * Type of facade
+     */
+    private final Class<?> facadeType;
+
+    /**
+     * Cached results of facade - null if results aren't cached
+     */
+    private final CacheRegion region;
+
+    /**
+     * Cached results of dependent facades
+     */
+    private final List<CacheRegion> dependentRegions;
+
+    /**
+     * Listeners for changes of data
+     */
+    private final List<FacadeChangeListener> listeners;
+
+    /**
+     * Lock for changes of data
+     */
+    private final Lock lock;
+
+    /**
+     * Creates a new instance of CachingInvocationHandler.
+     *
+     * @param facade           facade
+     * @param facadeType       type of facade
+     * @param region           cached results of facade, null if results aren't cached
+     * @param dependentRegions cached results of dependent facades
+     * @param listeners        listeners for changes of data
+     * @param lock             lock for changes of data
+     */
+    CachingInvocationHandler(final Object facade, final Class<?> facadeType, final CacheRegion region, final List<CacheRegion> dependentRegions,
+        final List<FacadeChangeListener> listeners, final Lock lock) {
+        this.facade = facade;
+        this.facadeType = facadeType;
+        this.region = region;
+        this.dependentRegions = dependentRegions;
+        this.listeners = listeners;
+        this.lock = lock;
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return invokeFacade(method, args);
+        }
+
+        final String name = method.getName();
+        if (name.startsWith("get") || name.startsWith("find")) {
+            return region == null ? invokeFacade(method, args) : getCachedResult(method, args);
+        }
+
+        lock.lock();
+        try {
+            return invokeFacade(method, args);
+        } finally {
+            final Map<CachingInvocationHandler, List<Change>> batch = BATCH.get();
+            if (batch == null) {
+                invalidate(Collections.singletonList(new Change(name, args)));
+                fireDataChanged(name, args);
+            } else {
+                batch.computeIfAbsent(this, handler -> new ArrayList<>()).add(new Change(name, args));
+            }
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Performs changes of data as one batch. If current thread already performs batch, then changes are part of it.
+     *
+     * @param changes   changes of data
+     * @param positions true if changes are changes of positions
+     */
+    static void runBatch(final Runnable changes, final boolean positions) {
+        if (BATCH.get() != null) {
+            changes.run();
+            return;
+        }
+
+        final Map<CachingInvocationHandler, List<Change>> batch = new LinkedHashMap<>();
+        BATCH.set(batch);
+        try {
+            changes.run();
+        } finally {
+            BATCH.remove();
+            for (final Map.Entry<CachingInvocationHandler, List<Change>> handlerChanges : batch.entrySet()) {
+                handlerChanges.getKey().finishBatch(handlerChanges.getValue(), positions);
+            }
+        }
+    }
+
+    /**
+     * Invalidates results and notifies listeners once after batch is finished.
+     *
+     * @param changes   changes of data in batch
+     * @param positions true if changes are changes of positions
+     */
+    private void finishBatch(final List<Change> changes, final boolean positions) {
+        lock.lock();
+        try {
+            invalidate(changes);
+            if (positions) {
+                fireDataChanged(BATCH_METHOD, null);
+                return;
+            }
+
+            final Map<List<Object>, Change> notifiedChanges = new LinkedHashMap<>();
+            for (final Change change : changes) {
+                notifiedChanges.put(change.getKey(), change);
+            }
+            for (final Change change : notifiedChanges.values()) {
+                fireDataChanged(change.name, change.args);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns cached result. If result isn't cached, then facade is invoked and result with status OK is cached.
+     *
+     * @param method method
+     * @param args   arguments
+     * @return cached result
+     * @throws Throwable if facade throws exception
+     */
+    private Object getCachedResult(final Method method, final Object[] args) throws Throwable {
+        final List<Object> key = getKey(method.getName(), args);
+        final Object cachedResult = region.get(key);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+
+        final long generation = region.getGeneration();
+        final Object result = invokeFacade(method, args);
+        if (result instanceof Result && Status.OK == ((Result<?>) result).getStatus()) {
+            final Object snapshot = ResultCopier.snapshot(result);
+            region.put(key, snapshot, generation);
+            return snapshot;
+        }
+
+        return result;
+    }
+
+    /**
+     * Invalidates results affected by changes of data.
+     *
+     * @param changes changes of data
+     */
+    private void invalidate(final List<Change> changes) {
+        if (region == null) {
+            return;
+        }
+
+        final Set<Object> ids = new HashSet<>();
+        boolean all = false;
+        for (final Change change : changes) {
+            switch (change.name) {
+                case "add":
+                case "duplicate":
+                    break;
+                case "update":
+                case "remove":
+                    final Object id = getId(change.args[change.args.length - 1]);
+                    all |= id == null;
+                    ids.add(id);
+                    break;
+                default:
+                    all = true;
+                    break;
+            }
+        }
+        if (all) {
+            region.invalidateAll();
+        } else {
+            region.invalidate(key -> !GET_METHOD.equals(key.get(0)) || ids.contains(key.get(1)));
+        }
+        for (final CacheRegion dependentRegion : dependentRegions) {
+            dependentRegion.invalidateAll();
+        }
+    }
+
+    /**
+     * Notifies listeners about change of data.
+     *
+     * @param name name of method
+     * @param args arguments
+     */
+    private void fireDataChanged(final String name, final Object[] args) {
+        final Object parent = args == null || args.length < 2 ? null : args[0];
+        final Object data = args == null || args.length == 0 ? null : args[args.length - 1];
+        for (final FacadeChangeListener listener : listeners) {
+            listener.dataChanged(facadeType, name, parent, data);
+        }
+    }
+
+    /**
+     * Invokes facade.
+     *
+     * @param method method
+     * @param args   arguments
+     * @return result
+     * @throws Throwable if facade throws exception
+     */
+    private Object invokeFacade(final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(facade, args);
+        } catch (final InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * Returns key for cached result. Data are represented by their ID.
+     *
+     * @param name name of method
+     * @param args arguments
+     * @return key for cached result
+     */
+    private static List<Object> getKey(final String name, final Object[] args) {
+        final List<Object> key = new ArrayList<>();
+        key.add(name);
+        if (args != null) {
+            for (final Object arg : args) {
+                key.add(getId(arg));
+            }
+        }
+
+        return key;
+    }
+
+    /**
+     * Returns ID of data or argument itself, if it isn't data.
+     *
+     * @param arg argument
+     * @return ID of data or argument itself, if it isn't data
+     */
+    private static Object getId(final Object arg) {
+        return arg instanceof Movable ? ((Movable) arg).getId() : arg;
+    }
+
+    /**
+     * A class represents change of data.
+     */
+    private static final class Change {
+
+        /**
+         * Name of method
+         */
+        private final String name;
+
+        /**
+         * Arguments
+         */
+        private final Object[] args;
+
+        /**
+         * Creates a new instance of Change.
+         *
+         * @param name name of method
+         * @param args arguments
+         */
+        Change(final String name, final Object[] args) {
+            this.name = name;
+            this.args = args;
+        }
+
+        /**
+         * Returns key of change. Listeners are notified once about changes with same key - additions under same parent, other changes of same data
+         * and changes of all data (e.g. new data).
+         *
+         * @return key of change
+         */
+        List<Object> getKey() {
+            if (args == null || args.length == 0) {
+                return Collections.singletonList(name);
+            }
+            if ("add".equals(name)) {
+                return Arrays.asList(name, args.length < 2 ? null : getId(args[0]));
+            }
+
+            return Arrays.asList(name, getId(args[args.length - 1]));
+        }
+
+    }
+
+}
@@ -0,0 +1,310 @@
+package cz.vhromada.catalog.cache;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import cz.vhromada.catalog.facade.EpisodeFacade;
+import cz.vhromada.catalog.facade.GameFacade;
+import cz.vhromada.catalog.facade.GenreFacade;
+import cz.vhromada.catalog.facade.MovieFacade;
+import cz.vhromada.catalog.facade.MusicFacade;
+import cz.vhromada.catalog.facade.PictureFacade;
+import cz.vhromada.catalog.facade.ProgramFacade;
+import cz.vhromada.catalog.facade.SeasonFacade;
+import cz.vhromada.catalog.facade.ShowFacade;
+import cz.vhromada.catalog.facade.SongFacade;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+/**
+ * A class represents cache for facades.
+ * <p>
+ * Facades from application context are replaced by proxies, which serve repeated reads from memory and invalidate cached results after change of data.
+ * Counts of hits and misses are available for each facade. Listeners for changes of data are notified after each change of data in facades.
+ * Changes of data in all facades are serialized, so data can be saved in background thread while they are changed in event dispatch thread.
+ * Many changes (e.g. removing of selected data or updating of positions of moved data) can be performed as one batch, which invalidates results
+ * and notifies listeners once.
+ * Cached results are shared by all callers, so data returned by facades mustn't be changed - data, which are changed, must be copied by
+ * {@link #copy(Object)}. Count of cached results for each facade is limited (1000 by default, set by system property
+ * <code>catalog.cache.maxSize</code>).
+ * Facade for pictures is proxied too, but its results aren't cached, because they contain content of pictures.
+ * Cache is ordered, so other post processors of facades (e.g. metrics of calls) can wrap it.
+ *
+ * @author Vladimir Hromada
+ */
+@Component
+public class FacadeCache implements BeanPostProcessor, Ordered {
+
+    /**
+     * Order of post processor
+     */
+    public static final int ORDER = 0;
+
+    /**
+     * System property with maximal count of cached results for one facade
+     */
+    public static final String MAX_SIZE_PROPERTY = "catalog.cache.maxSize";
+
+    /**
+     * Default maximal count of cached results for one facade
+     */
+    private static final int DEFAULT_MAX_SIZE = 1000;
+
+    /**
+     * Cached facades - facade to facades with data depending on facade
+     */
+    private static final Map<Class<?>, List<Class<?>>> FACADES = createFacades();
+
+    /**
+     * Facades with results, which aren't cached
+     */
+    private static final List<Class<?>> UNCACHED_FACADES = Collections.singletonList(PictureFacade.class);
+
+    /**
+     * Cached results - facade to cached results
+     */
+    private final Map<Class<?>, CacheRegion> regions = new LinkedHashMap<>();
+
+    /**
+     * Listeners for changes of data
+     */
+    private final List<FacadeChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Lock for changes of data
+     */
+    private final Lock lock = new ReentrantLock(true);
+
+    /**
+     * Creates a new instance of FacadeCache.
+     */
+    public FacadeCache() {
+        final int maxSize = Integer.getInteger(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE);
+        for (final Class<?> facade : FACADES.keySet()) {
+            regions.put(facade, new CacheRegion(facade.getSimpleName(), maxSize));
+        }
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        for (final Map.Entry<Class<?>, List<Class<?>>> facade : FACADES.entrySet()) {
+            if (facade.getKey().isInstance(bean)) {
+                final List<CacheRegion> dependentRegions = new ArrayList<>();
+                for (final Class<?> dependentFacade : facade.getValue()) {
+                    dependentRegions.add(regions.get(dependentFacade));
+                }
+                final CachingInvocationHandler handler = new CachingInvocationHandler(bean, facade.getKey(), regions.get(facade.getKey()),
+                    dependentRegions, listeners, lock);
+                return Proxy.newProxyInstance(facade.getKey().getClassLoader(), new Class<?>[] { facade.getKey() }, handler);
+            }
+        }
+        for (final Class<?> facade : UNCACHED_FACADES) {
+            if (facade.isInstance(bean)) {
+                final CachingInvocationHandler handler = new CachingInvocationHandler(bean, facade, null, Collections.emptyList(), listeners, lock);
+                return Proxy.newProxyInstance(facade.getClassLoader(), new Class<?>[] { facade }, handler);
+            }
+        }
+
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    /**
+     * Adds listener for changes of data.
+     *
+     * @param listener listener
+     * @throws IllegalArgumentException if listener is null
+     */
+    public void addChangeListener(final FacadeChangeListener listener) {
+        Assert.notNull(listener, "Listener mustn't be null.");
+
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes listener for changes of data.
+     *
+     * @param listener listener
+     * @throws IllegalArgumentException if listener is null
+     */
+    public void removeChangeListener(final FacadeChangeListener listener) {
+        Assert.notNull(listener, "Listener mustn't be null.");
+
+        listeners.remove(listener);
+    }
+
+    /**
+     * Performs changes of data in current thread as one batch. Results of changed facades are invalidated once after all changes are performed
+     * and listeners are notified once about each change after all changes are performed.
+     *
+     * @param changes changes of data
+     * @throws IllegalArgumentException if changes of data are null
+     */
+    public static void runBatch(final Runnable changes) {
+        Assert.notNull(changes, "Changes of data mustn't be null.");
+
+        CachingInvocationHandler.runBatch(changes, false);
+    }
+
+    /**
+     * Performs changes of positions of data in current thread as one batch. Results of changed facades are invalidated once after all changes are
+     * performed and listeners are notified once for each changed facade as if positions of data were updated.
+     *
+     * @param changes changes of positions of data
+     * @throws IllegalArgumentException if changes of positions of data are null
+     */
+    public static void runPositionsBatch(final Runnable changes) {
+        Assert.notNull(changes, "Changes of positions of data mustn't be null.");
+
+        CachingInvocationHandler.runBatch(changes, true);
+    }
+
+    /**
+     * Returns copy of data returned by facade, which can be changed. Lists in data are copied too.
+     *
+     * @param data data
+     * @param <T>  type of data
+     * @return copy of data
+     * @throws IllegalArgumentException if data are null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T copy(final T data) {
+        Assert.notNull(data, "Data mustn't be null.");
+
+        return (T) ResultCopier.copyValue(data);
+    }
+
+    /**
+     * Returns cached facades.
+     *
+     * @return cached facades
+     */
+    public List<Class<?>> getFacades() {
+        return new ArrayList<>(regions.keySet());
+    }
+
+    /**
+     * Returns count of hits for facade.
+     *
+     * @param facade facade
+     * @return count of hits for facade
+     * @throws IllegalArgumentException if facade is null
+     *                                  or facade isn't cached
+     */
+    public long getHits(final Class<?> facade) {
+        return getRegion(facade).getHits();
+    }
+
+    /**
+     * Returns count of misses for facade.
+     *
+     * @param facade facade
+     * @return count of misses for facade
+     * @throws IllegalArgumentException if facade is null
+     *                                  or facade isn't cached
+     */
+    public long getMisses(final Class<?> facade) {
+        return getRegion(facade).getMisses();
+    }
+
+    /**
+     * Returns count of cached results for facade.
+     *
+     * @param facade facade
+     * @return count of cached results for facade
+     * @throws IllegalArgumentException if facade is null
+     *                                  or facade isn't cached
+     */
+    public int getSize(final Class<?> facade) {
+        return getRegion(facade).getSize();
+    }
+
+    /**
+     * Returns total count of hits.
+     *
+     * @return total count of hits
+     */
+    public long getHits() {
+        return regions.values().stream().mapToLong(CacheRegion::getHits).sum();
+    }
+
+    /**
+     * Returns total count of misses.
+     *
+     * @return total count of misses
+     */
+    public long getMisses() {
+        return regions.values().stream().mapToLong(CacheRegion::getMisses).sum();
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void clear() {
+        regions.values().forEach(CacheRegion::invalidateAll);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder result = new StringBuilder("FacadeCache [");
+        for (final CacheRegion region : regions.values()) {
+            if (result.charAt(result.length() - 1) != '[') {
+                result.append(", ");
+            }
+            result.append(String.format("%s: hits=%d, misses=%d, size=%d", region.getName(), region.getHits(), region.getMisses(), region.getSize()));
+        }
+
+        return result.append(']').toString();
+    }
+
+    /**
+     * Returns cached results for facade.
+     *
+     * @param facade facade
+     * @return cached results for facade
+     * @throws IllegalArgumentException if facade is null
+     *                                  or facade isn't cached
+     */
+    private CacheRegion getRegion(final Class<?> facade) {
+        Assert.notNull(facade, "Facade mustn't be null.");
+        Assert.isTrue(regions.containsKey(facade), "Facade isn't cached.");
+
+        return regions.get(facade);
+    }
+
+    /**
+     * Returns cached facades with facades with data depending on them.
+     *
+     * @return cached facades with facades with data depending on them
+     */
+    private static Map<Class<?>, List<Class<?>>> createFacades() {
+        final Map<Class<?>, List<Class<?>>> facades = new LinkedHashMap<>();
+        facades.put(MovieFacade.class, Collections.emptyList());
+        facades.put(ShowFacade.class, Arrays.asList(SeasonFacade.class, EpisodeFacade.class));
+        facades.put(SeasonFacade.class, Arrays.asList(ShowFacade.class, EpisodeFacade.class));
+        facades.put(EpisodeFacade.class, Collections.singletonList(ShowFacade.class));
+        facades.put(MusicFacade.class, Collections.singletonList(SongFacade.class));
+        facades.put(SongFacade.class, Collections.singletonList(MusicFacade.class));
+        facades.put(GameFacade.class, Collections.emptyList());
+        facades.put(ProgramFacade.class, Collections.emptyList());
+        facades.put(GenreFacade.class, Arrays.asList(MovieFacade.class, ShowFacade.class));
+
+        return Collections.unmodifiableMap(facades);
+    }
+
+}
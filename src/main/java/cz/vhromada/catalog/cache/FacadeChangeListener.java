@@ -0,0 +1,21 @@
+package cz.vhromada.catalog.cache;
+
+/**
+ * An interface represents listener for changes of data in cached facades.
+ *
+ * @author Vladimir Hromada
+ */
+@FunctionalInterface
+public interface FacadeChangeListener {
+
+    /**
+     * Gives notification that data were changed by facade.
+     *
+     * @param facade facade
+     * @param method name of method, which changed data
+     * @param parent first argument of method with more arguments (e.g. show for added season) or null if method hasn't more arguments
+     * @param data   last argument of method (e.g. updated data) or null if method hasn't arguments
+     */
+    void dataChanged(Class<?> facade, String method, Object parent, Object data);
+
+}
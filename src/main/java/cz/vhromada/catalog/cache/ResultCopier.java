@@ -0,0 +1,104 @@
+package cz.vhromada.catalog.cache;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import cz.vhromada.common.Movable;
+import cz.vhromada.validation.result.Result;
+import cz.vhromada.validation.result.Status;
+
+import org.springframework.beans.BeanUtils;
+
+/**
+ * A class represents creator of copies of cached results.
+ * <p>
+ * Cached result is copied once, when it is stored, to snapshot with unmodifiable lists, so data returned by facade can't change cached result
+ * and each caller gets same snapshot without copying. Data in results of facades are mutable, so caller, which changes data (e.g. GUI changes
+ * position, genres or pictures of data before data are updated), changes its own copy of data. Data are copied by their properties - lists are
+ * copied with copies of their elements and other values (texts, numbers, times, languages) are shared, because they aren't changed.
+ *
+ * @author Vladimir Hromada
+ */
+final class ResultCopier {
+
+    /**
+     * Creates a new instance of ResultCopier.
+     */
+    private ResultCopier() {
+    }
+
+    /**
+     * Returns snapshot of result for storing in cache. Only results with status OK are copied, other results are returned.
+     *
+     * @param result result
+     * @return snapshot of result
+     */
+    static Object snapshot(final Object result) {
+        if (result instanceof Result && Status.OK == ((Result<?>) result).getStatus()) {
+            final Object data = ((Result<?>) result).getData();
+            return data == null ? result : Result.of(copyValue(data, true));
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns copy of value, which can be changed. Lists and data are copied, other values are returned.
+     *
+     * @param value value
+     * @return copy of value
+     */
+    static Object copyValue(final Object value) {
+        return copyValue(value, false);
+    }
+
+    /**
+     * Returns copy of value. Lists and data are copied, other values are returned.
+     *
+     * @param value        value
+     * @param unmodifiable true if copied lists are unmodifiable
+     * @return copy of value
+     */
+    private static Object copyValue(final Object value, final boolean unmodifiable) {
+        if (value instanceof List) {
+            final List<?> list = (List<?>) value;
+            final List<Object> copy = new ArrayList<>(list.size());
+            for (final Object element : list) {
+                copy.add(copyValue(element, unmodifiable));
+            }
+
+            return unmodifiable ? Collections.unmodifiableList(copy) : copy;
+        }
+        if (value instanceof Movable) {
+            return copyData(value, unmodifiable);
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns copy of data created by their properties.
+     *
+     * @param data         data
+     * @param unmodifiable true if copied lists are unmodifiable
+     * @return copy of data
+     */
+    private static Object copyData(final Object data, final boolean unmodifiable) {
+        final Object copy = BeanUtils.instantiateClass(data.getClass());
+        for (final PropertyDescriptor property : BeanUtils.getPropertyDescriptors(data.getClass())) {
+            if (property.getReadMethod() != null && property.getWriteMethod() != null) {
+                try {
+                    property.getWriteMethod().invoke(copy, copyValue(property.getReadMethod().invoke(data), unmodifiable));
+                } catch (final IllegalAccessException | InvocationTargetException ex) {
+                    throw new IllegalStateException("Can't copy property " + property.getName() + " of " + data.getClass().getSimpleName() + '.', ex);
+                }
+            }
+        }
+
+        return copy;
+    }
+
+}
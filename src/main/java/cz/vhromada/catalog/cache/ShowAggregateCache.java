@@ -0,0 +1,318 @@
+package cz.vhromada.catalog.cache;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import cz.vhromada.catalog.entity.Episode;
+import cz.vhromada.catalog.entity.Season;
+import cz.vhromada.catalog.entity.Show;
+import cz.vhromada.catalog.facade.EpisodeFacade;
+import cz.vhromada.catalog.facade.SeasonFacade;
+import cz.vhromada.validation.result.Result;
+import cz.vhromada.validation.result.Status;
+
+import org.springframework.util.Assert;
+
+/**
+ * A class represents cache for aggregates of shows and seasons (count of seasons, count of episodes, total length and range of years).
+ * <p>
+ * Aggregate of season is computed from episodes of season. Aggregate of show is computed from seasons of show and aggregates of seasons, so
+ * episodes of each season are read only once. After change of episodes only aggregate of season is computed again and aggregate of show is
+ * computed from cached aggregates of seasons.
+ * <p>
+ * Cache is used in event dispatch thread.
+ *
+ * @author Vladimir Hromada
+ */
+public class ShowAggregateCache {
+
+    /**
+     * Error message for result with error
+     */
+    private static final String RESULT_WITH_ERROR_MESSAGE = "Can't get data. ";
+
+    /**
+     * Facade for seasons
+     */
+    private final SeasonFacade seasonFacade;
+
+    /**
+     * Facade for episodes
+     */
+    private final EpisodeFacade episodeFacade;
+
+    /**
+     * Aggregates of shows - ID of show to aggregate
+     */
+    private final Map<Integer, Aggregate> showAggregates = new HashMap<>();
+
+    /**
+     * Seasons of shows - ID of show to seasons of show
+     */
+    private final Map<Integer, List<Season>> showSeasons = new HashMap<>();
+
+    /**
+     * Aggregates of seasons - ID of season to aggregate
+     */
+    private final Map<Integer, Aggregate> seasonAggregates = new HashMap<>();
+
+    /**
+     * Shows of seasons - ID of season to ID of show
+     */
+    private final Map<Integer, Integer> seasonShows = new HashMap<>();
+
+    /**
+     * Creates a new instance of ShowAggregateCache.
+     *
+     * @param seasonFacade  facade for seasons
+     * @param episodeFacade facade for episodes
+     * @throws IllegalArgumentException if facade for seasons is null
+     *                                  or facade for episodes is null
+     */
+    public ShowAggregateCache(final SeasonFacade seasonFacade, final EpisodeFacade episodeFacade) {
+        Assert.notNull(seasonFacade, "Facade for seasons mustn't be null.");
+        Assert.notNull(episodeFacade, "Facade for episodes mustn't be null.");
+
+        this.seasonFacade = seasonFacade;
+        this.episodeFacade = episodeFacade;
+    }
+
+    /**
+     * Returns aggregate of show.
+     *
+     * @param show show
+     * @return aggregate of show
+     * @throws IllegalArgumentException if show is null
+     */
+    public Aggregate getShowAggregate(final Show show) {
+        Assert.notNull(show, "Show mustn't be null.");
+
+        Aggregate aggregate = showAggregates.get(show.getId());
+        if (aggregate == null) {
+            List<Season> seasons = showSeasons.get(show.getId());
+            if (seasons == null) {
+                seasons = findSeasons(show);
+                showSeasons.put(show.getId(), seasons);
+                for (final Season season : seasons) {
+                    seasonShows.put(season.getId(), show.getId());
+                }
+            }
+            aggregate = computeShowAggregate(seasons);
+            showAggregates.put(show.getId(), aggregate);
+        }
+
+        return aggregate;
+    }
+
+    /**
+     * Returns aggregate of season.
+     *
+     * @param season season
+     * @return aggregate of season
+     * @throws IllegalArgumentException if season is null
+     */
+    public Aggregate getSeasonAggregate(final Season season) {
+        Assert.notNull(season, "Season mustn't be null.");
+
+        return seasonAggregates.computeIfAbsent(season.getId(), id -> computeSeasonAggregate(season));
+    }
+
+    /**
+     * Invalidates aggregate of show after change of its seasons. Cached aggregates of seasons are kept.
+     *
+     * @param show show
+     * @throws IllegalArgumentException if show is null
+     */
+    public void showChanged(final Show show) {
+        Assert.notNull(show, "Show mustn't be null.");
+
+        showAggregates.remove(show.getId());
+        showSeasons.remove(show.getId());
+    }
+
+    /**
+     * Invalidates aggregate of season after change of its episodes and aggregate of its show. Seasons of show are kept, so aggregate of show is
+     * computed only from aggregates of seasons.
+     *
+     * @param season season
+     * @throws IllegalArgumentException if season is null
+     */
+    public void seasonChanged(final Season season) {
+        Assert.notNull(season, "Season mustn't be null.");
+
+        seasonAggregates.remove(season.getId());
+        final Integer show = seasonShows.get(season.getId());
+        if (show != null) {
+            showAggregates.remove(show);
+        }
+    }
+
+    /**
+     * Removes all cached aggregates.
+     */
+    public void clear() {
+        showAggregates.clear();
+        showSeasons.clear();
+        seasonAggregates.clear();
+        seasonShows.clear();
+    }
+
+    /**
+     * Returns aggregate of show computed from aggregates of seasons.
+     *
+     * @param seasons seasons of show
+     * @return aggregate of show
+     */
+    private Aggregate computeShowAggregate(final List<Season> seasons) {
+        int episodesCount = 0;
+        int length = 0;
+        int startYear = 0;
+        int endYear = 0;
+        for (final Season season : seasons) {
+            final Aggregate seasonAggregate = getSeasonAggregate(season);
+            episodesCount += seasonAggregate.getEpisodesCount();
+            length += seasonAggregate.getLength();
+            if (startYear == 0 || season.getStartYear() < startYear) {
+                startYear = season.getStartYear();
+            }
+            if (season.getEndYear() > endYear) {
+                endYear = season.getEndYear();
+            }
+        }
+
+        return new Aggregate(seasons.size(), episodesCount, length, startYear, endYear);
+    }
+
+    /**
+     * Returns aggregate of season computed from episodes.
+     *
+     * @param season season
+     * @return aggregate of season
+     */
+    private Aggregate computeSeasonAggregate(final Season season) {
+        final Result<List<Episode>> result = episodeFacade.find(season);
+
+        if (Status.OK == result.getStatus()) {
+            int length = 0;
+            for (final Episode episode : result.getData()) {
+                length += episode.getLength();
+            }
+            return new Aggregate(1, result.getData().size(), length, season.getStartYear(), season.getEndYear());
+        } else {
+            throw new IllegalArgumentException(RESULT_WITH_ERROR_MESSAGE + result);
+        }
+    }
+
+    /**
+     * Returns seasons of show.
+     *
+     * @param show show
+     * @return seasons of show
+     */
+    private List<Season> findSeasons(final Show show) {
+        final Result<List<Season>> result = seasonFacade.find(show);
+
+        if (Status.OK == result.getStatus()) {
+            return result.getData();
+        } else {
+            throw new IllegalArgumentException(RESULT_WITH_ERROR_MESSAGE + result);
+        }
+    }
+
+    /**
+     * A class represents aggregate of show or season.
+     */
+    public static final class Aggregate {
+
+        /**
+         * Count of seasons
+         */
+        private final int seasonsCount;
+
+        /**
+         * Count of episodes
+         */
+        private final int episodesCount;
+
+        /**
+         * Total length
+         */
+        private final int length;
+
+        /**
+         * Starting year - 0 if there isn't any season
+         */
+        private final int startYear;
+
+        /**
+         * Ending year - 0 if there isn't any season
+         */
+        private final int endYear;
+
+        /**
+         * Creates a new instance of Aggregate.
+         *
+         * @param seasonsCount  count of seasons
+         * @param episodesCount count of episodes
+         * @param length        total length
+         * @param startYear     starting year
+         * @param endYear       ending year
+         */
+        Aggregate(final int seasonsCount, final int episodesCount, final int length, final int startYear, final int endYear) {
+            this.seasonsCount = seasonsCount;
+            this.episodesCount = episodesCount;
+            this.length = length;
+            this.startYear = startYear;
+            this.endYear = endYear;
+        }
+
+        /**
+         * Returns count of seasons.
+         *
+         * @return count of seasons
+         */
+        public int getSeasonsCount() {
+            return seasonsCount;
+        }
+
+        /**
+         * Returns count of episodes.
+         *
+         * @return count of episodes
+         */
+        public int getEpisodesCount() {
+            return episodesCount;
+        }
+
+        /**
+         * Returns total length.
+         *
+         * @return total length
+         */
+        public int getLength() {
+            return length;
+        }
+
+        /**
+         * Returns starting year.
+         *
+         * @return starting year
+         */
+        public int getStartYear() {
+            return startYear;
+        }
+
+        /**
+         * Returns ending year.
+         *
+         * @return ending year
+         */
+        public int getEndYear() {
+            return endYear;
+        }
+
+    }
+
+}
@@ -0,0 +1,362 @@
+package cz.vhromada.catalog.generator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import cz.vhromada.catalog.SwingApplication;
+import cz.vhromada.catalog.entity.Episode;
+import cz.vhromada.catalog.entity.Genre;
+import cz.vhromada.catalog.entity.Movie;
+import cz.vhromada.catalog.entity.Music;
+import cz.vhromada.catalog.entity.Picture;
+import cz.vhromada.catalog.entity.Season;
+import cz.vhromada.catalog.entity.Show;
+import cz.vhromada.catalog.entity.Song;
+import cz.vhromada.catalog.facade.EpisodeFacade;
+import cz.vhromada.catalog.facade.GameFacade;
+import cz.vhromada.catalog.facade.GenreFacade;
+import cz.vhromada.catalog.facade.MovieFacade;
+import cz.vhromada.catalog.facade.MusicFacade;
+import cz.vhromada.catalog.facade.PictureFacade;
+import cz.vhromada.catalog.facade.ProgramFacade;
+import cz.vhromada.catalog.facade.SeasonFacade;
+import cz.vhromada.catalog.facade.ShowFacade;
+import cz.vhromada.catalog.facade.SongFacade;
+import cz.vhromada.validation.result.Result;
+import cz.vhromada.validation.result.Status;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+/**
+ * A class represents generator of catalog with synthetic data for scale testing.
+ * <p>
+ * Catalog <code>db/Catalog.mv.db</code> is copied to new directory, so generated catalog has same schema, and its data are replaced by
+ * synthetic data without GUI. Data are added by facades in transactions with {@value #BATCH_SIZE} data, so inserts are sent to database in
+ * JDBC batches. Data are generated with fixed seed, so same arguments generate same catalog.
+ * <p>
+ * Arguments are directory of generated catalog and count of movies (default {@value #DEFAULT_MOVIES_COUNT}). Catalog has 1 show for each
+ * 5 movies with 1 to 10 seasons with 6 to 24 episodes, 1 music for each 5 movies with 8 to 16 songs, 1 game for each 5 movies, 1 program for
+ * each 10 movies, {@value #GENRES_COUNT} genres and 1 placeholder picture for each 10 movies (at most {@value #MAX_PICTURES_COUNT}), which
+ * are used by half of movies and shows.
+ *
+ * @author Vladimir Hromada
+ */
+//CHECKSTYLE.OFF: ClassDataAbstractionCoupling
+//CHECKSTYLE.OFF: ClassFanOutComplexity
+public final class CatalogGenerator {
+
+    /**
+     * Logger
+     */
+    private static final Logger logger = LoggerFactory.getLogger(CatalogGenerator.class);
+
+    /**
+     * Copied catalog
+     */
+    private static final Path TEMPLATE = Paths.get("db", "Catalog.mv.db");
+
+    /**
+     * Name of catalog
+     */
+    private static final String CATALOG_NAME = "Catalog";
+
+    /**
+     * Count of data added in one transaction
+     */
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * Default count of movies
+     */
+    private static final int DEFAULT_MOVIES_COUNT = 10000;
+
+    /**
+     * Count of genres
+     */
+    private static final int GENRES_COUNT = 30;
+
+    /**
+     * Maximal count of pictures
+     */
+    private static final int MAX_PICTURES_COUNT = 100;
+
+    /**
+     * Width of pictures
+     */
+    private static final int PICTURE_WIDTH = 200;
+
+    /**
+     * Height of pictures
+     */
+    private static final int PICTURE_HEIGHT = 180;
+
+    /**
+     * Error message for result with error
+     */
+    private static final String RESULT_WITH_ERROR_MESSAGE = "Can't get data. ";
+
+    /**
+     * Application context
+     */
+    private final ConfigurableApplicationContext context;
+
+    /**
+     * Template for transactions
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Generator of synthetic data
+     */
+    private final SyntheticCatalog catalog = new SyntheticCatalog(false);
+
+    /**
+     * Adding of data waiting for transaction
+     */
+    private final List<Supplier<Result<Void>>> batch = new ArrayList<>(BATCH_SIZE);
+
+    /**
+     * Creates a new instance of CatalogGenerator.
+     *
+     * @param context application context
+     * @throws IllegalArgumentException if application context is null
+     */
+    public CatalogGenerator(final ConfigurableApplicationContext context) {
+        Assert.notNull(context, "Application context mustn't be null.");
+
+        this.context = context;
+        this.transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    /**
+     * Main method.
+     *
+     * @param args the command line arguments
+     */
+    //CHECKSTYLE.OFF: UncommentedMain
+    public static void main(final String... args) {
+        if (args.length < 1 || args.length > 2) {
+            logger.error("Usage: CatalogGenerator directory [count of movies]");
+            System.exit(1);
+        }
+
+        final Path directory = Paths.get(args[0]).toAbsolutePath();
+        final int moviesCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MOVIES_COUNT;
+        final Path database = directory.resolve(TEMPLATE.getFileName());
+        if (Files.exists(database)) {
+            logger.error("Catalog {} already exists.", database);
+            System.exit(1);
+        }
+
+        try {
+            Files.createDirectories(directory);
+            Files.copy(TEMPLATE, database);
+        } catch (final IOException ex) {
+            logger.error("Can't copy catalog.", ex);
+            System.exit(1);
+        }
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SwingApplication.class).headless(true)
+            .run("--spring.datasource.url=jdbc:h2:" + directory.resolve(CATALOG_NAME) + ";CIPHER=AES",
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + BATCH_SIZE,
+                "--spring.jpa.properties.hibernate.order_inserts=true")) {
+            new CatalogGenerator(context).generate(moviesCount);
+        }
+    }
+    //CHECKSTYLE.ON: UncommentedMain
+
+    /**
+     * Replaces data in catalog by synthetic data.
+     *
+     * @param moviesCount count of movies
+     * @throws IllegalArgumentException if count of movies is negative
+     */
+    public void generate(final int moviesCount) {
+        Assert.isTrue(moviesCount >= 0, "Count of movies mustn't be negative.");
+
+        final long start = System.currentTimeMillis();
+        newData();
+
+        final PictureFacade pictureFacade = context.getBean(PictureFacade.class);
+        for (final Picture picture : catalog.pictures(Math.min(moviesCount / 10, MAX_PICTURES_COUNT), PICTURE_WIDTH, PICTURE_HEIGHT)) {
+            add(() -> pictureFacade.add(picture));
+        }
+        flush();
+        final List<Integer> pictures = new ArrayList<>();
+        for (final Picture picture : getData(pictureFacade.getAll())) {
+            pictures.add(picture.getId());
+        }
+
+        final GenreFacade genreFacade = context.getBean(GenreFacade.class);
+        catalog.genres(GENRES_COUNT).forEach(genre -> add(() -> genreFacade.add(genre)));
+        flush();
+        final List<Genre> genres = getData(genreFacade.getAll());
+
+        final MovieFacade movieFacade = context.getBean(MovieFacade.class);
+        final List<Movie> movies = catalog.movies(moviesCount, genres);
+        for (int i = 0; i < movies.size(); i++) {
+            final Movie movie = movies.get(i);
+            movie.setPicture(getPicture(pictures, i));
+            add(() -> movieFacade.add(movie));
+        }
+        flush();
+        logger.info("Generated {} movies.", moviesCount);
+
+        generateShows(moviesCount / 5, genres, pictures);
+        generateMusic(moviesCount / 5);
+
+        final GameFacade gameFacade = context.getBean(GameFacade.class);
+        catalog.games(moviesCount / 5).forEach(game -> add(() -> gameFacade.add(game)));
+        final ProgramFacade programFacade = context.getBean(ProgramFacade.class);
+        catalog.programs(moviesCount / 10).forEach(program -> add(() -> programFacade.add(program)));
+        flush();
+
+        logger.info("Catalog generated in {} ms.", System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Generates shows with seasons and episodes.
+     *
+     * @param count    count of shows
+     * @param genres   genres
+     * @param pictures IDs of pictures
+     */
+    private void generateShows(final int count, final List<Genre> genres, final List<Integer> pictures) {
+        final ShowFacade showFacade = context.getBean(ShowFacade.class);
+        final SeasonFacade seasonFacade = context.getBean(SeasonFacade.class);
+        final EpisodeFacade episodeFacade = context.getBean(EpisodeFacade.class);
+
+        final List<Show> generatedShows = catalog.shows(count, genres);
+        for (int i = 0; i < generatedShows.size(); i++) {
+            final Show show = generatedShows.get(i);
+            show.setPicture(getPicture(pictures, i));
+            add(() -> showFacade.add(show));
+        }
+        flush();
+
+        final List<Show> shows = getData(showFacade.getAll());
+        for (final Show show : shows) {
+            catalog.seasons(catalog.count(1, 10)).forEach(season -> add(() -> seasonFacade.add(show, season)));
+        }
+        flush();
+
+        int episodesCount = 0;
+        for (final Show show : shows) {
+            for (final Season season : getData(seasonFacade.find(show))) {
+                final List<Episode> episodes = catalog.episodes(catalog.count(6, 24));
+                episodes.forEach(episode -> add(() -> episodeFacade.add(season, episode)));
+                episodesCount += episodes.size();
+            }
+        }
+        flush();
+        logger.info("Generated {} shows with {} episodes.", count, episodesCount);
+    }
+
+    /**
+     * Generates music with songs.
+     *
+     * @param count count of music
+     */
+    private void generateMusic(final int count) {
+        final MusicFacade musicFacade = context.getBean(MusicFacade.class);
+        final SongFacade songFacade = context.getBean(SongFacade.class);
+
+        catalog.music(count).forEach(music -> add(() -> musicFacade.add(music)));
+        flush();
+
+        int songsCount = 0;
+        for (final Music music : getData(musicFacade.getAll())) {
+            final List<Song> songs = catalog.songs(catalog.count(8, 16));
+            songs.forEach(song -> add(() -> songFacade.add(music, song)));
+            songsCount += songs.size();
+        }
+        flush();
+        logger.info("Generated {} music with {} songs.", count, songsCount);
+    }
+
+    /**
+     * Removes all data from catalog.
+     */
+    private void newData() {
+        context.getBean(MovieFacade.class).newData();
+        context.getBean(ShowFacade.class).newData();
+        context.getBean(MusicFacade.class).newData();
+        context.getBean(GameFacade.class).newData();
+        context.getBean(ProgramFacade.class).newData();
+        context.getBean(GenreFacade.class).newData();
+        context.getBean(PictureFacade.class).newData();
+    }
+
+    /**
+     * Adds adding of data to batch. Full batch is added in one transaction.
+     *
+     * @param adding adding of data
+     */
+    private void add(final Supplier<Result<Void>> adding) {
+        batch.add(adding);
+        if (batch.size() >= BATCH_SIZE) {
+            flush();
+        }
+    }
+
+    /**
+     * Adds data from batch in one transaction.
+     */
+    private void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        transactionTemplate.execute(status -> {
+            for (final Supplier<Result<Void>> adding : batch) {
+                final Result<Void> result = adding.get();
+                if (Status.OK != result.getStatus()) {
+                    throw new IllegalArgumentException("Can't add data. " + result);
+                }
+            }
+            return null;
+        });
+        batch.clear();
+    }
+
+    /**
+     * Returns ID of picture for each second data.
+     *
+     * @param pictures IDs of pictures
+     * @param index    index of data
+     * @return ID of picture or null if data are without picture
+     */
+    private static Integer getPicture(final List<Integer> pictures, final int index) {
+        return pictures.isEmpty() || index % 2 != 0 ? null : pictures.get(index / 2 % pictures.size());
+    }
+
+    /**
+     * Returns data from result.
+     *
+     * @param result result
+     * @param <T>    type of data
+     * @return data from result
+     * @throws IllegalArgumentException if result has error
+     */
+    private static <T> T getData(final Result<T> result) {
+        if (Status.OK == result.getStatus()) {
+            return result.getData();
+        } else {
+            throw new IllegalArgumentException(RESULT_WITH_ERROR_MESSAGE + result);
+        }
+    }
+
+}
+//CHECKSTYLE.ON: ClassFanOutComplexity
+//CHECKSTYLE.ON: ClassDataAbstractionCoupling
@@ -0,0 +1,419 @@
+package cz.vhromada.catalog.generator;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+import cz.vhromada.catalog.entity.Episode;
+import cz.vhromada.catalog.entity.Game;
+import cz.vhromada.catalog.entity.Genre;
+import cz.vhromada.catalog.entity.Medium;
+import cz.vhromada.catalog.entity.Movie;
+import cz.vhromada.catalog.entity.Music;
+import cz.vhromada.catalog.entity.Picture;
+import cz.vhromada.catalog.entity.Program;
+import cz.vhromada.catalog.entity.Season;
+import cz.vhromada.catalog.entity.Show;
+import cz.vhromada.catalog.entity.Song;
+import cz.vhromada.common.Language;
+
+/**
+ * A class represents generator of synthetic data for benchmarks and for generated catalogs.
+ * <p>
+ * Data are generated from random generator with fixed seed, so same calls return same data. Names contain czech diacritics, so they are
+ * normalized same as real names. Data have IDs (e.g. for facades returning data from memory) or they are without IDs for adding to facades.
+ *
+ * @author Vladimir Hromada
+ */
+public final class SyntheticCatalog {
+
+    /**
+     * Seed of random generator
+     */
+    public static final long SEED = 42L;
+
+    /**
+     * Syllables of names
+     */
+    private static final String[] SYLLABLES = { "ča", "ko", "ře", "ma", "tý", "lu", "še", "no", "vě", "di", "ží", "ra", "bo", "ně", "st" };
+
+    /**
+     * Random generator
+     */
+    private final Random random = new Random(SEED);
+
+    /**
+     * True if data have IDs
+     */
+    private final boolean ids;
+
+    /**
+     * Creates a new instance of SyntheticCatalog with data with IDs.
+     */
+    public SyntheticCatalog() {
+        this(true);
+    }
+
+    /**
+     * Creates a new instance of SyntheticCatalog.
+     *
+     * @param ids true if data have IDs
+     */
+    public SyntheticCatalog(final boolean ids) {
+        this.ids = ids;
+    }
+
+    /**
+     * Returns random count of nested data.
+     *
+     * @param min minimal count
+     * @param max maximal count
+     * @return random count of nested data
+     */
+    public int count(final int min, final int max) {
+        return min + random.nextInt(max - min + 1);
+    }
+
+    /**
+     * Returns genres.
+     *
+     * @param count count of genres
+     * @return genres
+     */
+    public List<Genre> genres(final int count) {
+        final List<Genre> genres = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final Genre genre = new Genre();
+            genre.setId(getId(i));
+            genre.setPosition(i);
+            genre.setName(name(2));
+            genres.add(genre);
+        }
+
+        return genres;
+    }
+
+    /**
+     * Returns movies with 1 to 3 media and 1 to 3 genres.
+     *
+     * @param count  count of movies
+     * @param genres genres
+     * @return movies
+     */
+    public List<Movie> movies(final int count, final List<Genre> genres) {
+        final List<Movie> movies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final List<Medium> media = new ArrayList<>();
+            for (int j = random.nextInt(3); j >= 0; j--) {
+                final Medium medium = new Medium();
+                medium.setNumber(media.size() + 1);
+                medium.setLength(3600 + random.nextInt(3600));
+                media.add(medium);
+            }
+
+            final Movie movie = new Movie();
+            movie.setId(getId(i));
+            movie.setPosition(i);
+            movie.setCzechName(name(3));
+            movie.setOriginalName(name(3));
+            movie.setYear(1950 + random.nextInt(70));
+            movie.setLanguage(Language.CZ);
+            movie.setSubtitles(subtitles());
+            movie.setMedia(media);
+            movie.setCsfd("");
+            movie.setImdbCode(-1);
+            movie.setWikiCz("");
+            movie.setWikiEn("");
+            movie.setNote(name(4));
+            movie.setGenres(genres(genres));
+            movies.add(movie);
+        }
+
+        return movies;
+    }
+
+    /**
+     * Returns shows with 1 to 3 genres.
+     *
+     * @param count  count of shows
+     * @param genres genres
+     * @return shows
+     */
+    public List<Show> shows(final int count, final List<Genre> genres) {
+        final List<Show> shows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final Show show = new Show();
+            show.setId(getId(i));
+            show.setPosition(i);
+            show.setCzechName(name(3));
+            show.setOriginalName(name(3));
+            show.setCsfd("");
+            show.setImdbCode(-1);
+            show.setWikiCz("");
+            show.setWikiEn("");
+            show.setNote(name(4));
+            show.setGenres(genres(genres));
+            shows.add(show);
+        }
+
+        return shows;
+    }
+
+    /**
+     * Returns seasons.
+     *
+     * @param count count of seasons
+     * @return seasons
+     */
+    public List<Season> seasons(final int count) {
+        final List<Season> seasons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final int startYear = 1950 + random.nextInt(70);
+            final Season season = new Season();
+            season.setId(getId(i));
+            season.setPosition(i);
+            season.setNumber(i + 1);
+            season.setStartYear(startYear);
+            season.setEndYear(startYear + random.nextInt(2));
+            season.setLanguage(Language.EN);
+            season.setSubtitles(subtitles());
+            season.setNote(name(4));
+            seasons.add(season);
+        }
+
+        return seasons;
+    }
+
+    /**
+     * Returns episodes.
+     *
+     * @param count count of episodes
+     * @return episodes
+     */
+    public List<Episode> episodes(final int count) {
+        final List<Episode> episodes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final Episode episode = new Episode();
+            episode.setId(getId(i));
+            episode.setPosition(i);
+            episode.setNumber(i + 1);
+            episode.setName(name(3));
+            episode.setLength(1200 + random.nextInt(2400));
+            episode.setNote(name(4));
+            episodes.add(episode);
+        }
+
+        return episodes;
+    }
+
+    /**
+     * Returns music.
+     *
+     * @param count count of music
+     * @return music
+     */
+    public List<Music> music(final int count) {
+        final List<Music> music = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final Music musicData = new Music();
+            musicData.setId(getId(i));
+            musicData.setPosition(i);
+            musicData.setName(name(3));
+            musicData.setWikiCz("");
+            musicData.setWikiEn("");
+            musicData.setMediaCount(1 + random.nextInt(3));
+            musicData.setNote(name(4));
+            music.add(musicData);
+        }
+
+        return music;
+    }
+
+    /**
+     * Returns songs.
+     *
+     * @param count count of songs
+     * @return songs
+     */
+    public List<Song> songs(final int count) {
+        final List<Song> songs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final Song song = new Song();
+            song.setId(getId(i));
+            song.setPosition(i);
+            song.setName(name(3));
+            song.setLength(120 + random.nextInt(300));
+            song.setNote(name(4));
+            songs.add(song);
+        }
+
+        return songs;
+    }
+
+    /**
+     * Returns games.
+     *
+     * @param count count of games
+     * @return games
+     */
+    public List<Game> games(final int count) {
+        final List<Game> games = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final Game game = new Game();
+            game.setId(getId(i));
+            game.setPosition(i);
+            game.setName(name(3));
+            game.setWikiCz("");
+            game.setWikiEn("");
+            game.setMediaCount(1 + random.nextInt(3));
+            game.setOtherData("");
+            game.setNote(name(4));
+            games.add(game);
+        }
+
+        return games;
+    }
+
+    /**
+     * Returns programs.
+     *
+     * @param count count of programs
+     * @return programs
+     */
+    public List<Program> programs(final int count) {
+        final List<Program> programs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final Program program = new Program();
+            program.setId(getId(i));
+            program.setPosition(i);
+            program.setName(name(3));
+            program.setWikiCz("");
+            program.setWikiEn("");
+            program.setMediaCount(1 + random.nextInt(3));
+            program.setOtherData("");
+            program.setNote(name(4));
+            programs.add(program);
+        }
+
+        return programs;
+    }
+
+    /**
+     * Returns placeholder pictures.
+     *
+     * @param count  count of pictures
+     * @param width  width of pictures
+     * @param height height of pictures
+     * @return placeholder pictures
+     */
+    public List<Picture> pictures(final int count, final int width, final int height) {
+        final List<Picture> pictures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final Picture picture = new Picture();
+            picture.setId(getId(i));
+            picture.setPosition(i);
+            picture.setContent(jpeg(width, height));
+            pictures.add(picture);
+        }
+
+        return pictures;
+    }
+
+    /**
+     * Returns content of JPEG picture with gradient and noise, so it is compressed similarly as photo.
+     *
+     * @param width  width of picture
+     * @param height height of picture
+     * @return content of JPEG picture
+     */
+    public byte[] jpeg(final int width, final int height) {
+        final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        final Graphics2D graphics = image.createGraphics();
+        graphics.setPaint(new GradientPaint(0, 0, Color.BLUE, width, height, Color.ORANGE));
+        graphics.fillRect(0, 0, width, height);
+        graphics.dispose();
+        for (int i = width * height / 10; i > 0; i--) {
+            image.setRGB(random.nextInt(width), random.nextInt(height), random.nextInt());
+        }
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "jpg", output);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Can't create picture.", ex);
+        }
+
+        return output.toByteArray();
+    }
+
+    /**
+     * Returns ID of data.
+     *
+     * @param index index of data
+     * @return ID of data or null if data are without IDs
+     */
+    private Integer getId(final int index) {
+        return ids ? index + 1 : null;
+    }
+
+    /**
+     * Returns name composed from words with random syllables.
+     *
+     * @param words count of words
+     * @return name composed from words with random syllables
+     */
+    private String name(final int words) {
+        final StringBuilder name = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                name.append(' ');
+            }
+            for (int j = 2 + random.nextInt(3); j > 0; j--) {
+                name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+        }
+        name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+
+        return name.toString();
+    }
+
+    /**
+     * Returns 1 to 3 random genres.
+     *
+     * @param genres genres
+     * @return random genres
+     */
+    private List<Genre> genres(final List<Genre> genres) {
+        if (genres.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final List<Genre> result = new ArrayList<>();
+        for (int i = random.nextInt(3); i >= 0; i--) {
+            result.add(genres.get(random.nextInt(genres.size())));
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns random subtitles.
+     *
+     * @return random subtitles
+     */
+    private List<Language> subtitles() {
+        return random.nextBoolean() ? Arrays.asList(Language.CZ, Language.EN) : Collections.singletonList(Language.CZ);
+    }
+
+}
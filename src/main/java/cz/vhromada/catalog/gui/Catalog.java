@@ -4,6 +4,12 @@ import java.awt.event.InputEvent;
 import java.awt.event.KeyEvent;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
 
 import javax.swing.GroupLayout;
 import javax.swing.JFrame;
@@ -11,11 +17,15 @@ import javax.swing.JMenu;
 import javax.swing.JMenuBar;
 import javax.swing.JMenuItem;
 import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.JProgressBar;
 import javax.swing.JTabbedPane;
 import javax.swing.KeyStroke;
 import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
 import javax.swing.WindowConstants;
 
+import cz.vhromada.catalog.cache.FacadeCache;
 import cz.vhromada.catalog.facade.EpisodeFacade;
 import cz.vhromada.catalog.facade.GameFacade;
 import cz.vhromada.catalog.facade.GenreFacade;
@@ -26,7 +36,9 @@ import cz.vhromada.catalog.facade.ProgramFacade;
 import cz.vhromada.catalog.facade.SeasonFacade;
 import cz.vhromada.catalog.facade.ShowFacade;
 import cz.vhromada.catalog.facade.SongFacade;
+import cz.vhromada.catalog.gui.common.AbstractOverviewDataPanel;
 import cz.vhromada.catalog.gui.common.Picture;
+import cz.vhromada.catalog.gui.common.PictureCache;
 import cz.vhromada.catalog.gui.game.GamesPanel;
 import cz.vhromada.catalog.gui.genre.GenresPanel;
 import cz.vhromada.catalog.gui.movie.MoviesPanel;
@@ -34,12 +46,24 @@ import cz.vhromada.catalog.gui.music.MusicPanel;
 import cz.vhromada.catalog.gui.picture.PicturesPanel;
 import cz.vhromada.catalog.gui.program.ProgramsPanel;
 import cz.vhromada.catalog.gui.show.ShowsPanel;
-
+import cz.vhromada.catalog.monitoring.CatalogHealth;
+import cz.vhromada.catalog.monitoring.FacadeMetrics;
+import cz.vhromada.catalog.monitoring.StartupTimeline;
+import cz.vhromada.catalog.search.SearchHit;
+import cz.vhromada.catalog.search.SearchIndex;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.util.Assert;
 
 /**
  * A class represents catalog.
+ * <p>
+ * Only tabs with changed data are saved. Data are saved in background thread and progress is shown under tabs. Data can be changed during
+ * saving - changes of data wait for finishing of change made by saving and tabs changed again are saved after saving is finished. Tabs are
+ * marked as saved only after their saving is finished successfully. Closing of catalog waits for finishing of saving without blocking of
+ * event dispatch thread.
  *
  * @author Vladimir Hromada
  */
@@ -51,6 +75,11 @@ public final class Catalog extends JFrame {
      */
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Logger
+     */
+    private static final Logger logger = LoggerFactory.getLogger(Catalog.class);
+
     /**
      * Horizontal component size
      */
@@ -86,6 +115,11 @@ public final class Catalog extends JFrame {
      */
     private final JMenuItem saveMenuItem = new JMenuItem("Save", Picture.SAVE.getIcon());
 
+    /**
+     * Menu item search
+     */
+    private final JMenuItem searchMenuItem = new JMenuItem("Search", Picture.CHOOSE.getIcon());
+
     /**
      * Menu item selector
      */
@@ -107,44 +141,39 @@ public final class Catalog extends JFrame {
     private final JMenuItem aboutMenuItem = new JMenuItem("About", Picture.ABOUT.getIcon());
 
     /**
-     * Tabbed pane
-     */
-    private final JTabbedPane tabbedPane = new JTabbedPane();
-
-    /**
-     * Panel for movies
+     * Menu item diagnostics
      */
-    private final MoviesPanel moviesPanel;
+    private final JMenuItem diagnosticsMenuItem = new JMenuItem("Diagnostics");
 
     /**
-     * Panel for shows
+     * Tabbed pane
      */
-    private final ShowsPanel showsPanel;
+    private final JTabbedPane tabbedPane = new JTabbedPane();
 
     /**
-     * Panel for games
+     * Panels in tabs which have been already opened
      */
-    private final GamesPanel gamesPanel;
+    private final Map<Tab, AbstractOverviewDataPanel<?>> panels = new EnumMap<>(Tab.class);
 
     /**
-     * Panel for music
+     * Progress bar shown while data are saving
      */
-    private final MusicPanel musicPanel;
+    private final JProgressBar saveProgressBar = new JProgressBar();
 
     /**
-     * Panel for programs
+     * Tabs waiting for saving with count of changes of their data
      */
-    private final ProgramsPanel programsPanel;
+    private final Map<Tab, Long> unsavedTabs = new EnumMap<>(Tab.class);
 
     /**
-     * Panel for genres
+     * Worker for saving data - null if no data are saving
      */
-    private final GenresPanel genresPanel;
+    private SaveWorker saveWorker;
 
     /**
-     * Panel for pictures
+     * Action performed after form is closed - null if form isn't closing
      */
-    private final PicturesPanel picturesPanel;
+    private Runnable closeAction;
 
     /**
      * Facade for movies
@@ -181,6 +210,31 @@ public final class Catalog extends JFrame {
      */
     private PictureFacade pictureFacade;
 
+    /**
+     * Cache for pictures
+     */
+    private PictureCache pictureCache;
+
+    /**
+     * Cache for facades
+     */
+    private FacadeCache facadeCache;
+
+    /**
+     * Metrics of calls of facades
+     */
+    private FacadeMetrics facadeMetrics;
+
+    /**
+     * MBean with health of catalog
+     */
+    private CatalogHealth catalogHealth;
+
+    /**
+     * Index for searching
+     */
+    private SearchIndex searchIndex;
+
     /**
      * Creates a new instance Catalog.
      *
@@ -190,7 +244,7 @@ public final class Catalog extends JFrame {
     public Catalog(final ConfigurableApplicationContext context) {
         Assert.notNull(context, "Application context mustn't be null.");
 
-        setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
+        setDefaultCloseOperation(WindowConstants.DO_NOTHING_ON_CLOSE);
         setTitle("Catalog");
         setIconImage(Picture.CATALOG.getIcon().getImage());
 
@@ -203,13 +257,8 @@ public final class Catalog extends JFrame {
         aboutMenuItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_F1, 0));
         aboutMenuItem.addActionListener(e -> aboutAction());
 
-        moviesPanel = new MoviesPanel(movieFacade, genreFacade, pictureFacade);
-        showsPanel = new ShowsPanel(showFacade, context.getBean(SeasonFacade.class), context.getBean(EpisodeFacade.class), genreFacade, pictureFacade);
-        gamesPanel = new GamesPanel(gameFacade);
-        musicPanel = new MusicPanel(musicFacade, context.getBean(SongFacade.class));
-        programsPanel = new ProgramsPanel(programFacade);
-        genresPanel = new GenresPanel(genreFacade);
-        picturesPanel = new PicturesPanel(pictureFacade);
+        diagnosticsMenuItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_F1, InputEvent.CTRL_DOWN_MASK));
+        diagnosticsMenuItem.addActionListener(e -> diagnosticsAction());
 
         initTabbedPane();
 
@@ -217,16 +266,22 @@ public final class Catalog extends JFrame {
 
             @Override
             public void windowClosing(final WindowEvent e) {
-                closing();
+                exitAction();
             }
 
         });
 
+        saveProgressBar.setStringPainted(true);
+        saveProgressBar.setVisible(false);
+
         final GroupLayout layout = new GroupLayout(getContentPane());
         getContentPane().setLayout(layout);
-        layout.setHorizontalGroup(layout.createSequentialGroup().addComponent(tabbedPane, HORIZONTAL_COMPONENT_SIZE, HORIZONTAL_COMPONENT_SIZE,
-            Short.MAX_VALUE));
-        layout.setVerticalGroup(layout.createSequentialGroup().addComponent(tabbedPane, VERTICAL_COMPONENT_SIZE, VERTICAL_COMPONENT_SIZE, Short.MAX_VALUE));
+        layout.setHorizontalGroup(layout.createParallelGroup()
+            .addComponent(tabbedPane, HORIZONTAL_COMPONENT_SIZE, HORIZONTAL_COMPONENT_SIZE, Short.MAX_VALUE)
+            .addComponent(saveProgressBar, HORIZONTAL_COMPONENT_SIZE, HORIZONTAL_COMPONENT_SIZE, Short.MAX_VALUE));
+        layout.setVerticalGroup(layout.createSequentialGroup()
+            .addComponent(tabbedPane, VERTICAL_COMPONENT_SIZE, VERTICAL_COMPONENT_SIZE, Short.MAX_VALUE)
+            .addComponent(saveProgressBar, GroupLayout.PREFERRED_SIZE, GroupLayout.PREFERRED_SIZE, GroupLayout.PREFERRED_SIZE));
 
         pack();
         setLocationRelativeTo(getRootPane());
@@ -237,6 +292,7 @@ public final class Catalog extends JFrame {
      * Initializes facades.
      */
     private void initFacades() {
+        final long start = System.nanoTime();
         movieFacade = context.getBean(MovieFacade.class);
         showFacade = context.getBean(ShowFacade.class);
         gameFacade = context.getBean(GameFacade.class);
@@ -244,6 +300,17 @@ public final class Catalog extends JFrame {
         programFacade = context.getBean(ProgramFacade.class);
         genreFacade = context.getBean(GenreFacade.class);
         pictureFacade = context.getBean(PictureFacade.class);
+        pictureCache = new PictureCache(pictureFacade);
+        facadeCache = context.getBean(FacadeCache.class);
+        facadeMetrics = context.getBean(FacadeMetrics.class);
+        searchIndex = new SearchIndex(movieFacade, showFacade, context.getBean(SeasonFacade.class), context.getBean(EpisodeFacade.class), musicFacade,
+            context.getBean(SongFacade.class), gameFacade, programFacade);
+        facadeCache.addChangeListener(pictureCache);
+        facadeCache.addChangeListener(searchIndex);
+        searchIndex.build();
+        catalogHealth = new CatalogHealth(facadeMetrics, facadeCache, pictureCache);
+        catalogHealth.register();
+        StartupTimeline.record("Catalog.initFacades", start);
     }
 
     /**
@@ -253,8 +320,8 @@ public final class Catalog extends JFrame {
         menuBar.add(fileMenu);
         menuBar.add(helpMenu);
 
-        initMenu(fileMenu, newMenuItem, saveMenuItem, selectorMenuItem, exitMenuItem);
-        initMenu(helpMenu, aboutMenuItem);
+        initMenu(fileMenu, newMenuItem, saveMenuItem, searchMenuItem, selectorMenuItem, exitMenuItem);
+        initMenu(helpMenu, aboutMenuItem, diagnosticsMenuItem);
 
         setJMenuBar(menuBar);
     }
@@ -281,6 +348,9 @@ public final class Catalog extends JFrame {
         saveMenuItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_S, InputEvent.CTRL_DOWN_MASK));
         saveMenuItem.addActionListener(e -> saveAction());
 
+        searchMenuItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_F, InputEvent.CTRL_DOWN_MASK));
+        searchMenuItem.addActionListener(e -> searchAction());
+
         selectorMenuItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_A, InputEvent.CTRL_DOWN_MASK));
         selectorMenuItem.addActionListener(e -> selectorAction());
 
@@ -292,35 +362,112 @@ public final class Catalog extends JFrame {
      * Initializes tabbed pane.
      */
     private void initTabbedPane() {
-        tabbedPane.addTab("Movies", moviesPanel);
-        tabbedPane.addTab("Shows", showsPanel);
-        tabbedPane.addTab("Games", gamesPanel);
-        tabbedPane.addTab("Music", musicPanel);
-        tabbedPane.addTab("Programs", programsPanel);
-        tabbedPane.addTab("Genres", genresPanel);
-        tabbedPane.addTab("Pictures", picturesPanel);
+        for (final Tab tab : Tab.values()) {
+            tabbedPane.addTab(tab.getTitle(), new JPanel());
+        }
         tabbedPane.addChangeListener(e -> {
-            moviesPanel.clearSelection();
-            showsPanel.clearSelection();
-            gamesPanel.clearSelection();
-            musicPanel.clearSelection();
-            programsPanel.clearSelection();
-            genresPanel.clearSelection();
-            picturesPanel.clearSelection();
+            for (final AbstractOverviewDataPanel<?> panel : panels.values()) {
+                panel.clearSelection();
+            }
+            openTab(tabbedPane.getSelectedIndex());
         });
+        SwingUtilities.invokeLater(() -> openTab(tabbedPane.getSelectedIndex()));
+    }
+
+    /**
+     * Opens tab. If panel in tab haven't been created yet, then panel is created and replaces placeholder in tab.
+     *
+     * @param index index of tab
+     */
+    private void openTab(final int index) {
+        if (index < 0) {
+            return;
+        }
+
+        final Tab tab = Tab.values()[index];
+        if (!panels.containsKey(tab)) {
+            final long start = System.nanoTime();
+            final AbstractOverviewDataPanel<?> panel = createPanel(tab);
+            StartupTimeline.record(panel.getClass().getSimpleName() + " constructor", start);
+            panel.addPropertyChangeListener(AbstractOverviewDataPanel.SAVED_PROPERTY, e -> catalogHealth.setUnsavedTabs(getUnsavedTabs()));
+            panels.put(tab, panel);
+            tabbedPane.setComponentAt(index, panel);
+        }
+    }
+
+    /**
+     * Returns created panel for tab.
+     *
+     * @param tab tab
+     * @return created panel for tab
+     */
+    private AbstractOverviewDataPanel<?> createPanel(final Tab tab) {
+        switch (tab) {
+            case MOVIES:
+                return new MoviesPanel(movieFacade, genreFacade, pictureCache);
+            case SHOWS:
+                return new ShowsPanel(showFacade, context.getBean(SeasonFacade.class), context.getBean(EpisodeFacade.class), genreFacade,
+                    pictureCache);
+            case GAMES:
+                return new GamesPanel(gameFacade);
+            case MUSIC:
+                return new MusicPanel(musicFacade, context.getBean(SongFacade.class));
+            case PROGRAMS:
+                return new ProgramsPanel(programFacade);
+            case GENRES:
+                return new GenresPanel(genreFacade);
+            case PICTURES:
+                return new PicturesPanel(pictureFacade, pictureCache);
+            default:
+                throw new IndexOutOfBoundsException("Bad tab");
+        }
     }
 
     /**
      * Performs action for button New.
      */
     private void newAction() {
-        moviesPanel.newData();
-        showsPanel.newData();
-        gamesPanel.newData();
-        musicPanel.newData();
-        programsPanel.newData();
-        genresPanel.newData();
-        picturesPanel.newData();
+        for (final Tab tab : Tab.values()) {
+            final AbstractOverviewDataPanel<?> panel = panels.get(tab);
+            if (panel == null) {
+                deleteData(tab);
+            } else {
+                panel.newData();
+            }
+        }
+    }
+
+    /**
+     * Deletes data in tab which haven't been opened.
+     *
+     * @param tab tab
+     */
+    private void deleteData(final Tab tab) {
+        switch (tab) {
+            case MOVIES:
+                movieFacade.newData();
+                break;
+            case SHOWS:
+                showFacade.newData();
+                break;
+            case GAMES:
+                gameFacade.newData();
+                break;
+            case MUSIC:
+                musicFacade.newData();
+                break;
+            case PROGRAMS:
+                programFacade.newData();
+                break;
+            case GENRES:
+                genreFacade.newData();
+                break;
+            case PICTURES:
+                pictureFacade.newData();
+                break;
+            default:
+                throw new IndexOutOfBoundsException("Bad tab");
+        }
     }
 
     /**
@@ -330,22 +477,62 @@ public final class Catalog extends JFrame {
         save();
     }
 
+    /**
+     * Performs action for button Search.
+     */
+    private void searchAction() {
+        SwingUtilities.invokeLater(() -> {
+            final SearchDialog dialog = new SearchDialog(searchIndex);
+            dialog.setVisible(true);
+            final SearchHit hit = dialog.getHit();
+            if (hit != null) {
+                final Tab tab = getTab(hit.getType().getRoot());
+                tabbedPane.setSelectedIndex(tab.ordinal());
+                openTab(tab.ordinal());
+                panels.get(tab).selectData(hit.getPath());
+            }
+        });
+    }
+
+    /**
+     * Returns tab with data.
+     *
+     * @param type type of root data
+     * @return tab with data
+     */
+    private static Tab getTab(final SearchHit.Type type) {
+        switch (type) {
+            case MOVIE:
+                return Tab.MOVIES;
+            case SHOW:
+                return Tab.SHOWS;
+            case MUSIC:
+                return Tab.MUSIC;
+            case GAME:
+                return Tab.GAMES;
+            case PROGRAM:
+                return Tab.PROGRAMS;
+            default:
+                throw new IndexOutOfBoundsException("Bad type of data");
+        }
+    }
+
     /**
      * Performs action for button Selector.
      */
     private void selectorAction() {
-        closing();
-        SwingUtilities.invokeLater(() -> new Selector(context).setVisible(true));
-        setVisible(false);
-        dispose();
+        closing(() -> {
+            SwingUtilities.invokeLater(() -> new Selector(context).setVisible(true));
+            setVisible(false);
+            dispose();
+        });
     }
 
     /**
      * Performs action for button Exit.
      */
     private void exitAction() {
-        closing();
-        System.exit(0);
+        closing(() -> System.exit(0));
     }
 
     /**
@@ -356,55 +543,320 @@ public final class Catalog extends JFrame {
     }
 
     /**
-     * Closes form.
+     * Performs action for button Diagnostics.
+     */
+    private void diagnosticsAction() {
+        SwingUtilities.invokeLater(() -> new DiagnosticsDialog(facadeMetrics).setVisible(true));
+    }
+
+    /**
+     * Closes form. If data are saving, then form is disabled and it is closed after saving is finished, so event dispatch thread isn't blocked.
+     *
+     * @param action action performed after form is closed
      */
-    private void closing() {
-        final boolean saved = areMediaSaved() && areProgramsSaved() && genresPanel.isSaved();
-        if (!saved) {
+    private void closing(final Runnable action) {
+        if (closeAction != null) {
+            return;
+        }
+
+        if (!isSaved()) {
             final int returnStatus = JOptionPane.showConfirmDialog(this, "Save data?", "", JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE);
             if (returnStatus == JOptionPane.YES_OPTION) {
                 save();
             }
         }
+        closeAction = action;
+        setEnabled(false);
+        if (saveWorker == null) {
+            startSave();
+        }
+    }
+
+    /**
+     * Closes application context and performs action after form is closed.
+     */
+    private void close() {
+        final Runnable action = closeAction;
+        closeAction = null;
+        facadeCache.removeChangeListener(pictureCache);
+        facadeCache.removeChangeListener(searchIndex);
+        searchIndex.close();
+        catalogHealth.unregister();
         context.close();
+        action.run();
+    }
+
+    /**
+     * Returns true if data in all opened tabs are saved or they are waiting for saving.
+     *
+     * @return true if data in all opened tabs are saved or they are waiting for saving
+     */
+    private boolean isSaved() {
+        for (final Map.Entry<Tab, AbstractOverviewDataPanel<?>> panel : panels.entrySet()) {
+            if (!panel.getValue().isSaved() && !isSaving(panel.getKey(), panel.getValue().getChanges())) {
+                return false;
+            }
+        }
+
+        return true;
     }
 
     /**
-     * Returns true if media are saved.
+     * Returns true if data in tab with specified count of changes are waiting for saving or they are saving.
      *
-     * @return true if media are saved
+     * @param tab     tab
+     * @param changes count of changes of data
+     * @return true if data in tab with specified count of changes are waiting for saving or they are saving
      */
-    private boolean areMediaSaved() {
-        return moviesPanel.isSaved() && showsPanel.isSaved() && musicPanel.isSaved();
+    private boolean isSaving(final Tab tab, final long changes) {
+        final Long savingChanges = saveWorker == null ? null : saveWorker.changes.get(tab);
+        return Long.valueOf(changes).equals(unsavedTabs.get(tab)) || Long.valueOf(changes).equals(savingChanges);
     }
 
     /**
-     * Returns true if programs are saved.
+     * Returns titles of opened tabs with unsaved data.
      *
-     * @return true if programs are saved
+     * @return titles of opened tabs with unsaved data
      */
-    private boolean areProgramsSaved() {
-        return gamesPanel.isSaved() && programsPanel.isSaved();
+    private List<String> getUnsavedTabs() {
+        final List<String> result = new ArrayList<>();
+        for (final Map.Entry<Tab, AbstractOverviewDataPanel<?>> panel : panels.entrySet()) {
+            if (!panel.getValue().isSaved()) {
+                result.add(panel.getKey().getTitle());
+            }
+        }
+
+        return result;
     }
 
     /**
-     * Saves data.
+     * Saves data in opened tabs with changed data. Tabs, which are saving with same count of changes, aren't saved again. Panels are marked as
+     * saved after saving is finished, so changes made during saving remain unsaved.
      */
     private void save() {
-        movieFacade.updatePositions();
-        showFacade.updatePositions();
-        gameFacade.updatePositions();
-        musicFacade.updatePositions();
-        programFacade.updatePositions();
-        genreFacade.updatePositions();
-        pictureFacade.updatePositions();
-        moviesPanel.save();
-        showsPanel.save();
-        gamesPanel.save();
-        musicPanel.save();
-        programsPanel.save();
-        genresPanel.save();
-        picturesPanel.save();
+        for (final Map.Entry<Tab, AbstractOverviewDataPanel<?>> panel : panels.entrySet()) {
+            final long changes = panel.getValue().getChanges();
+            if (!panel.getValue().isSaved() && !isSaving(panel.getKey(), changes)) {
+                unsavedTabs.put(panel.getKey(), changes);
+            }
+        }
+        if (saveWorker == null) {
+            startSave();
+        }
+    }
+
+    /**
+     * Starts saving of tabs waiting for saving in background. If there aren't tabs waiting for saving and form is closing, then form is closed.
+     */
+    private void startSave() {
+        if (unsavedTabs.isEmpty()) {
+            if (closeAction != null) {
+                close();
+            }
+            return;
+        }
+
+        saveWorker = new SaveWorker(new EnumMap<>(unsavedTabs));
+        unsavedTabs.clear();
+        saveProgressBar.setMaximum(saveWorker.tabs.size());
+        saveProgressBar.setValue(0);
+        saveProgressBar.setString("Saving...");
+        saveProgressBar.setVisible(true);
+        saveWorker.execute();
+    }
+
+    /**
+     * Finishes saving. Saved panels are marked as saved and next tabs waiting for saving are saved. If saving failed, then error is shown, saved
+     * tabs are waiting for saving again and closing of form is cancelled, so catalog keeps running with unsaved data.
+     *
+     * @param worker worker for saving data
+     */
+    private void finishSave(final SaveWorker worker) {
+        saveWorker = null;
+        saveProgressBar.setVisible(false);
+        try {
+            worker.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            saveFailed(worker, ex);
+            return;
+        } catch (final ExecutionException ex) {
+            saveFailed(worker, ex.getCause());
+            return;
+        }
+        for (final Map.Entry<Tab, Long> tab : worker.changes.entrySet()) {
+            panels.get(tab.getKey()).save(tab.getValue());
+        }
+        catalogHealth.setLastSaveDuration(System.nanoTime() - worker.start);
+        startSave();
+    }
+
+    /**
+     * Returns tabs of failed saving to tabs waiting for saving, cancels closing of form and shows error.
+     *
+     * @param worker worker for saving data
+     * @param error  error of saving
+     */
+    private void saveFailed(final SaveWorker worker, final Throwable error) {
+        logger.error("Error in saving data.", error);
+        for (final Map.Entry<Tab, Long> tab : worker.changes.entrySet()) {
+            unsavedTabs.putIfAbsent(tab.getKey(), tab.getValue());
+        }
+        closeAction = null;
+        setEnabled(true);
+        JOptionPane.showMessageDialog(this, "Can't save data. Changed tabs remain unsaved.", "Error", JOptionPane.ERROR_MESSAGE);
+    }
+
+    /**
+     * Updates positions of data in tab.
+     *
+     * @param tab tab
+     */
+    private void updatePositions(final Tab tab) {
+        switch (tab) {
+            case MOVIES:
+                movieFacade.updatePositions();
+                break;
+            case SHOWS:
+                showFacade.updatePositions();
+                break;
+            case GAMES:
+                gameFacade.updatePositions();
+                break;
+            case MUSIC:
+                musicFacade.updatePositions();
+                break;
+            case PROGRAMS:
+                programFacade.updatePositions();
+                break;
+            case GENRES:
+                genreFacade.updatePositions();
+                break;
+            case PICTURES:
+                pictureFacade.updatePositions();
+                break;
+            default:
+                throw new IndexOutOfBoundsException("Bad tab");
+        }
+    }
+
+    /**
+     * A class represents worker for saving data.
+     */
+    private final class SaveWorker extends SwingWorker<Void, Integer> {
+
+        /**
+         * Saved tabs with count of changes of their data
+         */
+        private final Map<Tab, Long> changes;
+
+        /**
+         * Saved tabs
+         */
+        private final List<Tab> tabs;
+
+        /**
+         * Start of saving in nanoseconds
+         */
+        private final long start = System.nanoTime();
+
+        /**
+         * Creates a new instance of SaveWorker.
+         *
+         * @param changes saved tabs with count of changes of their data
+         */
+        SaveWorker(final Map<Tab, Long> changes) {
+            this.changes = changes;
+            this.tabs = new ArrayList<>(changes.keySet());
+        }
+
+        @Override
+        protected Void doInBackground() {
+            for (int i = 0; i < tabs.size(); i++) {
+                publish(i);
+                updatePositions(tabs.get(i));
+            }
+
+            return null;
+        }
+
+        @Override
+        protected void process(final List<Integer> chunks) {
+            final int index = chunks.get(chunks.size() - 1);
+            saveProgressBar.setValue(index);
+            saveProgressBar.setString("Saving " + tabs.get(index).getTitle().toLowerCase(Locale.ENGLISH) + "...");
+        }
+
+        @Override
+        protected void done() {
+            finishSave(this);
+        }
+
+    }
+
+    /**
+     * An enumeration represents tab in catalog.
+     */
+    private enum Tab {
+
+        /**
+         * Tab with movies
+         */
+        MOVIES("Movies"),
+
+        /**
+         * Tab with shows
+         */
+        SHOWS("Shows"),
+
+        /**
+         * Tab with games
+         */
+        GAMES("Games"),
+
+        /**
+         * Tab with music
+         */
+        MUSIC("Music"),
+
+        /**
+         * Tab with programs
+         */
+        PROGRAMS("Programs"),
+
+        /**
+         * Tab with genres
+         */
+        GENRES("Genres"),
+
+        /**
+         * Tab with pictures
+         */
+        PICTURES("Pictures");
+
+        /**
+         * Title
+         */
+        private final String title;
+
+        /**
+         * Creates a new instance of Tab.
+         *
+         * @param title title
+         */
+        Tab(final String title) {
+            this.title = title;
+        }
+
+        /**
+         * Returns title.
+         *
+         * @return title
+         */
+        public String getTitle() {
+            return title;
+        }
+
     }
 
 }
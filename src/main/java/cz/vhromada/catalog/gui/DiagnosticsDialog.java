@@ -0,0 +1,298 @@
+package cz.vhromada.catalog.gui;
+
+import java.awt.Font;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+import javax.swing.GroupLayout;
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.JFileChooser;
+import javax.swing.JFrame;
+import javax.swing.JScrollPane;
+import javax.swing.JTabbedPane;
+import javax.swing.JTable;
+import javax.swing.JTextArea;
+import javax.swing.WindowConstants;
+
+import cz.vhromada.catalog.gui.common.CatalogSwingConstants;
+import cz.vhromada.catalog.gui.common.Picture;
+import cz.vhromada.catalog.monitoring.EventQueueMonitor;
+import cz.vhromada.catalog.monitoring.FacadeMetrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+/**
+ * A class represents dialog with diagnostics - histogram of durations of events and last stalls with stacks of event dispatch thread and metrics
+ * of calls of facades, which can be exported to CSV.
+ *
+ * @author Vladimir Hromada
+ */
+//CHECKSTYLE.OFF: ClassDataAbstractionCoupling
+public final class DiagnosticsDialog extends JDialog {
+
+    /**
+     * SerialVersionUID
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Logger
+     */
+    private static final Logger logger = LoggerFactory.getLogger(DiagnosticsDialog.class);
+
+    /**
+     * Horizontal component size
+     */
+    private static final int HORIZONTAL_COMPONENT_SIZE = 700;
+
+    /**
+     * Horizontal button size
+     */
+    private static final int HORIZONTAL_BUTTON_SIZE = 96;
+
+    /**
+     * Horizontal button gap size
+     */
+    private static final int HORIZONTAL_BUTTON_GAP_SIZE = 256;
+
+    /**
+     * Horizontal buttons gap size
+     */
+    private static final int HORIZONTAL_BUTTONS_GAP_SIZE = 20;
+
+    /**
+     * Horizontal gap size
+     */
+    private static final int HORIZONTAL_GAP_SIZE = 20;
+
+    /**
+     * Vertical text size
+     */
+    private static final int VERTICAL_TEXT_SIZE = 500;
+
+    /**
+     * Vertical gap size
+     */
+    private static final int VERTICAL_GAP_SIZE = 20;
+
+    /**
+     * Font size
+     */
+    private static final int FONT_SIZE = 12;
+
+    /**
+     * Metrics of calls of facades
+     */
+    private final FacadeMetrics facadeMetrics;
+
+    /**
+     * Tabbed pane
+     */
+    private final JTabbedPane tabbedPane = new JTabbedPane();
+
+    /**
+     * Text area for diagnostics of event dispatch thread
+     */
+    private final JTextArea textArea = new JTextArea();
+
+    /**
+     * Data model for table with metrics of calls of facades
+     */
+    private final FacadeMetricsTableDataModel metricsTableDataModel = new FacadeMetricsTableDataModel();
+
+    /**
+     * Table with metrics of calls of facades
+     */
+    private final JTable metricsTable = new JTable(metricsTableDataModel);
+
+    /**
+     * Button Refresh
+     */
+    private final JButton refreshButton = new JButton("Refresh", Picture.UPDATE.getIcon());
+
+    /**
+     * Button Clear
+     */
+    private final JButton clearButton = new JButton("Clear", Picture.REMOVE.getIcon());
+
+    /**
+     * Button Export
+     */
+    private final JButton exportButton = new JButton("Export", Picture.SAVE.getIcon());
+
+    /**
+     * Button OK
+     */
+    private final JButton okButton = new JButton("OK", Picture.OK.getIcon());
+
+    /**
+     * Creates a new instance of DiagnosticsDialog.
+     *
+     * @param facadeMetrics metrics of calls of facades
+     * @throws IllegalArgumentException if metrics of calls of facades are null
+     */
+    public DiagnosticsDialog(final FacadeMetrics facadeMetrics) {
+        super(new JFrame(), "Diagnostics", true);
+
+        Assert.notNull(facadeMetrics, "Metrics of calls of facades mustn't be null.");
+
+        this.facadeMetrics = facadeMetrics;
+
+        setIconImage(Picture.ABOUT.getIcon().getImage());
+        setDefaultCloseOperation(WindowConstants.DISPOSE_ON_CLOSE);
+        setResizable(false);
+
+        textArea.setEditable(false);
+        textArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, FONT_SIZE));
+        metricsTable.setAutoCreateRowSorter(true);
+
+        tabbedPane.add("Event dispatch thread", new JScrollPane(textArea));
+        tabbedPane.add("Facades", new JScrollPane(metricsTable));
+
+        refreshButton.addActionListener(e -> refreshAction());
+
+        clearButton.addActionListener(e -> clearAction());
+
+        exportButton.addActionListener(e -> exportAction());
+
+        okButton.addActionListener(e -> {
+            setVisible(false);
+            dispose();
+        });
+
+        final GroupLayout layout = new GroupLayout(getContentPane());
+        getContentPane().setLayout(layout);
+        layout.setHorizontalGroup(createHorizontalLayout(layout));
+        layout.setVerticalGroup(createVerticalLayout(layout));
+
+        refreshAction();
+        okButton.requestFocusInWindow();
+        pack();
+        setLocationRelativeTo(getRootPane());
+    }
+
+    /**
+     * Performs action for button Refresh.
+     */
+    private void refreshAction() {
+        metricsTableDataModel.setMetrics(facadeMetrics.getCalledMetrics());
+
+        final EventQueueMonitor monitor = EventQueueMonitor.getInstance();
+        if (monitor == null) {
+            textArea.setText("Monitoring of event dispatch thread isn't installed.");
+            return;
+        }
+
+        final StringBuilder text = new StringBuilder();
+        text.append(String.format("Events: %d, stalls (at least %d ms): %d, maximal duration: %d ms%n%n", monitor.getEventsCount(),
+            monitor.getThreshold(), monitor.getStallsCount(), monitor.getMaxDuration()));
+
+        final long[] limits = EventQueueMonitor.getBucketLimits();
+        final long[] histogram = monitor.getHistogram();
+        final long eventsCount = Math.max(monitor.getEventsCount(), 1L);
+        for (int i = 0; i < histogram.length; i++) {
+            final String bucket = i < limits.length ? "< " + limits[i] + " ms" : ">= " + limits[limits.length - 1] + " ms";
+            text.append(String.format("%12s %10d %6.2f %%%n", bucket, histogram[i], 100.0 * histogram[i] / eventsCount));
+        }
+
+        final SimpleDateFormat format = new SimpleDateFormat("HH:mm:ss.SSS");
+        for (final EventQueueMonitor.Stall stall : monitor.getStalls()) {
+            text.append(String.format("%n%s %d ms %s", format.format(new Date(stall.getTime())), stall.getDuration(), stall.getEvent()));
+            text.append(stall.getStackTraceText()).append(System.lineSeparator());
+        }
+
+        textArea.setText(text.toString());
+        textArea.setCaretPosition(0);
+    }
+
+    /**
+     * Performs action for button Clear.
+     */
+    private void clearAction() {
+        final EventQueueMonitor monitor = EventQueueMonitor.getInstance();
+        if (monitor != null) {
+            monitor.clear();
+        }
+        facadeMetrics.clear();
+        refreshAction();
+    }
+
+    /**
+     * Performs action for button Export.
+     */
+    private void exportAction() {
+        final JFileChooser chooser = new JFileChooser();
+        chooser.setSelectedFile(new File("facades.csv"));
+        if (JFileChooser.APPROVE_OPTION == chooser.showSaveDialog(this)) {
+            final Path file = chooser.getSelectedFile().toPath();
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                facadeMetrics.writeCsv(writer);
+            } catch (final IOException ex) {
+                logger.error("Error in exporting metrics of facades to file {}.", file, ex);
+            }
+        }
+    }
+
+    /**
+     * Returns horizontal layout of components.
+     *
+     * @param layout layout
+     * @return horizontal layout of components
+     */
+    private GroupLayout.Group createHorizontalLayout(final GroupLayout layout) {
+        final GroupLayout.Group buttons = layout.createSequentialGroup()
+            .addGap(HORIZONTAL_BUTTON_GAP_SIZE)
+            .addComponent(refreshButton, HORIZONTAL_BUTTON_SIZE, HORIZONTAL_BUTTON_SIZE, HORIZONTAL_BUTTON_SIZE)
+            .addGap(HORIZONTAL_BUTTONS_GAP_SIZE)
+            .addComponent(clearButton, HORIZONTAL_BUTTON_SIZE, HORIZONTAL_BUTTON_SIZE, HORIZONTAL_BUTTON_SIZE)
+            .addGap(HORIZONTAL_BUTTONS_GAP_SIZE)
+            .addComponent(exportButton, HORIZONTAL_BUTTON_SIZE, HORIZONTAL_BUTTON_SIZE, HORIZONTAL_BUTTON_SIZE)
+            .addGap(HORIZONTAL_BUTTONS_GAP_SIZE)
+            .addComponent(okButton, HORIZONTAL_BUTTON_SIZE, HORIZONTAL_BUTTON_SIZE, HORIZONTAL_BUTTON_SIZE);
+
+        final GroupLayout.Group components = layout.createParallelGroup()
+            .addComponent(tabbedPane, HORIZONTAL_COMPONENT_SIZE, HORIZONTAL_COMPONENT_SIZE, HORIZONTAL_COMPONENT_SIZE)
+            .addGroup(buttons);
+
+        return layout.createSequentialGroup()
+            .addGap(HORIZONTAL_GAP_SIZE)
+            .addGroup(components)
+            .addGap(HORIZONTAL_GAP_SIZE);
+    }
+
+    /**
+     * Returns vertical layout of components.
+     *
+     * @param layout layout
+     * @return vertical layout of components
+     */
+    private GroupLayout.Group createVerticalLayout(final GroupLayout layout) {
+        final GroupLayout.Group buttons = layout.createParallelGroup()
+            .addComponent(refreshButton, CatalogSwingConstants.VERTICAL_BUTTON_SIZE, CatalogSwingConstants.VERTICAL_BUTTON_SIZE,
+                CatalogSwingConstants.VERTICAL_BUTTON_SIZE)
+            .addComponent(clearButton, CatalogSwingConstants.VERTICAL_BUTTON_SIZE, CatalogSwingConstants.VERTICAL_BUTTON_SIZE,
+                CatalogSwingConstants.VERTICAL_BUTTON_SIZE)
+            .addComponent(exportButton, CatalogSwingConstants.VERTICAL_BUTTON_SIZE, CatalogSwingConstants.VERTICAL_BUTTON_SIZE,
+                CatalogSwingConstants.VERTICAL_BUTTON_SIZE)
+            .addComponent(okButton, CatalogSwingConstants.VERTICAL_BUTTON_SIZE, CatalogSwingConstants.VERTICAL_BUTTON_SIZE,
+                CatalogSwingConstants.VERTICAL_BUTTON_SIZE);
+
+        return layout.createSequentialGroup()
+            .addGap(VERTICAL_GAP_SIZE)
+            .addComponent(tabbedPane, VERTICAL_TEXT_SIZE, VERTICAL_TEXT_SIZE, VERTICAL_TEXT_SIZE)
+            .addGap(VERTICAL_GAP_SIZE)
+            .addGroup(buttons)
+            .addGap(VERTICAL_GAP_SIZE);
+    }
+
+}
+//CHECKSTYLE.ON: ClassDataAbstractionCoupling
@@ -0,0 +1,106 @@
+package cz.vhromada.catalog.gui;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.table.AbstractTableModel;
+
+import cz.vhromada.catalog.monitoring.FacadeMetrics;
+import cz.vhromada.catalog.monitoring.MethodMetrics;
+
+import org.springframework.util.Assert;
+
+/**
+ * A class represents data model for table with metrics of calls of facades.
+ * <p>
+ * Values are computed, when metrics are set, so table shows consistent metrics until it is refreshed.
+ *
+ * @author Vladimir Hromada
+ */
+public final class FacadeMetricsTableDataModel extends AbstractTableModel {
+
+    /**
+     * SerialVersionUID
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Names of columns
+     */
+    private static final String[] COLUMNS = { "Facade", "Method", "Count", "Errors", "Total (ms)", "Mean (ms)", "p50 (ms)", "p90 (ms)", "p99 (ms)",
+        "Max (ms)" };
+
+    /**
+     * Count of columns with texts
+     */
+    private static final int TEXT_COLUMNS = 2;
+
+    /**
+     * Count of columns with counts
+     */
+    private static final int COUNT_COLUMNS = 4;
+
+    /**
+     * Rows
+     */
+    private final List<Object[]> rows = new ArrayList<>();
+
+    @Override
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(final int column) {
+        return COLUMNS[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(final int columnIndex) {
+        if (columnIndex < TEXT_COLUMNS) {
+            return String.class;
+        }
+
+        return columnIndex < COUNT_COLUMNS ? Long.class : Double.class;
+    }
+
+    @Override
+    public Object getValueAt(final int rowIndex, final int columnIndex) {
+        return rows.get(rowIndex)[columnIndex];
+    }
+
+    /**
+     * Sets metrics.
+     *
+     * @param metrics metrics of methods
+     * @throws IllegalArgumentException if metrics are null
+     */
+    public void setMetrics(final List<MethodMetrics> metrics) {
+        Assert.notNull(metrics, "Metrics mustn't be null.");
+
+        rows.clear();
+        for (final MethodMetrics methodMetrics : metrics) {
+            final double[] percentiles = methodMetrics.getPercentiles(FacadeMetrics.getPercentiles());
+            rows.add(new Object[] { methodMetrics.getFacade(), methodMetrics.getMethod(), methodMetrics.getCount(), methodMetrics.getErrors(),
+                round(methodMetrics.getTotalDuration()), round(methodMetrics.getMeanDuration()), round(percentiles[0]), round(percentiles[1]),
+                round(percentiles[2]), round(methodMetrics.getMaxDuration()) });
+        }
+        fireTableDataChanged();
+    }
+
+    /**
+     * Returns duration rounded to microseconds.
+     *
+     * @param duration duration in milliseconds
+     * @return duration rounded to microseconds
+     */
+    private static double round(final double duration) {
+        return Math.round(duration * 1000.0) / 1000.0;
+    }
+
+}
@@ -0,0 +1,323 @@
+package cz.vhromada.catalog.gui;
+
+import java.awt.Component;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.List;
+
+import javax.swing.DefaultListCellRenderer;
+import javax.swing.DefaultListModel;
+import javax.swing.GroupLayout;
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.JFrame;
+import javax.swing.JLabel;
+import javax.swing.JList;
+import javax.swing.JScrollPane;
+import javax.swing.JTextField;
+import javax.swing.ListSelectionModel;
+import javax.swing.WindowConstants;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+
+import cz.vhromada.catalog.gui.common.CatalogSwingConstants;
+import cz.vhromada.catalog.gui.common.Picture;
+import cz.vhromada.catalog.search.SearchHit;
+import cz.vhromada.catalog.search.SearchIndex;
+
+import org.springframework.util.Assert;
+
+/**
+ * A class represents dialog for searching in catalog.
+ *
+ * @author Vladimir Hromada
+ */
+public final class SearchDialog extends JDialog {
+
+    /**
+     * SerialVersionUID
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Maximal count of shown found data
+     */
+    private static final int MAX_HITS = 200;
+
+    /**
+     * Horizontal component size
+     */
+    private static final int HORIZONTAL_COMPONENT_SIZE = 500;
+
+    /**
+     * Horizontal button size
+     */
+    private static final int HORIZONTAL_BUTTON_SIZE = 96;
+
+    /**
+     * Horizontal button gap size
+     */
+    private static final int HORIZONTAL_BUTTON_GAP_SIZE = 288;
+
+    /**
+     * Horizontal buttons gap size
+     */
+    private static final int HORIZONTAL_BUTTONS_GAP_SIZE = 20;
+
+    /**
+     * Horizontal gap size
+     */
+    private static final int HORIZONTAL_GAP_SIZE = 20;
+
+    /**
+     * Vertical list size
+     */
+    private static final int VERTICAL_LIST_SIZE = 300;
+
+    /**
+     * Vertical gap size
+     */
+    private static final int VERTICAL_GAP_SIZE = 10;
+
+    /**
+     * Vertical long gap size
+     */
+    private static final int VERTICAL_LONG_GAP_SIZE = 20;
+
+    /**
+     * Index for searching
+     */
+    private final SearchIndex searchIndex;
+
+    /**
+     * Field for searched text
+     */
+    private final JTextField textField = new JTextField();
+
+    /**
+     * Data model for list with found data
+     */
+    private final DefaultListModel<SearchHit> hitsModel = new DefaultListModel<>();
+
+    /**
+     * List with found data
+     */
+    private final JList<SearchHit> hitsList = new JList<>(hitsModel);
+
+    /**
+     * ScrollPane for list with found data
+     */
+    private final JScrollPane hitsScrollPane = new JScrollPane(hitsList);
+
+    /**
+     * Label for state of searching
+     */
+    private final JLabel stateLabel = new JLabel();
+
+    /**
+     * Button OK
+     */
+    private final JButton okButton = new JButton("OK", Picture.OK.getIcon());
+
+    /**
+     * Button Cancel
+     */
+    private final JButton cancelButton = new JButton("Cancel", Picture.CANCEL.getIcon());
+
+    /**
+     * Chosen found data
+     */
+    private SearchHit hit;
+
+    /**
+     * Creates a new instance of SearchDialog.
+     *
+     * @param searchIndex index for searching
+     * @throws IllegalArgumentException if index for searching is null
+     */
+    public SearchDialog(final SearchIndex searchIndex) {
+        super(new JFrame(), "Search", true);
+
+        Assert.notNull(searchIndex, "Index for searching mustn't be null.");
+
+        this.searchIndex = searchIndex;
+        initComponents();
+        setIconImage(Picture.CATALOG.getIcon().getImage());
+    }
+
+    /**
+     * Returns chosen found data.
+     *
+     * @return chosen found data or null if no data were chosen
+     */
+    public SearchHit getHit() {
+        return hit;
+    }
+
+    /**
+     * Initializes components.
+     */
+    private void initComponents() {
+        setDefaultCloseOperation(WindowConstants.DISPOSE_ON_CLOSE);
+        setResizable(false);
+
+        textField.getDocument().addDocumentListener(new DocumentListener() {
+
+            @Override
+            public void insertUpdate(final DocumentEvent e) {
+                searchAction();
+            }
+
+            @Override
+            public void removeUpdate(final DocumentEvent e) {
+                searchAction();
+            }
+
+            @Override
+            public void changedUpdate(final DocumentEvent e) {
+                searchAction();
+            }
+
+        });
+        textField.addActionListener(e -> okAction());
+
+        hitsList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        hitsList.setCellRenderer(new DefaultListCellRenderer() {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public Component getListCellRendererComponent(final JList<?> list, final Object value, final int index, final boolean isSelected,
+                final boolean cellHasFocus) {
+                final SearchHit searchHit = (SearchHit) value;
+                return super.getListCellRendererComponent(list, searchHit.getType().getTitle() + ": " + searchHit.getLabel(), index, isSelected,
+                    cellHasFocus);
+            }
+
+        });
+        hitsList.getSelectionModel().addListSelectionListener(e -> okButton.setEnabled(hitsList.getSelectedIndex() >= 0));
+        hitsList.addMouseListener(new MouseAdapter() {
+
+            @Override
+            public void mouseClicked(final MouseEvent e) {
+                if (e.getClickCount() == 2 && hitsList.getSelectedIndex() >= 0) {
+                    okAction();
+                }
+            }
+
+        });
+
+        stateLabel.setFocusable(false);
+        stateLabel.setText(searchIndex.isBuilt() ? null : "Index is being built, not all data are found yet.");
+
+        okButton.setEnabled(false);
+        okButton.addActionListener(e -> okAction());
+
+        cancelButton.addActionListener(e -> cancelAction());
+
+        final GroupLayout layout = new GroupLayout(getRootPane());
+        getRootPane().setLayout(layout);
+        layout.setHorizontalGroup(createHorizontalLayout(layout));
+        layout.setVerticalGroup(createVerticalLayout(layout));
+
+        pack();
+        setLocationRelativeTo(getRootPane());
+    }
+
+    /**
+     * Performs action for change of searched text.
+     */
+    private void searchAction() {
+        final List<SearchHit> hits = searchIndex.search(textField.getText(), MAX_HITS + 1);
+        hitsModel.clear();
+        for (int i = 0; i < hits.size() && i < MAX_HITS; i++) {
+            hitsModel.addElement(hits.get(i));
+        }
+        if (!hitsModel.isEmpty()) {
+            hitsList.setSelectedIndex(0);
+        }
+
+        if (!searchIndex.isBuilt()) {
+            stateLabel.setText("Index is being built, not all data are found yet.");
+        } else if (hits.size() > MAX_HITS) {
+            stateLabel.setText("Shown first " + MAX_HITS + " found data.");
+        } else {
+            stateLabel.setText("Found " + hits.size() + " data.");
+        }
+    }
+
+    /**
+     * Performs action for button OK.
+     */
+    private void okAction() {
+        if (hitsList.getSelectedIndex() < 0) {
+            return;
+        }
+
+        hit = hitsList.getSelectedValue();
+        setVisible(false);
+        dispose();
+    }
+
+    /**
+     * Performs action for button Cancel.
+     */
+    private void cancelAction() {
+        hit = null;
+        setVisible(false);
+        dispose();
+    }
+
+    /**
+     * Returns horizontal layout of components.
+     *
+     * @param layout layout
+     * @return horizontal layout of components
+     */
+    private GroupLayout.Group createHorizontalLayout(final GroupLayout layout) {
+        final GroupLayout.Group buttons = layout.createSequentialGroup()
+            .addGap(HORIZONTAL_BUTTON_GAP_SIZE)
+            .addComponent(okButton, HORIZONTAL_BUTTON_SIZE, HORIZONTAL_BUTTON_SIZE, HORIZONTAL_BUTTON_SIZE)
+            .addGap(HORIZONTAL_BUTTONS_GAP_SIZE)
+            .addComponent(cancelButton, HORIZONTAL_BUTTON_SIZE, HORIZONTAL_BUTTON_SIZE, HORIZONTAL_BUTTON_SIZE);
+
+        final GroupLayout.Group components = layout.createParallelGroup()
+            .addComponent(textField, HORIZONTAL_COMPONENT_SIZE, HORIZONTAL_COMPONENT_SIZE, HORIZONTAL_COMPONENT_SIZE)
+            .addComponent(hitsScrollPane, HORIZONTAL_COMPONENT_SIZE, HORIZONTAL_COMPONENT_SIZE, HORIZONTAL_COMPONENT_SIZE)
+            .addComponent(stateLabel, HORIZONTAL_COMPONENT_SIZE, HORIZONTAL_COMPONENT_SIZE, HORIZONTAL_COMPONENT_SIZE)
+            .addGroup(buttons);
+
+        return layout.createSequentialGroup()
+            .addGap(HORIZONTAL_GAP_SIZE)
+            .addGroup(components)
+            .addGap(HORIZONTAL_GAP_SIZE);
+    }
+
+    /**
+     * Returns vertical layout of components.
+     *
+     * @param layout layout
+     * @return vertical layout of components
+     */
+    private GroupLayout.Group createVerticalLayout(final GroupLayout layout) {
+        final GroupLayout.Group buttons = layout.createParallelGroup()
+            .addComponent(okButton, CatalogSwingConstants.VERTICAL_BUTTON_SIZE, CatalogSwingConstants.VERTICAL_BUTTON_SIZE,
+                CatalogSwingConstants.VERTICAL_BUTTON_SIZE)
+            .addComponent(cancelButton, CatalogSwingConstants.VERTICAL_BUTTON_SIZE, CatalogSwingConstants.VERTICAL_BUTTON_SIZE,
+                CatalogSwingConstants.VERTICAL_BUTTON_SIZE);
+
+        return layout.createSequentialGroup()
+            .addGap(VERTICAL_LONG_GAP_SIZE)
+            .addComponent(textField, CatalogSwingConstants.VERTICAL_COMPONENT_SIZE, CatalogSwingConstants.VERTICAL_COMPONENT_SIZE,
+                CatalogSwingConstants.VERTICAL_COMPONENT_SIZE)
+            .addGap(VERTICAL_GAP_SIZE)
+            .addComponent(hitsScrollPane, VERTICAL_LIST_SIZE, VERTICAL_LIST_SIZE, VERTICAL_LIST_SIZE)
+            .addGap(VERTICAL_GAP_SIZE)
+            .addComponent(stateLabel, CatalogSwingConstants.VERTICAL_COMPONENT_SIZE, CatalogSwingConstants.VERTICAL_COMPONENT_SIZE,
+                CatalogSwingConstants.VERTICAL_COMPONENT_SIZE)
+            .addGap(VERTICAL_LONG_GAP_SIZE)
+            .addGroup(buttons)
+            .addGap(VERTICAL_LONG_GAP_SIZE);
+    }
+
+}
@@ -1,5 +1,7 @@
 package cz.vhromada.catalog.gui;
 
+import java.util.concurrent.CompletableFuture;
+
 import javax.swing.GroupLayout;
 import javax.swing.JButton;
 import javax.swing.JFrame;
@@ -40,9 +42,9 @@ public final class Selector extends JFrame {
     private static final int VERTICAL_GAP_SIZE = 40;
 
     /**
-     * Application context
+     * Future with application context
      */
-    private ConfigurableApplicationContext context;
+    private final CompletableFuture<ConfigurableApplicationContext> context;
 
     /**
      * Button Catalog
@@ -61,7 +63,17 @@ public final class Selector extends JFrame {
      * @throws IllegalArgumentException if application context is null
      */
     public Selector(final ConfigurableApplicationContext context) {
-        Assert.notNull(context, "Application context mustn't be null.");
+        this(getCompletedContext(context));
+    }
+
+    /**
+     * Creates a new instance of Selector. Button Catalog is enabled after application context is started.
+     *
+     * @param context future with application context
+     * @throws IllegalArgumentException if future with application context is null
+     */
+    public Selector(final CompletableFuture<ConfigurableApplicationContext> context) {
+        Assert.notNull(context, "Future with application context mustn't be null.");
 
         setTitle("Catalog - Selector");
         setIconImage(Picture.CATALOG.getIcon().getImage());
@@ -69,7 +81,10 @@ public final class Selector extends JFrame {
 
         this.context = context;
 
+        catalogButton.setEnabled(false);
+        catalogButton.setToolTipText("Opening catalog...");
         catalogButton.addActionListener(e -> catalogAction());
+        context.thenRun(() -> SwingUtilities.invokeLater(this::contextStarted));
 
         exitButton.addActionListener(e -> exitAction());
 
@@ -78,11 +93,20 @@ public final class Selector extends JFrame {
         layout.setHorizontalGroup(createHorizontalLayout(layout));
         layout.setVerticalGroup(createVerticalLayout(layout));
 
-        catalogButton.requestFocusInWindow();
+        exitButton.requestFocusInWindow();
         pack();
         setLocationRelativeTo(getRootPane());
     }
 
+    /**
+     * Performs action after application context is started.
+     */
+    private void contextStarted() {
+        catalogButton.setToolTipText(null);
+        catalogButton.setEnabled(true);
+        catalogButton.requestFocusInWindow();
+    }
+
     /**
      * Performs action for button Catalog.
      */
@@ -90,7 +114,7 @@ public final class Selector extends JFrame {
         SwingUtilities.invokeLater(() -> {
             setVisible(false);
             dispose();
-            new Catalog(context).setVisible(true);
+            new Catalog(context.join()).setVisible(true);
         });
     }
 
@@ -98,10 +122,25 @@ public final class Selector extends JFrame {
      * Performs action for button Exit.
      */
     private void exitAction() {
-        context.close();
+        if (context.isDone() && !context.isCompletedExceptionally()) {
+            context.join().close();
+        }
         System.exit(0);
     }
 
+    /**
+     * Returns completed future with application context.
+     *
+     * @param context application context
+     * @return completed future with application context
+     * @throws IllegalArgumentException if application context is null
+     */
+    private static CompletableFuture<ConfigurableApplicationContext> getCompletedContext(final ConfigurableApplicationContext context) {
+        Assert.notNull(context, "Application context mustn't be null.");
+
+        return CompletableFuture.completedFuture(context);
+    }
+
     /**
      * Returns horizontal layout of components.
      *
@@ -3,18 +3,13 @@ package cz.vhromada.catalog.gui.common;
 import java.util.List;
 
 import javax.swing.GroupLayout;
-import javax.swing.ImageIcon;
 import javax.swing.JButton;
 import javax.swing.JComponent;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 
 import cz.vhromada.catalog.entity.Genre;
-import cz.vhromada.catalog.entity.Picture;
-import cz.vhromada.catalog.facade.PictureFacade;
 import cz.vhromada.common.Language;
-import cz.vhromada.validation.result.Result;
-import cz.vhromada.validation.result.Status;
 
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.util.Assert;
@@ -213,26 +208,6 @@ public abstract class AbstractDataPanel<T> extends JPanel {
         return result.substring(0, result.length() - 3);
     }
 
-    /**
-     * Loads picture.
-     *
-     * @param picture       picture
-     * @param pictureFacade facade for pictures
-     * @param pictureData   label for picture
-     */
-    protected static void loadPicture(final Integer picture, final PictureFacade pictureFacade, final JLabel pictureData) {
-        if (picture == null) {
-            pictureData.setIcon(null);
-        } else {
-            final Result<Picture> pictureResult = pictureFacade.get(picture);
-            if (Status.OK == pictureResult.getStatus()) {
-                pictureData.setIcon(new ImageIcon(pictureResult.getData().getContent()));
-            } else {
-                throw new IllegalArgumentException("Can't get data. " + pictureResult);
-            }
-        }
-    }
-
     /**
      * Creates layout.
      */
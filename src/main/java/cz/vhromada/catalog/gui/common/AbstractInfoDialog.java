@@ -19,7 +19,6 @@ import javax.swing.text.JTextComponent;
 
 import cz.vhromada.catalog.entity.Genre;
 import cz.vhromada.catalog.facade.GenreFacade;
-import cz.vhromada.catalog.facade.PictureFacade;
 import cz.vhromada.catalog.gui.genre.GenreChooseDialog;
 import cz.vhromada.catalog.gui.picture.PictureChooseDialog;
 import cz.vhromada.common.Language;
@@ -325,15 +324,15 @@ public abstract class AbstractInfoDialog<T> extends JDialog {
     /**
      * Performs action for button Change pictures.
      *
-     * @param pictureFacade facade for pictures
-     * @param pictures      list of pictures
-     * @param pictureData   data with genres
+     * @param pictureCache cache for pictures
+     * @param pictures     list of pictures
+     * @param pictureData  data with genres
      */
-    protected void pictureAction(final PictureFacade pictureFacade, final List<Integer> pictures, final JLabel pictureData) {
+    protected void pictureAction(final PictureCache pictureCache, final List<Integer> pictures, final JLabel pictureData) {
         EventQueue.invokeLater(() -> {
             final cz.vhromada.catalog.entity.Picture pictureEntity = new cz.vhromada.catalog.entity.Picture();
             pictureEntity.setId(pictures.isEmpty() ? null : pictures.get(0));
-            final PictureChooseDialog dialog = new PictureChooseDialog(pictureFacade, pictureEntity);
+            final PictureChooseDialog dialog = new PictureChooseDialog(pictureCache, pictureEntity);
             dialog.setVisible(true);
             if (dialog.getReturnStatus() == DialogResult.OK) {
                 pictures.clear();
@@ -1,14 +1,34 @@
 package cz.vhromada.catalog.gui.common;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 import javax.swing.AbstractListModel;
 
+import cz.vhromada.catalog.cache.FacadeCache;
+import cz.vhromada.catalog.monitoring.StartupTimeline;
+import cz.vhromada.common.Movable;
 import cz.vhromada.validation.result.Result;
 import cz.vhromada.validation.result.Status;
 
+import org.springframework.util.Assert;
+
 /**
  * An abstract class represents data model for list with data.
+ * <p>
+ * Data are loaded by {@link #loadData()}, which can be called outside of event dispatch thread, and they are set to model by
+ * {@link #setData(List)} in event dispatch thread.
+ * <p>
+ * Known changes of data are applied to model directly and only affected rows are notified, so change of one data doesn't need reloading of all data.
+ * Display values are computed only once for each data, when data are set or changed, so painting of list doesn't compute them again.
+ * <p>
+ * Model can be filtered by text. Only data, which display values contain text, are shown - data, which display values start with text, are shown
+ * first. Display values are searched in {@link FilterIndex}, which is updated together with data, and display values starting with text are found
+ * by binary search. If text of filter extends previous text, then only data shown for previous text are searched. Indexes in methods of model are
+ * indexes of shown data.
  *
  * @param <T> type of data
  * @author Vladimir Hromada
@@ -23,16 +43,41 @@ public abstract class AbstractListDataModel<T> extends AbstractListModel<String>
     /**
      * List of data
      */
-    private List<T> data;
+    private List<T> data = Collections.emptyList();
+
+    /**
+     * Index for filtering of data
+     */
+    private FilterIndex filterIndex = FilterIndex.empty();
+
+    /**
+     * Normalized text of filter - empty string if data aren't filtered
+     */
+    private String filter = "";
+
+    /**
+     * Ascending indexes of data matching filter - null if data aren't filtered
+     */
+    private int[] matches;
+
+    /**
+     * Indexes of shown data - null if data aren't filtered
+     */
+    private int[] view;
+
+    /**
+     * Indexes of data in shown data - index of data to index of shown data or -1 if data aren't shown, null if data aren't filtered
+     */
+    private int[] viewIndexes;
 
     @Override
     public int getSize() {
-        return data.size();
+        return view == null ? data.size() : view.length;
     }
 
     @Override
     public String getElementAt(final int index) {
-        return getDisplayValue(getObjectAt(index));
+        return filterIndex.getDisplayValue(getDataIndex(index));
     }
 
     /**
@@ -42,22 +87,345 @@ public abstract class AbstractListDataModel<T> extends AbstractListModel<String>
      * @return data object at index
      */
     public T getObjectAt(final int index) {
-        return data.get(index);
+        return data.get(getDataIndex(index));
+    }
+
+    /**
+     * Returns index of shown data object.
+     *
+     * @param dataObject data object
+     * @return index of shown data object or -1 if data object isn't shown
+     */
+    public final int indexOf(final T dataObject) {
+        return getViewIndex(data.indexOf(dataObject));
+    }
+
+    /**
+     * Returns true if data are filtered.
+     *
+     * @return true if data are filtered
+     */
+    public final boolean isFiltered() {
+        return view != null;
     }
 
     /**
      * Updates model.
      */
     public final void update() {
+        setData(loadData());
+    }
+
+    /**
+     * Returns loaded data.
+     *
+     * @return loaded data
+     */
+    public final List<T> loadData() {
+        final long start = System.nanoTime();
         final Result<List<T>> result = getData();
 
         if (Status.OK == result.getStatus()) {
-            data = result.getData();
+            StartupTimeline.record(getClass().getSimpleName() + ".update", start);
+            return result.getData();
         } else {
             throw new IllegalArgumentException("Can't get data. " + result);
         }
     }
 
+    /**
+     * Returns index for filtering of data. It can be called outside of event dispatch thread.
+     *
+     * @param data data
+     * @return index for filtering of data
+     * @throws IllegalArgumentException if data are null
+     */
+    public final FilterIndex createIndex(final List<T> data) {
+        Assert.notNull(data, "Data mustn't be null.");
+
+        final List<String> displayValues = new ArrayList<>(data.size());
+        for (final T dataObject : data) {
+            displayValues.add(getDisplayValue(dataObject));
+        }
+
+        return new FilterIndex(displayValues);
+    }
+
+    /**
+     * Sets data. Listeners are notified only about rows between common beginning and common end of old and new data and about rows in common
+     * beginning and common end with changed display values.
+     *
+     * @param data data
+     * @throws IllegalArgumentException if data are null
+     */
+    public final void setData(final List<T> data) {
+        Assert.notNull(data, "Data mustn't be null.");
+
+        setData(data, createIndex(data));
+    }
+
+    /**
+     * Sets data with index for filtering of data. If data aren't filtered, then listeners are notified only about rows between common beginning and
+     * common end of old and new data and about rows in common beginning and common end with changed display values (data are equal by ID, so
+     * changed data can be in common beginning or common end).
+     *
+     * @param data        data
+     * @param filterIndex index for filtering of data
+     * @throws IllegalArgumentException if data are null
+     *                                  or index for filtering of data is null
+     *                                  or index for filtering of data doesn't belong to data
+     */
+    public final void setData(final List<T> data, final FilterIndex filterIndex) {
+        Assert.notNull(data, "Data mustn't be null.");
+        Assert.notNull(filterIndex, "Index for filtering of data mustn't be null.");
+        Assert.isTrue(data.size() == filterIndex.size(), "Index for filtering of data doesn't belong to data.");
+
+        final FilterIndex oldFilterIndex = this.filterIndex;
+        this.filterIndex = filterIndex;
+        if (view != null) {
+            final int oldSize = getSize();
+            this.data = new ArrayList<>(data);
+            matches = filterIndex.find(filter, null);
+            setView(getView(matches, filter));
+            fireAllChanged(oldSize, getSize());
+            return;
+        }
+
+        final List<T> oldData = this.data;
+        final int commonSize = Math.min(oldData.size(), data.size());
+        int prefix = 0;
+        while (prefix < commonSize && oldData.get(prefix).equals(data.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < commonSize - prefix && oldData.get(oldData.size() - suffix - 1).equals(data.get(data.size() - suffix - 1))) {
+            suffix++;
+        }
+        final int oldChanged = oldData.size() - prefix - suffix;
+        final int newChanged = data.size() - prefix - suffix;
+
+        this.data = new ArrayList<>(data);
+        fireDisplayValuesChanged(oldFilterIndex, 0, 0, prefix);
+        if (Math.min(oldChanged, newChanged) > 0) {
+            fireContentsChanged(this, prefix, prefix + Math.min(oldChanged, newChanged) - 1);
+        }
+        if (newChanged > oldChanged) {
+            fireIntervalAdded(this, prefix + oldChanged, prefix + newChanged - 1);
+        } else if (oldChanged > newChanged) {
+            fireIntervalRemoved(this, prefix + newChanged, prefix + oldChanged - 1);
+        }
+        fireDisplayValuesChanged(oldFilterIndex, oldData.size() - suffix, data.size() - suffix, suffix);
+    }
+
+    /**
+     * Updates data object at the specified index.
+     *
+     * @param index      the index
+     * @param dataObject data object
+     * @throws IllegalArgumentException if data object is null
+     */
+    public final void update(final int index, final T dataObject) {
+        Assert.notNull(dataObject, "Data mustn't be null.");
+
+        final int dataIndex = getDataIndex(index);
+        data.set(dataIndex, dataObject);
+        filterIndex.set(dataIndex, getDisplayValue(dataObject));
+        fireContentsChanged(this, index, index);
+    }
+
+    /**
+     * Updates data object. Data object is updated on index of equal data object. If data are filtered, then filter is applied to updated data
+     * object, so it is added to shown data, removed from shown data or moved in shown data, if its display value matches filter differently.
+     *
+     * @param dataObject data object
+     * @throws IllegalArgumentException if data object is null
+     */
+    public final void update(final T dataObject) {
+        Assert.notNull(dataObject, "Data mustn't be null.");
+
+        final int dataIndex = data.indexOf(dataObject);
+        if (dataIndex < 0) {
+            return;
+        }
+
+        final int oldIndex = getViewIndex(dataIndex);
+        data.set(dataIndex, dataObject);
+        filterIndex.set(dataIndex, getDisplayValue(dataObject));
+        if (view != null) {
+            final boolean matched = Arrays.binarySearch(matches, dataIndex) >= 0;
+            if (matched != (filterIndex.find(filter, new int[] { dataIndex }).length > 0)) {
+                matches = matched ? removeMatch(matches, dataIndex) : addMatch(matches, dataIndex);
+            }
+            setView(getView(matches, filter));
+        }
+        final int index = getViewIndex(dataIndex);
+        if (oldIndex >= 0 && oldIndex == index) {
+            fireContentsChanged(this, index, index);
+            return;
+        }
+        if (oldIndex >= 0) {
+            fireIntervalRemoved(this, oldIndex, oldIndex);
+        }
+        if (index >= 0) {
+            fireIntervalAdded(this, index, index);
+        }
+    }
+
+    /**
+     * Removes data object at the specified index.
+     *
+     * @param index the index
+     */
+    public final void remove(final int index) {
+        final int dataIndex = getDataIndex(index);
+        data.remove(dataIndex);
+        filterIndex.remove(dataIndex);
+        if (view != null) {
+            matches = removeIndex(matches, dataIndex);
+            setView(removeIndex(view, dataIndex));
+        }
+        fireIntervalRemoved(this, index, index);
+    }
+
+    /**
+     * Removes data objects at the specified indexes. Listeners are notified once for each interval of removed data objects.
+     *
+     * @param indexes ascending indexes of removed data objects
+     * @throws IllegalArgumentException if indexes are null
+     */
+    public final void remove(final int[] indexes) {
+        Assert.notNull(indexes, "Indexes mustn't be null.");
+
+        if (indexes.length == 0) {
+            return;
+        }
+
+        final boolean[] removed = new boolean[data.size()];
+        for (final int index : indexes) {
+            removed[getDataIndex(index)] = true;
+        }
+        final int[] order = new int[data.size() - indexes.length];
+        final List<T> newData = new ArrayList<>(order.length);
+        int size = 0;
+        for (int i = 0; i < data.size(); i++) {
+            if (!removed[i]) {
+                order[size] = i;
+                newData.add(data.get(i));
+                size++;
+            }
+        }
+        data = newData;
+        filterIndex.reorder(order);
+        if (view != null) {
+            matches = filterIndex.find(filter, null);
+            setView(getView(matches, filter));
+        }
+
+        int end = indexes.length - 1;
+        for (int i = indexes.length - 1; i >= 0; i--) {
+            if (i == 0 || indexes[i - 1] != indexes[i] - 1) {
+                fireIntervalRemoved(this, indexes[i], indexes[end]);
+                end = i - 1;
+            }
+        }
+    }
+
+    /**
+     * Moves data object at the specified index up.
+     *
+     * @param index the index
+     * @throws IllegalStateException if data are filtered
+     */
+    public final void moveUp(final int index) {
+        swap(index - 1, index);
+    }
+
+    /**
+     * Moves data object at the specified index down.
+     *
+     * @param index the index
+     * @throws IllegalStateException if data are filtered
+     */
+    public final void moveDown(final int index) {
+        swap(index, index + 1);
+    }
+
+    /**
+     * Moves data objects at the specified indexes before data object at target index. Moved data objects keep their order.
+     *
+     * @param indexes ascending indexes of moved data objects
+     * @param target  index of data object, before which data objects are moved, or count of data objects for moving to the end
+     * @return new index of first moved data object
+     * @throws IllegalArgumentException if indexes are null
+     *                                  or indexes are empty
+     * @throws IllegalStateException    if data are filtered
+     */
+    public final int move(final int[] indexes, final int target) {
+        Assert.notNull(indexes, "Indexes mustn't be null.");
+        Assert.isTrue(indexes.length > 0, "Indexes mustn't be empty.");
+        Assert.state(view == null, "Filtered data can't be moved.");
+
+        final boolean[] moved = new boolean[data.size()];
+        int movedBeforeTarget = 0;
+        for (final int index : indexes) {
+            moved[index] = true;
+            if (index < target) {
+                movedBeforeTarget++;
+            }
+        }
+        final int[] order = new int[data.size()];
+        int size = 0;
+        for (int i = 0; i < target; i++) {
+            if (!moved[i]) {
+                order[size] = i;
+                size++;
+            }
+        }
+        for (final int index : indexes) {
+            order[size] = index;
+            size++;
+        }
+        for (int i = target; i < data.size(); i++) {
+            if (!moved[i]) {
+                order[size] = i;
+                size++;
+            }
+        }
+
+        final List<T> newData = new ArrayList<>(data.size());
+        for (final int index : order) {
+            newData.add(data.get(index));
+        }
+        data = newData;
+        filterIndex.reorder(order);
+        fireContentsChanged(this, Math.min(indexes[0], target), Math.max(indexes[indexes.length - 1], target - 1));
+
+        return target - movedBeforeTarget;
+    }
+
+    /**
+     * Sets text of filter. If text is empty, then all data are shown.
+     *
+     * @param text text of filter
+     */
+    public final void setFilter(final String text) {
+        final String normalizedText = FilterIndex.normalize(text);
+        if (normalizedText.equals(filter)) {
+            return;
+        }
+
+        final int oldSize = getSize();
+        if (normalizedText.isEmpty()) {
+            matches = null;
+            setView(null);
+        } else {
+            matches = filterIndex.find(normalizedText, !filter.isEmpty() && normalizedText.startsWith(filter) ? matches : null);
+            setView(getView(matches, normalizedText));
+        }
+        filter = normalizedText;
+        fireAllChanged(oldSize, getSize());
+    }
+
     /**
      * Returns result with data.
      *
@@ -73,4 +441,194 @@ public abstract class AbstractListDataModel<T> extends AbstractListModel<String>
      */
     protected abstract String getDisplayValue(T dataObject);
 
+    /**
+     * Swaps data objects at the specified indexes. Positions of data objects are swapped too, so they remain same as positions in facade. Data
+     * objects with positions are copied before their positions are changed, because they are shared with cache of facade.
+     *
+     * @param index1 the first index
+     * @param index2 the second index
+     */
+    private void swap(final int index1, final int index2) {
+        Assert.state(view == null, "Filtered data can't be moved.");
+
+        T dataObject1 = data.get(index1);
+        T dataObject2 = data.get(index2);
+        if (dataObject1 instanceof Movable && dataObject2 instanceof Movable) {
+            dataObject1 = FacadeCache.copy(dataObject1);
+            dataObject2 = FacadeCache.copy(dataObject2);
+            final Movable movable1 = (Movable) dataObject1;
+            final Movable movable2 = (Movable) dataObject2;
+            final int position = movable1.getPosition();
+            movable1.setPosition(movable2.getPosition());
+            movable2.setPosition(position);
+        }
+
+        data.set(index1, dataObject2);
+        data.set(index2, dataObject1);
+        filterIndex.swap(index1, index2);
+        fireContentsChanged(this, index1, index2);
+    }
+
+    /**
+     * Returns index of data object in data.
+     *
+     * @param index index of shown data object
+     * @return index of data object in data
+     */
+    private int getDataIndex(final int index) {
+        return view == null ? index : view[index];
+    }
+
+    /**
+     * Returns index of shown data object.
+     *
+     * @param dataIndex index of data object in data
+     * @return index of shown data object or -1 if data object isn't shown
+     */
+    private int getViewIndex(final int dataIndex) {
+        if (view == null || dataIndex < 0) {
+            return dataIndex;
+        }
+
+        return viewIndexes[dataIndex];
+    }
+
+    /**
+     * Sets indexes of shown data and indexes of data in shown data.
+     *
+     * @param newView indexes of shown data, null if data aren't filtered
+     */
+    private void setView(final int[] newView) {
+        view = newView;
+        if (newView == null) {
+            viewIndexes = null;
+            return;
+        }
+
+        viewIndexes = new int[data.size()];
+        Arrays.fill(viewIndexes, -1);
+        for (int i = 0; i < newView.length; i++) {
+            viewIndexes[newView[i]] = i;
+        }
+    }
+
+    /**
+     * Returns indexes of shown data. Data, which display values start with text, are first. They are found by binary search in index, so only
+     * one pass through data matching filter is needed.
+     *
+     * @param indexes ascending indexes of data matching filter
+     * @param text    normalized text of filter
+     * @return indexes of shown data
+     */
+    private int[] getView(final int[] indexes, final String text) {
+        final int[] prefixIndexes = filterIndex.findPrefix(text);
+        final int[] result = Arrays.copyOf(prefixIndexes, indexes.length);
+        int size = prefixIndexes.length;
+        int prefixIndex = 0;
+        for (final int index : indexes) {
+            while (prefixIndex < prefixIndexes.length && prefixIndexes[prefixIndex] < index) {
+                prefixIndex++;
+            }
+            if (prefixIndex >= prefixIndexes.length || prefixIndexes[prefixIndex] != index) {
+                result[size] = index;
+                size++;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Notifies listeners about change of all rows.
+     *
+     * @param oldSize old count of rows
+     * @param newSize new count of rows
+     */
+    private void fireAllChanged(final int oldSize, final int newSize) {
+        final int commonSize = Math.min(oldSize, newSize);
+        if (commonSize > 0) {
+            fireContentsChanged(this, 0, commonSize - 1);
+        }
+        if (newSize > oldSize) {
+            fireIntervalAdded(this, oldSize, newSize - 1);
+        } else if (oldSize > newSize) {
+            fireIntervalRemoved(this, newSize, oldSize - 1);
+        }
+    }
+
+    /**
+     * Notifies listeners about rows with changed display values. Listeners are notified once for each interval of rows with changed display values.
+     *
+     * @param oldFilterIndex old index for filtering of data
+     * @param oldStart       index of first compared row in old data
+     * @param newStart       index of first compared row in new data
+     * @param count          count of compared rows
+     */
+    private void fireDisplayValuesChanged(final FilterIndex oldFilterIndex, final int oldStart, final int newStart, final int count) {
+        int start = -1;
+        for (int i = 0; i <= count; i++) {
+            final boolean changed = i < count
+                && !Objects.equals(oldFilterIndex.getDisplayValue(oldStart + i), filterIndex.getDisplayValue(newStart + i));
+            if (changed && start < 0) {
+                start = i;
+            } else if (!changed && start >= 0) {
+                fireContentsChanged(this, newStart + start, newStart + i - 1);
+                start = -1;
+            }
+        }
+    }
+
+    /**
+     * Returns ascending indexes of data matching filter with added index.
+     *
+     * @param indexes ascending indexes of data matching filter
+     * @param index   added index
+     * @return ascending indexes of data matching filter with added index
+     */
+    private static int[] addMatch(final int[] indexes, final int index) {
+        final int position = -Arrays.binarySearch(indexes, index) - 1;
+        final int[] result = new int[indexes.length + 1];
+        System.arraycopy(indexes, 0, result, 0, position);
+        result[position] = index;
+        System.arraycopy(indexes, position, result, position + 1, indexes.length - position);
+
+        return result;
+    }
+
+    /**
+     * Returns ascending indexes of data matching filter without removed index. Other indexes aren't changed.
+     *
+     * @param indexes ascending indexes of data matching filter
+     * @param index   removed index
+     * @return ascending indexes of data matching filter without removed index
+     */
+    private static int[] removeMatch(final int[] indexes, final int index) {
+        final int position = Arrays.binarySearch(indexes, index);
+        final int[] result = new int[indexes.length - 1];
+        System.arraycopy(indexes, 0, result, 0, position);
+        System.arraycopy(indexes, position + 1, result, position, result.length - position);
+
+        return result;
+    }
+
+    /**
+     * Returns indexes without removed index. Indexes after removed index are decreased.
+     *
+     * @param indexes      indexes
+     * @param removedIndex removed index
+     * @return indexes without removed index
+     */
+    private static int[] removeIndex(final int[] indexes, final int removedIndex) {
+        final int[] result = new int[indexes.length];
+        int size = 0;
+        for (final int index : indexes) {
+            if (index != removedIndex) {
+                result[size] = index > removedIndex ? index - 1 : index;
+                size++;
+            }
+        }
+
+        return Arrays.copyOf(result, size);
+    }
+
 }
@@ -1,35 +1,90 @@
 package cz.vhromada.catalog.gui.common;
 
+import java.awt.Component;
+import java.awt.Cursor;
+import java.awt.Graphics;
+import java.awt.Insets;
+import java.awt.datatransfer.StringSelection;
+import java.awt.datatransfer.Transferable;
 import java.awt.event.InputEvent;
 import java.awt.event.KeyEvent;
-
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import javax.swing.DropMode;
 import javax.swing.GroupLayout;
+import javax.swing.JComponent;
 import javax.swing.JList;
 import javax.swing.JMenuItem;
 import javax.swing.JPanel;
 import javax.swing.JPopupMenu;
+import javax.swing.JProgressBar;
 import javax.swing.JScrollPane;
 import javax.swing.JTabbedPane;
 import javax.swing.JTable;
+import javax.swing.JTextField;
 import javax.swing.KeyStroke;
 import javax.swing.ListSelectionModel;
 import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
+import javax.swing.TransferHandler;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+
+import cz.vhromada.catalog.cache.FacadeCache;
+import cz.vhromada.catalog.monitoring.StartupTimeline;
+import cz.vhromada.common.Movable;
+import cz.vhromada.validation.result.Result;
+import cz.vhromada.validation.result.Status;
 
 import org.springframework.util.Assert;
 
 /**
  * An abstract class represents overview panel with data.
+ * <p>
+ * List with data can be filtered by text typed into field above list. Index for filtering is created together with loading of data in background.
+ * Data can't be moved while list is filtered.
+ * <p>
+ * Large lists (at least 10000 data by default, set by system property <code>catalog.list.largeSize</code>) have fixed size of cells, so list isn't
+ * measured by all cells after each change of data. Long names are shortened in large lists.
+ * <p>
+ * Selected data can be moved by drag and drop. Moved data get positions of data in moved range of list, so only data with changed position are
+ * updated and list isn't loaded again. Selected data can be removed or duplicated together, list and stats are changed once after all data.
  *
  * @param <T> type of data
  * @author Vladimir Hromada
  */
-public abstract class AbstractOverviewDataPanel<T> extends JPanel {
+public abstract class AbstractOverviewDataPanel<T extends Movable> extends JPanel {
+
+    /**
+     * System property with minimal count of data in large list
+     */
+    public static final String LARGE_LIST_SIZE_PROPERTY = "catalog.list.largeSize";
+
+    /**
+     * Property for change of saved state of data
+     */
+    public static final String SAVED_PROPERTY = "saved";
 
     /**
      * SerialVersionUID
      */
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Default minimal count of data in large list
+     */
+    private static final int DEFAULT_LARGE_LIST_SIZE = 10000;
+
+    /**
+     * Value for measuring of height of cells in large list
+     */
+    private static final String CELL_PROTOTYPE = "Ag";
+
     /**
      * Horizontal scroll pane size
      */
@@ -95,6 +150,11 @@ public abstract class AbstractOverviewDataPanel<T> extends JPanel {
      */
     private final JMenuItem moveDownPopupMenuItem = new JMenuItem("Move down", Picture.DOWN.getIcon());
 
+    /**
+     * Field for filter of list with data
+     */
+    private final JTextField filterField = new JTextField();
+
     /**
      * List with data
      */
@@ -110,6 +170,11 @@ public abstract class AbstractOverviewDataPanel<T> extends JPanel {
      */
     private final JTabbedPane tabbedPane = new JTabbedPane();
 
+    /**
+     * Progress bar shown while data are loading
+     */
+    private final JProgressBar loadingProgressBar = new JProgressBar();
+
     /**
      * Table with with stats
      */
@@ -128,12 +193,42 @@ public abstract class AbstractOverviewDataPanel<T> extends JPanel {
     /**
      * Data model for table with stats
      */
-    private final AbstractStatsTableDataModel statsTableDataModel;
+    private final AbstractStatsTableDataModel<T> statsTableDataModel;
+
+    /**
+     * Count of changes of data
+     */
+    private long changes;
+
+    /**
+     * Count of changes of data, which are saved
+     */
+    private long savedChanges;
+
+    /**
+     * Loader of data - null if no data are loading
+     */
+    private DataLoader loader;
+
+    /**
+     * IDs of data, which will be selected after data are loaded - null if no data will be selected
+     */
+    private List<Integer> selection;
+
+    /**
+     * Data moved by drag and drop, which positions are waiting for updating - ID of data to data with new position
+     */
+    private final Map<Integer, T> movedData = new LinkedHashMap<>();
 
     /**
-     * True if data is saved
+     * Updater of positions of moved data - null if no positions are updating
      */
-    private boolean saved;
+    private PositionUpdater positionUpdater;
+
+    /**
+     * True if data were loaded while positions were updating, so they must be loaded again
+     */
+    private boolean loadedDuringUpdate;
 
     /**
      * Creates a new instance of AbstractDataPanel.
@@ -146,8 +241,8 @@ public abstract class AbstractOverviewDataPanel<T> extends JPanel {
 
         this.listDataModel = listDataModel;
         this.statsTableDataModel = null;
-        this.saved = true;
         initComponents();
+        load(true, true, null);
     }
 
     /**
@@ -158,28 +253,30 @@ public abstract class AbstractOverviewDataPanel<T> extends JPanel {
      * @throws IllegalArgumentException if data model for list is null
      *                                  or data model for table with stats is null
      */
-    public AbstractOverviewDataPanel(final AbstractListDataModel<T> listDataModel, final AbstractStatsTableDataModel statsTableDataModel) {
+    public AbstractOverviewDataPanel(final AbstractListDataModel<T> listDataModel, final AbstractStatsTableDataModel<T> statsTableDataModel) {
         Assert.notNull(listDataModel, "Data model for list mustn't be null.");
         Assert.notNull(statsTableDataModel, "Data model for table with stats mustn't be null.");
 
         this.listDataModel = listDataModel;
         this.statsTableDataModel = statsTableDataModel;
-        this.saved = true;
         initComponents();
+        load(true, true, null);
     }
 
     /**
-     * Creates new data.
+     * Creates new data. Deleted data are removed from list immediately, so they can't be selected while new data are loading.
      */
     public void newData() {
+        movedData.clear();
         deleteData();
-        listDataModel.update();
+        filterField.setText(null);
         list.clearSelection();
-        list.updateUI();
+        listDataModel.setData(Collections.emptyList());
         tabbedPane.removeAll();
-        statsTableDataModel.update();
-        statsTable.updateUI();
-        saved = true;
+        final boolean saved = isSaved();
+        savedChanges = changes;
+        firePropertyChange(SAVED_PROPERTY, saved, isSaved());
+        load(true, true, null);
     }
 
     /**
@@ -191,10 +288,42 @@ public abstract class AbstractOverviewDataPanel<T> extends JPanel {
     }
 
     /**
-     * Saves.
+     * Selects data. If data are loading, then data are selected after they are loaded. If there are more IDs, then next IDs are selected in nested
+     * panel (e.g. season and episode in panel with seasons of selected show).
+     *
+     * @param path IDs of data and of nested data
+     * @throws IllegalArgumentException if IDs are null
+     *                                  or IDs are empty
+     */
+    public void selectData(final List<Integer> path) {
+        Assert.notNull(path, "IDs mustn't be null.");
+        Assert.isTrue(!path.isEmpty(), "IDs mustn't be empty.");
+
+        if (loader == null) {
+            select(path);
+        } else {
+            selection = path;
+        }
+    }
+
+    /**
+     * Returns count of changes of data. Saving of data remembers count of changes, so changes made during saving aren't marked as saved.
+     *
+     * @return count of changes of data
+     */
+    public long getChanges() {
+        return changes;
+    }
+
+    /**
+     * Marks data as saved after saving is finished. Changes made after saving was started remain unsaved.
+     *
+     * @param count count of changes of data when saving was started
      */
-    public void save() {
-        saved = true;
+    public void save(final long count) {
+        final boolean saved = isSaved();
+        savedChanges = Math.max(savedChanges, count);
+        firePropertyChange(SAVED_PROPERTY, saved, isSaved());
     }
 
     /**
@@ -203,7 +332,17 @@ public abstract class AbstractOverviewDataPanel<T> extends JPanel {
      * @return true if data is saved
      */
     public boolean isSaved() {
-        return saved;
+        return savedChanges == changes;
+    }
+
+    @Override
+    public void paint(final Graphics g) {
+        super.paint(g);
+
+        if (StartupTimeline.isRecording() && loader == null) {
+            StartupTimeline.mark(getClass().getSimpleName() + " first paint");
+            StartupTimeline.finish();
+        }
     }
 
     /**
@@ -235,14 +374,14 @@ public abstract class AbstractOverviewDataPanel<T> extends JPanel {
     protected abstract void updateData(T data);
 
     /**
-     * Removes data.
+     * Removes data. It is called outside of event dispatch thread in batch of changes of facades.
      *
      * @param data data
      */
     protected abstract void removeData(T data);
 
     /**
-     * Duplicates data.
+     * Duplicates data. It is called outside of event dispatch thread in batch of changes of facades.
      *
      * @param data data
      */
@@ -262,6 +401,14 @@ public abstract class AbstractOverviewDataPanel<T> extends JPanel {
      */
     protected abstract void moveDownData(T data);
 
+    /**
+     * Updates position of data moved by drag and drop. It is called outside of event dispatch thread in batch of changes of facades. Only position
+     * of stored data is changed - see {@link #getPositionData(Result, Object)}.
+     *
+     * @param data data with new position
+     */
+    protected abstract void updatePosition(T data);
+
     /**
      * Returns data panel.
      *
@@ -278,16 +425,53 @@ public abstract class AbstractOverviewDataPanel<T> extends JPanel {
      */
     protected abstract void updateDataOnChange(JTabbedPane dataPanel, T data);
 
+    /**
+     * Adds item to popup menu.
+     *
+     * @param menuItem menu item
+     * @throws IllegalArgumentException if menu item is null
+     */
+    protected final void addPopupMenuItem(final JMenuItem menuItem) {
+        Assert.notNull(menuItem, "Menu item mustn't be null.");
+
+        popupMenu.add(menuItem);
+    }
+
+    /**
+     * Loads data again after data were added outside of panel.
+     */
+    protected final void reloadAddedData() {
+        updateState();
+        load(true, true, null);
+    }
+
+    /**
+     * Returns copy of stored data with position of moved data, so updating of position doesn't rewrite other properties of stored data by
+     * properties of data in list.
+     *
+     * @param result result with stored data
+     * @param data   data with new position
+     * @return copy of stored data with position of moved data
+     * @throws IllegalArgumentException if stored data can't be got
+     */
+    protected final T getPositionData(final Result<T> result, final T data) {
+        if (Status.OK != result.getStatus()) {
+            throw new IllegalArgumentException("Can't get data. " + result);
+        }
+
+        final T storedData = FacadeCache.copy(result.getData());
+        storedData.setPosition(data.getPosition());
+        return storedData;
+    }
+
     /**
      * Updates model.
      *
      * @param data data
      */
     protected void updateModel(final T data) {
-        listDataModel.update();
-        list.updateUI();
-        getTabbedPanelDataPanel().updateData(data);
-        updateState();
+        updateListData(data);
+        load(false, true, null);
     }
 
     /**
@@ -319,13 +503,39 @@ public abstract class AbstractOverviewDataPanel<T> extends JPanel {
         moveDownPopupMenuItem.setEnabled(false);
         moveDownPopupMenuItem.addActionListener(e -> moveDownAction());
 
+        filterField.setToolTipText("Filter");
+        filterField.getDocument().addDocumentListener(new DocumentListener() {
+
+            @Override
+            public void insertUpdate(final DocumentEvent e) {
+                filterAction();
+            }
+
+            @Override
+            public void removeUpdate(final DocumentEvent e) {
+                filterAction();
+            }
+
+            @Override
+            public void changedUpdate(final DocumentEvent e) {
+                filterAction();
+            }
+
+        });
+
         list.setModel(listDataModel);
-        list.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        list.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
+        list.setDragEnabled(true);
+        list.setDropMode(DropMode.INSERT);
+        list.setTransferHandler(new MoveTransferHandler());
         list.setComponentPopupMenu(popupMenu);
         list.getSelectionModel().addListSelectionListener(e -> listValueChangedAction());
 
         initStats();
 
+        loadingProgressBar.setIndeterminate(true);
+        loadingProgressBar.setVisible(false);
+
         final GroupLayout layout = new GroupLayout(this);
         setLayout(layout);
         layout.setHorizontalGroup(createHorizontalLayout(layout));
@@ -366,10 +576,9 @@ public abstract class AbstractOverviewDataPanel<T> extends JPanel {
             dialog.setVisible(true);
             if (dialog.getReturnStatus() == DialogResult.OK) {
                 addData(dialog.getData());
-                listDataModel.update();
-                list.updateUI();
-                list.setSelectedIndex(list.getModel().getSize() - 1);
+                filterField.setText(null);
                 updateState();
+                load(true, false, 1, () -> list.setSelectedIndex(list.getModel().getSize() - 1));
             }
         });
     }
@@ -379,37 +588,69 @@ public abstract class AbstractOverviewDataPanel<T> extends JPanel {
      */
     private void updateAction() {
         SwingUtilities.invokeLater(() -> {
-            final AbstractInfoDialog<T> dialog = getInfoDialog(false, listDataModel.getObjectAt(list.getSelectedIndex()));
+            final AbstractInfoDialog<T> dialog = getInfoDialog(false, FacadeCache.copy(listDataModel.getObjectAt(list.getSelectedIndex())));
             dialog.setVisible(true);
             if (dialog.getReturnStatus() == DialogResult.OK) {
                 final T data = dialog.getData();
                 updateData(data);
-                updateModel(data);
+                updateListData(data);
             }
         });
     }
 
     /**
-     * Performs action for button Remove.
+     * Performs action for button Remove. All selected data are removed from list and stats immediately and they are removed from facade in one
+     * batch in background. Change of data is announced and stats are loaded once after all data are removed.
      */
     private void removeAction() {
-        removeData(listDataModel.getObjectAt(list.getSelectedIndex()));
-        listDataModel.update();
-        list.updateUI();
+        final int[] indexes = list.getSelectedIndices();
+        final List<T> removedData = getSelectedData(indexes);
+        for (final T data : removedData) {
+            movedData.remove(data.getId());
+        }
         list.clearSelection();
-        updateState();
+        listDataModel.remove(indexes);
+        if (statsTableDataModel != null) {
+            statsTableDataModel.dataRemoved(removedData);
+        }
+        new BatchWorker(() -> removedData.forEach(this::removeData), () -> {
+            updateState();
+            load(false, true, null);
+        }).execute();
     }
 
     /**
-     * Performs action for button Duplicate.
+     * Performs action for button Duplicate. All selected data are duplicated in one batch in background. Change of data is announced and list and
+     * stats are loaded once after all data are duplicated.
      */
     private void duplicateAction() {
-        final int index = list.getSelectedIndex();
-        duplicatesData(listDataModel.getObjectAt(index));
-        listDataModel.update();
-        list.updateUI();
-        list.setSelectedIndex(index + 1);
-        updateState();
+        final List<T> duplicatedData = getSelectedData(list.getSelectedIndices());
+        filterField.setText(null);
+        new BatchWorker(() -> duplicatedData.forEach(this::duplicatesData), () -> {
+            updateState();
+            load(true, true, () -> {
+                final int[] indexes = new int[duplicatedData.size()];
+                for (int i = 0; i < indexes.length; i++) {
+                    indexes[i] = listDataModel.indexOf(duplicatedData.get(i)) + 1;
+                }
+                list.setSelectedIndices(indexes);
+            });
+        }).execute();
+    }
+
+    /**
+     * Returns data at the specified indexes.
+     *
+     * @param indexes indexes of data
+     * @return data at the specified indexes
+     */
+    private List<T> getSelectedData(final int[] indexes) {
+        final List<T> result = new ArrayList<>(indexes.length);
+        for (final int index : indexes) {
+            result.add(listDataModel.getObjectAt(index));
+        }
+
+        return result;
     }
 
     /**
@@ -418,13 +659,13 @@ public abstract class AbstractOverviewDataPanel<T> extends JPanel {
     private void moveUpAction() {
         final int index = list.getSelectedIndex();
         moveUpData(listDataModel.getObjectAt(index));
-        listDataModel.update();
-        list.updateUI();
+        listDataModel.moveUp(index);
         list.setSelectedIndex(index - 1);
-        saved = false;
+        change();
         if (statsTableDataModel == null) {
             firePropertyChange(UPDATE_PROPERTY, false, true);
         }
+        load(false, false, null);
     }
 
     /**
@@ -433,13 +674,68 @@ public abstract class AbstractOverviewDataPanel<T> extends JPanel {
     private void moveDownAction() {
         final int index = list.getSelectedIndex();
         moveDownData(listDataModel.getObjectAt(index));
-        listDataModel.update();
-        list.updateUI();
+        listDataModel.moveDown(index);
         list.setSelectedIndex(index + 1);
-        saved = false;
+        change();
         if (statsTableDataModel == null) {
             firePropertyChange(UPDATE_PROPERTY, false, true);
         }
+        load(false, false, null);
+    }
+
+    /**
+     * Performs action for moving data by drag and drop. Moved data get positions of data in moved range of list. Positions are updated in
+     * background.
+     *
+     * @param indexes ascending indexes of moved data
+     * @param target  index of data, before which data are moved, or count of data for moving to the end
+     */
+    private void moveAction(final int[] indexes, final int target) {
+        final int from = Math.min(indexes[0], target);
+        final int to = Math.max(indexes[indexes.length - 1] + 1, target);
+        final int[] positions = new int[to - from];
+        for (int i = from; i < to; i++) {
+            positions[i - from] = listDataModel.getObjectAt(i).getPosition();
+        }
+
+        final int index = listDataModel.move(indexes, target);
+        boolean moved = false;
+        for (int i = from; i < to; i++) {
+            if (listDataModel.getObjectAt(i).getPosition() != positions[i - from]) {
+                final T data = FacadeCache.copy(listDataModel.getObjectAt(i));
+                data.setPosition(positions[i - from]);
+                listDataModel.update(i, data);
+                movedData.put(data.getId(), data);
+                moved = true;
+            }
+        }
+        list.setSelectionInterval(index, index + indexes.length - 1);
+        if (!moved) {
+            return;
+        }
+
+        change();
+        if (statsTableDataModel == null) {
+            firePropertyChange(UPDATE_PROPERTY, false, true);
+        }
+        if (positionUpdater == null) {
+            updatePositions();
+        }
+    }
+
+    /**
+     * Starts updating of positions of moved data in background. If there aren't moved data, then data loaded during updating are loaded again.
+     */
+    private void updatePositions() {
+        if (movedData.isEmpty()) {
+            load(loadedDuringUpdate, false, null);
+            loadedDuringUpdate = false;
+            return;
+        }
+
+        positionUpdater = new PositionUpdater(new ArrayList<>(movedData.values()));
+        movedData.clear();
+        positionUpdater.execute();
     }
 
     /**
@@ -450,25 +746,83 @@ public abstract class AbstractOverviewDataPanel<T> extends JPanel {
         final int selectedRow = list.getSelectedIndex();
         final boolean validRowIndex = selectedRow >= 0;
         final boolean validSelection = isSelectedRow && validRowIndex;
-        removePopupMenuItem.setEnabled(validSelection);
+        removePopupMenuItem.setEnabled(validRowIndex);
         updatePopupMenuItem.setEnabled(validSelection);
-        duplicatePopupMenuItem.setEnabled(validSelection);
+        duplicatePopupMenuItem.setEnabled(validRowIndex);
         tabbedPane.removeAll();
         if (validSelection) {
             final T data = listDataModel.getObjectAt(selectedRow);
             tabbedPane.add("Data", getDataPanel(data));
             updateDataOnChange(tabbedPane, data);
         }
-        if (isSelectedRow && selectedRow > 0) {
-            moveUpPopupMenuItem.setEnabled(true);
-        } else {
-            moveUpPopupMenuItem.setEnabled(false);
+        updateMovePopupMenuItems();
+    }
+
+    /**
+     * Performs action for change of filter. Selected data stay selected if they are shown.
+     */
+    private void filterAction() {
+        final int selectedRow = list.getSelectedIndex();
+        final T selectedData = selectedRow >= 0 ? listDataModel.getObjectAt(selectedRow) : null;
+        listDataModel.setFilter(filterField.getText());
+        if (selectedData != null) {
+            final int index = listDataModel.indexOf(selectedData);
+            if (index < 0) {
+                list.clearSelection();
+            } else if (index != list.getSelectedIndex()) {
+                list.setSelectedIndex(index);
+            }
         }
-        if (validSelection && selectedRow < list.getModel().getSize() - 1) {
-            moveDownPopupMenuItem.setEnabled(true);
-        } else {
-            moveDownPopupMenuItem.setEnabled(false);
+        updateMovePopupMenuItems();
+    }
+
+    /**
+     * Selects loaded data.
+     *
+     * @param path IDs of data and of nested data
+     */
+    private void select(final List<Integer> path) {
+        filterField.setText(null);
+        int index = -1;
+        for (int i = 0; i < listDataModel.getSize() && index < 0; i++) {
+            if (path.get(0).equals(listDataModel.getObjectAt(i).getId())) {
+                index = i;
+            }
+        }
+        if (index < 0) {
+            return;
         }
+
+        list.setSelectedIndex(index);
+        list.ensureIndexIsVisible(index);
+        if (path.size() > 1) {
+            for (int i = 0; i < tabbedPane.getTabCount(); i++) {
+                if (tabbedPane.getComponentAt(i) instanceof AbstractOverviewDataPanel) {
+                    tabbedPane.setSelectedIndex(i);
+                    ((AbstractOverviewDataPanel<?>) tabbedPane.getComponentAt(i)).selectData(path.subList(1, path.size()));
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates state of menu items for moving data. Data can't be moved while list is filtered.
+     */
+    private void updateMovePopupMenuItems() {
+        final boolean isSelectedRow = list.getSelectedIndices().length == 1 && !listDataModel.isFiltered();
+        final int selectedRow = list.getSelectedIndex();
+        moveUpPopupMenuItem.setEnabled(isSelectedRow && selectedRow > 0);
+        moveDownPopupMenuItem.setEnabled(isSelectedRow && selectedRow >= 0 && selectedRow < list.getModel().getSize() - 1);
+    }
+
+    /**
+     * Counts change of data. Listeners are notified, if data were saved before change.
+     */
+    private void change() {
+        final boolean saved = isSaved();
+        changes++;
+        firePropertyChange(SAVED_PROPERTY, saved, isSaved());
     }
 
     /**
@@ -478,12 +832,128 @@ public abstract class AbstractOverviewDataPanel<T> extends JPanel {
         if (statsTableDataModel == null) {
             firePropertyChange(UPDATE_PROPERTY, false, true);
         } else {
-            statsTableDataModel.update();
-            statsTable.updateUI();
-            saved = false;
+            change();
         }
     }
 
+    /**
+     * Updates data in list, data panel and stats.
+     *
+     * @param data data
+     */
+    private void updateListData(final T data) {
+        listDataModel.update(data);
+        getTabbedPanelDataPanel().updateData(data);
+        if (statsTableDataModel != null) {
+            statsTableDataModel.dataUpdated(data);
+        }
+        updateState();
+    }
+
+    /**
+     * Loads data in background. Loading of data, which haven't been finished yet, is cancelled, its data are discarded and they are loaded again
+     * together with requested data. Actions and added data of cancelled loading are kept and they are performed after requested data are loaded.
+     * <p>
+     * If data and stats are loaded, then stats are recomputed from loaded data. If only stats are loaded, then only nested stats are loaded.
+     *
+     * @param reloadData  true if data should be loaded
+     * @param reloadStats true if stats should be loaded
+     * @param afterLoad   action performed in event dispatch thread after data are loaded, can be null
+     */
+    private void load(final boolean reloadData, final boolean reloadStats, final Runnable afterLoad) {
+        load(reloadData, reloadStats, 0, afterLoad);
+    }
+
+    /**
+     * Loads data in background. Loading of data, which haven't been finished yet, is cancelled, its data are discarded and they are loaded again
+     * together with requested data. Actions and added data of cancelled loading are kept and they are performed after requested data are loaded.
+     * <p>
+     * If data and stats are loaded, then stats are recomputed from loaded data. If only stats are loaded, then only nested stats are loaded. If stats
+     * aren't recomputed, then stats of added data (last data in loaded data) are added to stats.
+     *
+     * @param reloadData  true if data should be loaded
+     * @param reloadStats true if stats should be loaded
+     * @param addedCount  count of data added at the end of data since last loading
+     * @param afterLoad   action performed in event dispatch thread after data are loaded, can be null
+     */
+    private void load(final boolean reloadData, final boolean reloadStats, final int addedCount, final Runnable afterLoad) {
+        boolean data = reloadData;
+        boolean stats = reloadStats && statsTableDataModel != null && (reloadData || statsTableDataModel.hasNestedStats());
+        int added = addedCount;
+        Runnable action = afterLoad;
+        if (loader != null) {
+            loader.cancel(false);
+            data |= loader.reloadData;
+            stats |= loader.reloadStats;
+            added += loader.addedCount;
+            action = chain(loader.afterLoad, afterLoad);
+        }
+        if (!data && !stats) {
+            if (action != null) {
+                action.run();
+            }
+            return;
+        }
+
+        loader = new DataLoader(data, stats, added, action);
+        setLoading(true);
+        loader.execute();
+    }
+
+    /**
+     * Returns action, which performs first and second action.
+     *
+     * @param first  first action, can be null
+     * @param second second action, can be null
+     * @return action, which performs first and second action, null if both actions are null
+     */
+    private static Runnable chain(final Runnable first, final Runnable second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+
+        return () -> {
+            first.run();
+            second.run();
+        };
+    }
+
+    /**
+     * Sets size of cells in list for count of data. Large lists have fixed size of cells.
+     *
+     * @param size count of data
+     */
+    private void updateCellSize(final int size) {
+        final boolean large = size >= Integer.getInteger(LARGE_LIST_SIZE_PROPERTY, DEFAULT_LARGE_LIST_SIZE);
+        if (large == (list.getFixedCellHeight() >= 0)) {
+            return;
+        }
+
+        if (large) {
+            final Insets insets = listScrollPane.getInsets();
+            final int scrollBarWidth = listScrollPane.getVerticalScrollBar().getPreferredSize().width;
+            final Component cell = list.getCellRenderer().getListCellRendererComponent(list, CELL_PROTOTYPE, 0, false, false);
+            list.setFixedCellHeight(cell.getPreferredSize().height);
+            list.setFixedCellWidth(HORIZONTAL_SCROLL_PANE_SIZE - insets.left - insets.right - scrollBarWidth);
+        } else {
+            list.setFixedCellHeight(-1);
+            list.setFixedCellWidth(-1);
+        }
+    }
+
+    /**
+     * Sets state of loading data.
+     *
+     * @param loading true if data are loading
+     */
+    private void setLoading(final boolean loading) {
+        loadingProgressBar.setVisible(loading);
+        setCursor(loading ? Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR) : null);
+    }
+
     /**
      * Returns data panel in tabbed pane.
      *
@@ -501,8 +971,13 @@ public abstract class AbstractOverviewDataPanel<T> extends JPanel {
      * @return horizontal layout of components
      */
     private GroupLayout.Group createHorizontalLayout(final GroupLayout layout) {
-        final GroupLayout.Group data = layout.createSequentialGroup()
+        final GroupLayout.Group listData = layout.createParallelGroup()
+            .addComponent(filterField, HORIZONTAL_SCROLL_PANE_SIZE, HORIZONTAL_SCROLL_PANE_SIZE, HORIZONTAL_SCROLL_PANE_SIZE)
             .addComponent(listScrollPane, HORIZONTAL_SCROLL_PANE_SIZE, HORIZONTAL_SCROLL_PANE_SIZE, HORIZONTAL_SCROLL_PANE_SIZE)
+            .addComponent(loadingProgressBar, HORIZONTAL_SCROLL_PANE_SIZE, HORIZONTAL_SCROLL_PANE_SIZE, HORIZONTAL_SCROLL_PANE_SIZE);
+
+        final GroupLayout.Group data = layout.createSequentialGroup()
+            .addGroup(listData)
             .addGap(HORIZONTAL_GAP_SIZE)
             .addComponent(tabbedPane, GroupLayout.DEFAULT_SIZE, GroupLayout.DEFAULT_SIZE, Short.MAX_VALUE);
 
@@ -522,8 +997,14 @@ public abstract class AbstractOverviewDataPanel<T> extends JPanel {
      * @return vertical layout of components
      */
     private GroupLayout.Group createVerticalLayout(final GroupLayout layout) {
-        final GroupLayout.Group data = layout.createParallelGroup()
+        final GroupLayout.Group listData = layout.createSequentialGroup()
+            .addComponent(filterField, CatalogSwingConstants.VERTICAL_COMPONENT_SIZE, CatalogSwingConstants.VERTICAL_COMPONENT_SIZE,
+                CatalogSwingConstants.VERTICAL_COMPONENT_SIZE)
             .addComponent(listScrollPane, VERTICAL_DATA_COMPONENT_SIZE, VERTICAL_DATA_COMPONENT_SIZE, Short.MAX_VALUE)
+            .addComponent(loadingProgressBar, GroupLayout.PREFERRED_SIZE, GroupLayout.PREFERRED_SIZE, GroupLayout.PREFERRED_SIZE);
+
+        final GroupLayout.Group data = layout.createParallelGroup()
+            .addGroup(listData)
             .addComponent(tabbedPane, VERTICAL_DATA_COMPONENT_SIZE, VERTICAL_DATA_COMPONENT_SIZE, Short.MAX_VALUE);
 
         if (statsTableDataModel == null) {
@@ -536,4 +1017,268 @@ public abstract class AbstractOverviewDataPanel<T> extends JPanel {
         }
     }
 
+    /**
+     * A class represents handler for moving of selected data by drag and drop in list.
+     */
+    private final class MoveTransferHandler extends TransferHandler {
+
+        /**
+         * SerialVersionUID
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Indexes of dragged data - null if no data are dragged
+         */
+        private int[] draggedIndexes;
+
+        @Override
+        public int getSourceActions(final JComponent c) {
+            return MOVE;
+        }
+
+        @Override
+        protected Transferable createTransferable(final JComponent c) {
+            draggedIndexes = list.getSelectedIndices();
+            return new StringSelection(list.getSelectedValuesList().toString());
+        }
+
+        @Override
+        public boolean canImport(final TransferSupport support) {
+            return support.isDrop() && support.getComponent() == list && draggedIndexes != null && draggedIndexes.length > 0
+                && !listDataModel.isFiltered();
+        }
+
+        @Override
+        public boolean importData(final TransferSupport support) {
+            if (!canImport(support)) {
+                return false;
+            }
+
+            moveAction(draggedIndexes, ((JList.DropLocation) support.getDropLocation()).getIndex());
+            return true;
+        }
+
+        @Override
+        protected void exportDone(final JComponent source, final Transferable data, final int action) {
+            draggedIndexes = null;
+        }
+
+    }
+
+    /**
+     * A class represents loader of data in background.
+     */
+    private final class DataLoader extends SwingWorker<Void, Void> {
+
+        /**
+         * True if data should be loaded
+         */
+        private final boolean reloadData;
+
+        /**
+         * True if stats should be loaded
+         */
+        private final boolean reloadStats;
+
+        /**
+         * Count of data added at the end of data since last loading
+         */
+        private final int addedCount;
+
+        /**
+         * Action performed after data are loaded
+         */
+        private final Runnable afterLoad;
+
+        /**
+         * Loaded data
+         */
+        private List<T> data;
+
+        /**
+         * Index for filtering of loaded data
+         */
+        private FilterIndex index;
+
+        /**
+         * Loaded nested stats
+         */
+        private int[] stats;
+
+        /**
+         * Creates a new instance of DataLoader.
+         *
+         * @param reloadData  true if data should be loaded
+         * @param reloadStats true if stats should be loaded
+         * @param addedCount  count of data added at the end of data since last loading
+         * @param afterLoad   action performed after data are loaded
+         */
+        DataLoader(final boolean reloadData, final boolean reloadStats, final int addedCount, final Runnable afterLoad) {
+            this.reloadData = reloadData;
+            this.reloadStats = reloadStats;
+            this.addedCount = addedCount;
+            this.afterLoad = afterLoad;
+        }
+
+        @Override
+        protected Void doInBackground() {
+            if (reloadData) {
+                data = listDataModel.loadData();
+                index = listDataModel.createIndex(data);
+            }
+            if (reloadStats) {
+                stats = statsTableDataModel.loadNestedStats();
+            }
+
+            return null;
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled() || loader != this) {
+                return;
+            }
+
+            loader = null;
+            setLoading(false);
+            try {
+                get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Loading of data was interrupted.", ex);
+            } catch (final ExecutionException ex) {
+                if (ex.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) ex.getCause();
+                }
+                throw new IllegalStateException("Can't load data.", ex.getCause());
+            }
+
+            if (data != null) {
+                updateCellSize(data.size());
+                listDataModel.setData(data, index);
+                loadedDuringUpdate |= positionUpdater != null;
+            }
+            if (stats != null) {
+                if (data == null) {
+                    statsTableDataModel.setNestedStats(stats);
+                } else {
+                    statsTableDataModel.setStats(data, stats);
+                }
+            }
+            if (statsTableDataModel != null && data != null && stats == null) {
+                for (int i = Math.max(data.size() - addedCount, 0); i < data.size(); i++) {
+                    statsTableDataModel.dataAdded(data.get(i));
+                }
+            }
+            if (afterLoad != null) {
+                afterLoad.run();
+            }
+            if (selection != null) {
+                final List<Integer> path = selection;
+                selection = null;
+                select(path);
+            }
+        }
+
+    }
+
+    /**
+     * A class represents updater of positions of moved data in background. Positions are updated in one batch of changes of facades, so cached
+     * results are invalidated once.
+     */
+    private final class PositionUpdater extends SwingWorker<Void, Void> {
+
+        /**
+         * Data with new positions
+         */
+        private final List<T> data;
+
+        /**
+         * Creates a new instance of PositionUpdater.
+         *
+         * @param data data with new positions
+         */
+        PositionUpdater(final List<T> data) {
+            this.data = data;
+        }
+
+        @Override
+        protected Void doInBackground() {
+            FacadeCache.runPositionsBatch(() -> data.forEach(AbstractOverviewDataPanel.this::updatePosition));
+
+            return null;
+        }
+
+        @Override
+        protected void done() {
+            positionUpdater = null;
+            try {
+                get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Updating of positions was interrupted.", ex);
+            } catch (final ExecutionException ex) {
+                if (ex.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) ex.getCause();
+                }
+                throw new IllegalStateException("Can't update positions.", ex.getCause());
+            }
+            updatePositions();
+        }
+
+    }
+
+    /**
+     * A class represents performer of changes of data in background. Changes are performed in one batch of changes of facades, so cached results
+     * are invalidated once and listeners are notified after all changes are performed.
+     */
+    private final class BatchWorker extends SwingWorker<Void, Void> {
+
+        /**
+         * Changes of data
+         */
+        private final Runnable changes;
+
+        /**
+         * Action performed after changes of data
+         */
+        private final Runnable afterChanges;
+
+        /**
+         * Creates a new instance of BatchWorker.
+         *
+         * @param changes      changes of data
+         * @param afterChanges action performed after changes of data
+         */
+        BatchWorker(final Runnable changes, final Runnable afterChanges) {
+            this.changes = changes;
+            this.afterChanges = afterChanges;
+        }
+
+        @Override
+        protected Void doInBackground() {
+            FacadeCache.runBatch(changes);
+
+            return null;
+        }
+
+        @Override
+        protected void done() {
+            try {
+                get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Changing of data was interrupted.", ex);
+            } catch (final ExecutionException ex) {
+                if (ex.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) ex.getCause();
+                }
+                throw new IllegalStateException("Can't change data.", ex.getCause());
+            }
+            afterChanges.run();
+        }
+
+    }
+
 }
@@ -1,13 +1,29 @@
 package cz.vhromada.catalog.gui.common;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import javax.swing.table.AbstractTableModel;
 
+import cz.vhromada.catalog.monitoring.StartupTimeline;
+import cz.vhromada.common.Movable;
+
+import org.springframework.util.Assert;
+
 /**
  * An abstract class represents data model for table with stats.
+ * <p>
+ * Stats are kept as running totals of stats of each data. Totals are recomputed from all data by {@link #setStats(List, int[])} and after that
+ * they are changed only by stats of added, updated or removed data.
+ * <p>
+ * Stats, which can't be computed from data (e.g. count of seasons of shows), are nested stats. They are loaded by {@link #loadNestedStats()},
+ * which can be called outside of event dispatch thread, and they are set to model by {@link #setNestedStats(int[])} in event dispatch thread.
  *
+ * @param <T> type of data
  * @author Vladimir Hromada
  */
-public abstract class AbstractStatsTableDataModel extends AbstractTableModel {
+public abstract class AbstractStatsTableDataModel<T extends Movable> extends AbstractTableModel {
 
     /**
      * SerialVersionUID
@@ -15,8 +31,201 @@ public abstract class AbstractStatsTableDataModel extends AbstractTableModel {
     private static final long serialVersionUID = 1L;
 
     /**
-     * Updates model.
+     * Stats of data - ID of data to stats of data
+     */
+    private final Map<Integer, int[]> dataStats = new HashMap<>();
+
+    /**
+     * Totals of stats of data - null if stats haven't been loaded yet
+     */
+    private int[] totalStats;
+
+    /**
+     * Nested stats
+     */
+    private int[] nestedStats;
+
+    @Override
+    public final Object getValueAt(final int rowIndex, final int columnIndex) {
+        if (totalStats == null) {
+            return null;
+        }
+
+        return getValue(columnIndex);
+    }
+
+    /**
+     * Returns loaded nested stats.
+     *
+     * @return loaded nested stats
+     */
+    public final int[] loadNestedStats() {
+        final long start = System.nanoTime();
+        final int[] result = getNestedStats();
+        StartupTimeline.record(getClass().getSimpleName() + ".update", start);
+
+        return result;
+    }
+
+    /**
+     * Sets stats. Totals are recomputed from all data.
+     *
+     * @param data        data
+     * @param nestedStats nested stats
+     * @throws IllegalArgumentException if data are null
+     *                                  or nested stats are null
+     */
+    public final void setStats(final List<T> data, final int[] nestedStats) {
+        Assert.notNull(data, "Data mustn't be null.");
+        Assert.notNull(nestedStats, "Nested stats mustn't be null.");
+
+        dataStats.clear();
+        totalStats = new int[getColumnCount()];
+        for (final T dataObject : data) {
+            addStats(dataObject);
+        }
+        this.nestedStats = nestedStats.clone();
+        fireTableDataChanged();
+    }
+
+    /**
+     * Sets nested stats.
+     *
+     * @param nestedStats nested stats
+     * @throws IllegalArgumentException if nested stats are null
+     */
+    public final void setNestedStats(final int[] nestedStats) {
+        Assert.notNull(nestedStats, "Nested stats mustn't be null.");
+
+        this.nestedStats = nestedStats.clone();
+        fireTableRowsUpdated(0, getRowCount() - 1);
+    }
+
+    /**
+     * Adds stats of data. If stats of data with same ID have been already added, then they are replaced.
+     *
+     * @param data data
+     * @throws IllegalArgumentException if data are null
+     */
+    public final void dataAdded(final T data) {
+        Assert.notNull(data, "Data mustn't be null.");
+
+        if (totalStats != null) {
+            subtractStats(data);
+            addStats(data);
+            fireTableRowsUpdated(0, getRowCount() - 1);
+        }
+    }
+
+    /**
+     * Updates stats of data.
+     *
+     * @param data data
+     * @throws IllegalArgumentException if data are null
+     */
+    public final void dataUpdated(final T data) {
+        dataAdded(data);
+    }
+
+    /**
+     * Removes stats of data.
+     *
+     * @param data data
+     * @throws IllegalArgumentException if data are null
+     */
+    public final void dataRemoved(final T data) {
+        Assert.notNull(data, "Data mustn't be null.");
+
+        if (totalStats != null) {
+            subtractStats(data);
+            fireTableRowsUpdated(0, getRowCount() - 1);
+        }
+    }
+
+    /**
+     * Removes stats of more data. Table is changed only once.
+     *
+     * @param data data
+     * @throws IllegalArgumentException if data are null
+     */
+    public final void dataRemoved(final List<T> data) {
+        Assert.notNull(data, "Data mustn't be null.");
+
+        if (totalStats != null) {
+            data.forEach(this::subtractStats);
+            fireTableRowsUpdated(0, getRowCount() - 1);
+        }
+    }
+
+    /**
+     * Returns true if there are nested stats.
+     *
+     * @return true if there are nested stats
+     */
+    public boolean hasNestedStats() {
+        return false;
+    }
+
+    /**
+     * Returns stats with specified index.
+     *
+     * @param index index of stats
+     * @return stats with specified index
+     */
+    protected final int getStat(final int index) {
+        return totalStats[index] + nestedStats[index];
+    }
+
+    /**
+     * Returns value of column.
+     *
+     * @param columnIndex index of column
+     * @return value of column
+     */
+    protected abstract Object getValue(int columnIndex);
+
+    /**
+     * Returns stats of data. Stats have value for each column, nested stats are 0.
+     *
+     * @param data data
+     * @return stats of data
+     */
+    protected abstract int[] getStats(T data);
+
+    /**
+     * Returns nested stats from facade. Nested stats have value for each column, stats of data are 0.
+     *
+     * @return nested stats from facade
+     */
+    protected int[] getNestedStats() {
+        return new int[getColumnCount()];
+    }
+
+    /**
+     * Adds stats of data to totals.
+     *
+     * @param data data
+     */
+    private void addStats(final T data) {
+        final int[] stats = getStats(data);
+        dataStats.put(data.getId(), stats);
+        for (int i = 0; i < stats.length; i++) {
+            totalStats[i] += stats[i];
+        }
+    }
+
+    /**
+     * Subtracts stats of data from totals.
+     *
+     * @param data data
      */
-    public abstract void update();
+    private void subtractStats(final T data) {
+        final int[] stats = dataStats.remove(data.getId());
+        if (stats != null) {
+            for (int i = 0; i < stats.length; i++) {
+                totalStats[i] -= stats[i];
+            }
+        }
+    }
 
 }
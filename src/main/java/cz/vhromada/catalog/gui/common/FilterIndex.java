@@ -0,0 +1,296 @@
+package cz.vhromada.catalog.gui.common;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import org.springframework.util.Assert;
+
+/**
+ * A class represents index for filtering of list with data by text.
+ * <p>
+ * Index contains display values of data and normalized display values of data (lowercased and without diacritics, e.g. <code>Čtyři</code> is
+ * <code>ctyri</code>) in same order as data, so it is updated by changes of data without computing all display values again. Computing and
+ * normalizing of display values are the slowest parts of filtering and painting of list, so index can be created outside of event dispatch thread.
+ * <p>
+ * Index contains indexes of display values sorted by normalized display values too, so display values starting with text are found by binary
+ * search. Display values containing text in the middle can't be found in sorted values, so they are searched by scanning of candidates.
+ *
+ * @author Vladimir Hromada
+ */
+public final class FilterIndex {
+
+    /**
+     * Pattern for diacritical marks
+     */
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    /**
+     * Display values
+     */
+    private final List<String> displayValues;
+
+    /**
+     * Normalized display values
+     */
+    private final List<String> values;
+
+    /**
+     * Indexes of display values sorted by normalized display values
+     */
+    private int[] sorted;
+
+    /**
+     * Creates a new instance of FilterIndex.
+     *
+     * @param displayValues display values
+     * @throws IllegalArgumentException if display values are null
+     */
+    public FilterIndex(final List<String> displayValues) {
+        Assert.notNull(displayValues, "Display values mustn't be null.");
+
+        this.displayValues = new ArrayList<>(displayValues);
+        this.values = new ArrayList<>(displayValues.size());
+        for (final String displayValue : displayValues) {
+            values.add(normalize(displayValue));
+        }
+        this.sorted = sort(values);
+    }
+
+    /**
+     * Returns empty index.
+     *
+     * @return empty index
+     */
+    public static FilterIndex empty() {
+        return new FilterIndex(Collections.emptyList());
+    }
+
+    /**
+     * Returns normalized text - lowercased text without diacritics.
+     *
+     * @param text text
+     * @return normalized text
+     */
+    public static String normalize(final String text) {
+        if (text == null) {
+            return "";
+        }
+
+        return DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns count of values.
+     *
+     * @return count of values
+     */
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * Returns display value at the specified index.
+     *
+     * @param index the index
+     * @return display value at the specified index
+     */
+    public String getDisplayValue(final int index) {
+        return displayValues.get(index);
+    }
+
+    /**
+     * Sets display value at the specified index.
+     *
+     * @param index        the index
+     * @param displayValue display value
+     */
+    public void set(final int index, final String displayValue) {
+        final String value = normalize(displayValue);
+        displayValues.set(index, displayValue);
+        if (value.equals(values.get(index))) {
+            return;
+        }
+
+        final int[] newSorted = new int[sorted.length];
+        int size = 0;
+        for (final int sortedIndex : sorted) {
+            if (sortedIndex != index) {
+                newSorted[size] = sortedIndex;
+                size++;
+            }
+        }
+        values.set(index, value);
+        final int position = lowerBound(newSorted, size, value);
+        System.arraycopy(newSorted, position, newSorted, position + 1, size - position);
+        newSorted[position] = index;
+        sorted = newSorted;
+    }
+
+    /**
+     * Removes display value at the specified index.
+     *
+     * @param index the index
+     */
+    public void remove(final int index) {
+        displayValues.remove(index);
+        values.remove(index);
+
+        final int[] newSorted = new int[sorted.length - 1];
+        int size = 0;
+        for (final int sortedIndex : sorted) {
+            if (sortedIndex != index) {
+                newSorted[size] = sortedIndex > index ? sortedIndex - 1 : sortedIndex;
+                size++;
+            }
+        }
+        sorted = newSorted;
+    }
+
+    /**
+     * Swaps display values at the specified indexes.
+     *
+     * @param index1 the first index
+     * @param index2 the second index
+     */
+    public void swap(final int index1, final int index2) {
+        Collections.swap(displayValues, index1, index2);
+        Collections.swap(values, index1, index2);
+        for (int i = 0; i < sorted.length; i++) {
+            if (sorted[i] == index1) {
+                sorted[i] = index2;
+            } else if (sorted[i] == index2) {
+                sorted[i] = index1;
+            }
+        }
+    }
+
+    /**
+     * Changes order of display values. Display values, which aren't in new order, are removed.
+     *
+     * @param order indexes of display values in new order
+     */
+    public void reorder(final int[] order) {
+        final int[] newIndexes = new int[values.size()];
+        Arrays.fill(newIndexes, -1);
+        for (int i = 0; i < order.length; i++) {
+            newIndexes[order[i]] = i;
+        }
+        final int[] newSorted = new int[order.length];
+        int size = 0;
+        for (final int sortedIndex : sorted) {
+            if (newIndexes[sortedIndex] >= 0) {
+                newSorted[size] = newIndexes[sortedIndex];
+                size++;
+            }
+        }
+        sorted = newSorted;
+
+        final List<String> newDisplayValues = new ArrayList<>(order.length);
+        final List<String> newValues = new ArrayList<>(order.length);
+        for (final int index : order) {
+            newDisplayValues.add(displayValues.get(index));
+            newValues.add(values.get(index));
+        }
+        displayValues.clear();
+        displayValues.addAll(newDisplayValues);
+        values.clear();
+        values.addAll(newValues);
+    }
+
+    /**
+     * Returns indexes of display values, which start with normalized text. Display values are found by binary search in sorted display values.
+     *
+     * @param text normalized text
+     * @return ascending indexes of display values, which start with normalized text
+     */
+    public int[] findPrefix(final String text) {
+        final int start = lowerBound(sorted, sorted.length, text);
+        int low = start;
+        int high = sorted.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (values.get(sorted[middle]).startsWith(text)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        final int[] result = Arrays.copyOfRange(sorted, start, low);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Returns indexes of display values, which contain normalized text.
+     *
+     * @param text       normalized text
+     * @param candidates ascending indexes of searched display values, null if all display values are searched
+     * @return ascending indexes of display values, which contain normalized text
+     */
+    public int[] find(final String text, final int[] candidates) {
+        final int count = candidates == null ? values.size() : candidates.length;
+        final int[] result = new int[count];
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            final int index = candidates == null ? i : candidates[i];
+            if (values.get(index).contains(text)) {
+                result[size] = index;
+                size++;
+            }
+        }
+
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Returns position of first index in sorted indexes, which normalized display value isn't less than value.
+     *
+     * @param indexes sorted indexes
+     * @param size    count of sorted indexes
+     * @param value   normalized value
+     * @return position of first index in sorted indexes, which normalized display value isn't less than value
+     */
+    private int lowerBound(final int[] indexes, final int size, final String value) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (values.get(indexes[middle]).compareTo(value) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns indexes of values sorted by values.
+     *
+     * @param values values
+     * @return indexes of values sorted by values
+     */
+    private static int[] sort(final List<String> values) {
+        final Integer[] indexes = new Integer[values.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = i;
+        }
+        Arrays.sort(indexes, Comparator.comparing(values::get));
+
+        final int[] result = new int[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            result[i] = indexes[i];
+        }
+
+        return result;
+    }
+
+}
@@ -0,0 +1,490 @@
+package cz.vhromada.catalog.gui.common;
+
+import java.awt.Image;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import javax.swing.ImageIcon;
+
+import cz.vhromada.catalog.cache.FacadeChangeListener;
+import cz.vhromada.catalog.entity.Picture;
+import cz.vhromada.catalog.facade.PictureFacade;
+import cz.vhromada.common.Movable;
+import cz.vhromada.validation.result.Result;
+import cz.vhromada.validation.result.Status;
+
+import org.springframework.util.Assert;
+
+/**
+ * A class represents cache for pictures scaled to size of picture in data panels, for thumbnails of pictures and for listing of pictures.
+ * <p>
+ * Pictures and thumbnails are cached by ID of picture. Size of cache is bounded by total count of bytes of pixels of cached pictures. If cache is
+ * full, then least recently used pictures are removed. Thumbnails have their own bound, so browsing of thumbnails doesn't remove pictures shown in
+ * data panels. Picture decoded before it was invalidated isn't stored to cache, so replaced or removed picture doesn't get back to cache.
+ * <p>
+ * Listing of pictures contains only IDs and positions of pictures. Content of pictures is dropped after listing is loaded, so it isn't kept in
+ * memory by lists with pictures. Content is loaded only for shown picture.
+ * <p>
+ * Cache listens for changes of data in facade for pictures, so each change of pictures (from panel with pictures, import of pictures, saving or
+ * new data) invalidates affected pictures and listing of pictures.
+ *
+ * @author Vladimir Hromada
+ */
+public class PictureCache implements FacadeChangeListener {
+
+    /**
+     * Size of thumbnail
+     */
+    public static final int THUMBNAIL_SIZE = 80;
+
+    /**
+     * Default maximal count of bytes of pixels - 32 MB
+     */
+    private static final long DEFAULT_MAX_BYTES = 32L * 1024L * 1024L;
+
+    /**
+     * Maximal count of bytes of pixels of thumbnails - 16 MB
+     */
+    private static final long THUMBNAILS_MAX_BYTES = 16L * 1024L * 1024L;
+
+    /**
+     * Count of bytes of one pixel
+     */
+    private static final int PIXEL_BYTES = 4;
+
+    /**
+     * Facade for pictures
+     */
+    private final PictureFacade pictureFacade;
+
+    /**
+     * Cached pictures
+     */
+    private final ScaledPictures pictures;
+
+    /**
+     * Cached thumbnails
+     */
+    private final ScaledPictures thumbnails;
+
+    /**
+     * Listing of pictures - null if listing isn't loaded
+     */
+    private List<Picture> listing;
+
+    /**
+     * Generation of listing - it is increased after each change of pictures, so listing loaded before change isn't cached
+     */
+    private long listingGeneration;
+
+    /**
+     * Creates a new instance of PictureCache with default maximal count of bytes.
+     *
+     * @param pictureFacade facade for pictures
+     * @throws IllegalArgumentException if facade for pictures is null
+     */
+    public PictureCache(final PictureFacade pictureFacade) {
+        this(pictureFacade, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Creates a new instance of PictureCache.
+     *
+     * @param pictureFacade facade for pictures
+     * @param maxBytes      maximal count of bytes of pixels
+     * @throws IllegalArgumentException if facade for pictures is null
+     *                                  or maximal count of bytes isn't positive number
+     */
+    public PictureCache(final PictureFacade pictureFacade, final long maxBytes) {
+        Assert.notNull(pictureFacade, "Facade for pictures mustn't be null.");
+        Assert.isTrue(maxBytes > 0L, "Maximal count of bytes must be positive number.");
+
+        this.pictureFacade = pictureFacade;
+        this.pictures = new ScaledPictures(AbstractDataPanel.HORIZONTAL_PICTURE_SIZE, AbstractDataPanel.VERTICAL_PICTURE_SIZE, maxBytes);
+        this.thumbnails = new ScaledPictures(THUMBNAIL_SIZE, THUMBNAIL_SIZE, Math.min(maxBytes, THUMBNAILS_MAX_BYTES));
+    }
+
+    /**
+     * Returns picture scaled to size of picture in data panels. Picture is decoded, if it isn't cached, so it shouldn't be called in event dispatch
+     * thread.
+     *
+     * @param id ID of picture
+     * @return picture scaled to size of picture in data panels
+     * @throws IllegalArgumentException if ID of picture is null
+     */
+    public ImageIcon getPicture(final Integer id) {
+        return getPicture(id, () -> false);
+    }
+
+    /**
+     * Returns picture scaled to size of picture in data panels. Picture is decoded, if it isn't cached, so it shouldn't be called in event dispatch
+     * thread.
+     *
+     * @param id        ID of picture
+     * @param cancelled supplier of cancellation of decoding
+     * @return picture scaled to size of picture in data panels or null if decoding was cancelled
+     * @throws IllegalArgumentException if ID of picture is null
+     *                                  or supplier of cancellation of decoding is null
+     */
+    public ImageIcon getPicture(final Integer id, final BooleanSupplier cancelled) {
+        return getScaledPicture(pictures, id, cancelled);
+    }
+
+    /**
+     * Returns thumbnail of picture. Thumbnail is decoded, if it isn't cached, so it shouldn't be called in event dispatch thread.
+     *
+     * @param id        ID of picture
+     * @param cancelled supplier of cancellation of decoding
+     * @return thumbnail of picture or null if decoding was cancelled
+     * @throws IllegalArgumentException if ID of picture is null
+     *                                  or supplier of cancellation of decoding is null
+     */
+    public ImageIcon getThumbnail(final Integer id, final BooleanSupplier cancelled) {
+        return getScaledPicture(thumbnails, id, cancelled);
+    }
+
+    /**
+     * Returns listing of pictures. Pictures in listing have only ID and position. Listing is loaded, if it isn't cached, so it shouldn't be called
+     * in event dispatch thread.
+     *
+     * @return result with listing of pictures
+     */
+    public Result<List<Picture>> getPictures() {
+        final long generation;
+        synchronized (this) {
+            if (listing != null) {
+                return Result.of(copyPictures(listing));
+            }
+            generation = listingGeneration;
+        }
+
+        final Result<List<Picture>> result = pictureFacade.getAll();
+        if (Status.OK != result.getStatus()) {
+            return result;
+        }
+
+        final List<Picture> pictureList = copyPictures(result.getData());
+        synchronized (this) {
+            if (generation == listingGeneration) {
+                listing = pictureList;
+            }
+        }
+
+        return Result.of(copyPictures(pictureList));
+    }
+
+    /**
+     * Removes listing of pictures from cache. It is used after pictures are added, moved or their positions are updated.
+     */
+    public synchronized void picturesChanged() {
+        listing = null;
+        listingGeneration++;
+    }
+
+    /**
+     * Returns cached picture. Picture isn't decoded, so it can be called in event dispatch thread.
+     *
+     * @param id ID of picture
+     * @return cached picture or null if picture isn't cached
+     */
+    public synchronized ImageIcon getCachedPicture(final Integer id) {
+        return pictures.get(id);
+    }
+
+    /**
+     * Returns cached thumbnail of picture. Thumbnail isn't decoded, so it can be called in event dispatch thread.
+     *
+     * @param id ID of picture
+     * @return cached thumbnail of picture or null if thumbnail isn't cached
+     */
+    public synchronized ImageIcon getCachedThumbnail(final Integer id) {
+        return thumbnails.get(id);
+    }
+
+    /**
+     * Removes picture, its thumbnail and listing of pictures from cache. It is used after picture is updated or removed.
+     *
+     * @param id ID of picture
+     */
+    public synchronized void invalidate(final Integer id) {
+        pictures.remove(id);
+        thumbnails.remove(id);
+        picturesChanged();
+    }
+
+    /**
+     * Removes all pictures, thumbnails and listing of pictures from cache.
+     */
+    public synchronized void clear() {
+        pictures.clear();
+        thumbnails.clear();
+        picturesChanged();
+    }
+
+    @Override
+    public void dataChanged(final Class<?> facade, final String method, final Object parent, final Object data) {
+        if (facade != PictureFacade.class) {
+            return;
+        }
+
+        switch (method) {
+            case "update":
+            case "remove":
+                if (data instanceof Movable) {
+                    invalidate(((Movable) data).getId());
+                } else {
+                    clear();
+                }
+                break;
+            case "newData":
+                clear();
+                break;
+            default:
+                picturesChanged();
+                break;
+        }
+    }
+
+    /**
+     * Returns count of cached pictures.
+     *
+     * @return count of cached pictures
+     */
+    public synchronized int getSize() {
+        return pictures.size();
+    }
+
+    /**
+     * Returns count of bytes of pixels of cached pictures.
+     *
+     * @return count of bytes of pixels of cached pictures
+     */
+    public synchronized long getBytes() {
+        return pictures.getBytes();
+    }
+
+    /**
+     * Returns count of cached thumbnails.
+     *
+     * @return count of cached thumbnails
+     */
+    public synchronized int getThumbnailsSize() {
+        return thumbnails.size();
+    }
+
+    /**
+     * Returns count of bytes of pixels of cached thumbnails.
+     *
+     * @return count of bytes of pixels of cached thumbnails
+     */
+    public synchronized long getThumbnailsBytes() {
+        return thumbnails.getBytes();
+    }
+
+    /**
+     * Returns scaled picture. Picture is decoded, if it isn't cached.
+     *
+     * @param scaledPictures cached scaled pictures
+     * @param id             ID of picture
+     * @param cancelled      supplier of cancellation of decoding
+     * @return scaled picture or null if decoding was cancelled
+     * @throws IllegalArgumentException if ID of picture is null
+     *                                  or supplier of cancellation of decoding is null
+     */
+    private ImageIcon getScaledPicture(final ScaledPictures scaledPictures, final Integer id, final BooleanSupplier cancelled) {
+        Assert.notNull(id, "ID of picture mustn't be null.");
+        Assert.notNull(cancelled, "Supplier of cancellation of decoding mustn't be null.");
+
+        final long generation;
+        synchronized (this) {
+            final ImageIcon cachedPicture = scaledPictures.get(id);
+            if (cachedPicture != null) {
+                return cachedPicture;
+            }
+            generation = scaledPictures.generation;
+        }
+
+        final Image image = PictureDecoder.decode(loadPicture(id), scaledPictures.width, scaledPictures.height, cancelled);
+        if (image == null) {
+            return null;
+        }
+
+        final ImageIcon picture = new ImageIcon(image);
+        synchronized (this) {
+            if (generation == scaledPictures.generation) {
+                scaledPictures.put(id, picture);
+            }
+        }
+
+        return picture;
+    }
+
+    /**
+     * Returns content of picture.
+     *
+     * @param id ID of picture
+     * @return content of picture
+     */
+    private byte[] loadPicture(final Integer id) {
+        final Result<Picture> result = pictureFacade.get(id);
+
+        if (Status.OK == result.getStatus()) {
+            return result.getData().getContent();
+        } else {
+            throw new IllegalArgumentException("Can't get data. " + result);
+        }
+    }
+
+    /**
+     * Returns copies of pictures with only ID and position.
+     *
+     * @param pictureList pictures
+     * @return copies of pictures with only ID and position
+     */
+    private static List<Picture> copyPictures(final List<Picture> pictureList) {
+        final List<Picture> result = new ArrayList<>(pictureList.size());
+        for (final Picture picture : pictureList) {
+            final Picture copy = new Picture();
+            copy.setId(picture.getId());
+            copy.setPosition(picture.getPosition());
+            result.add(copy);
+        }
+
+        return result;
+    }
+
+    /**
+     * A class represents pictures scaled to same size. It isn't thread safe, so access is synchronized by cache.
+     */
+    private static final class ScaledPictures {
+
+        /**
+         * Maximal width
+         */
+        private final int width;
+
+        /**
+         * Maximal height
+         */
+        private final int height;
+
+        /**
+         * Maximal count of bytes of pixels
+         */
+        private final long maxBytes;
+
+        /**
+         * Cached pictures - ID of picture to scaled picture, ordered from least recently used
+         */
+        private final Map<Integer, ImageIcon> data = new LinkedHashMap<>(16, 0.75F, true);
+
+        /**
+         * Count of bytes of pixels of cached pictures
+         */
+        private long bytes;
+
+        /**
+         * Generation - it is increased after each removing of pictures, so picture decoded before removing isn't cached
+         */
+        private long generation;
+
+        /**
+         * Creates a new instance of ScaledPictures.
+         *
+         * @param width    maximal width
+         * @param height   maximal height
+         * @param maxBytes maximal count of bytes of pixels
+         */
+        ScaledPictures(final int width, final int height, final long maxBytes) {
+            this.width = width;
+            this.height = height;
+            this.maxBytes = maxBytes;
+        }
+
+        /**
+         * Returns cached picture.
+         *
+         * @param id ID of picture
+         * @return cached picture or null if picture isn't cached
+         */
+        ImageIcon get(final Integer id) {
+            return data.get(id);
+        }
+
+        /**
+         * Adds picture. Least recently used pictures are removed, until count of bytes isn't greater than maximum. Added picture is always kept.
+         *
+         * @param id      ID of picture
+         * @param picture picture
+         */
+        void put(final Integer id, final ImageIcon picture) {
+            final ImageIcon previous = data.put(id, picture);
+            if (previous != null) {
+                bytes -= getBytes(previous);
+            }
+            bytes += getBytes(picture);
+
+            final Iterator<ImageIcon> iterator = data.values().iterator();
+            while (bytes > maxBytes && data.size() > 1) {
+                bytes -= getBytes(iterator.next());
+                iterator.remove();
+            }
+        }
+
+        /**
+         * Removes picture.
+         *
+         * @param id ID of picture
+         */
+        void remove(final Integer id) {
+            generation++;
+            final ImageIcon picture = data.remove(id);
+            if (picture != null) {
+                bytes -= getBytes(picture);
+            }
+        }
+
+        /**
+         * Removes all pictures.
+         */
+        void clear() {
+            generation++;
+            data.clear();
+            bytes = 0L;
+        }
+
+        /**
+         * Returns count of cached pictures.
+         *
+         * @return count of cached pictures
+         */
+        int size() {
+            return data.size();
+        }
+
+        /**
+         * Returns count of bytes of pixels of cached pictures.
+         *
+         * @return count of bytes of pixels of cached pictures
+         */
+        long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * Returns count of bytes of pixels of picture.
+         *
+         * @param picture picture
+         * @return count of bytes of pixels of picture
+         */
+        private static long getBytes(final ImageIcon picture) {
+            return (long) Math.max(0, picture.getIconWidth()) * Math.max(0, picture.getIconHeight()) * PIXEL_BYTES;
+        }
+
+    }
+
+}
@@ -0,0 +1,207 @@
+package cz.vhromada.catalog.gui.common;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.function.BooleanSupplier;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.event.IIOReadProgressListener;
+import javax.imageio.stream.ImageInputStream;
+import javax.swing.ImageIcon;
+
+/**
+ * A class represents decoder of pictures.
+ * <p>
+ * Picture is decoded with subsampling, which is computed from size in header of picture, so big pictures are never decoded in full resolution.
+ * Decoded picture is scaled to fit into requested size. Decoding can be cancelled and it is aborted as soon as possible.
+ *
+ * @author Vladimir Hromada
+ */
+public final class PictureDecoder {
+
+    /**
+     * Creates a new instance of PictureDecoder.
+     */
+    private PictureDecoder() {
+    }
+
+    /**
+     * Returns picture decoded and scaled to fit into specified size. Smaller pictures aren't scaled.
+     *
+     * @param content   content of picture
+     * @param width     maximal width
+     * @param height    maximal height
+     * @param cancelled supplier of cancellation of decoding
+     * @return decoded picture or null if decoding was cancelled
+     */
+    public static Image decode(final byte[] content, final int width, final int height, final BooleanSupplier cancelled) {
+        final Image image = read(content, width, height, cancelled);
+        if (image == null || cancelled.getAsBoolean()) {
+            return null;
+        }
+
+        return scale(image, width, height);
+    }
+
+    /**
+     * Returns picture read with subsampling. If picture can't be read by ImageIO, then it is read by Swing in full resolution.
+     *
+     * @param content   content of picture
+     * @param width     maximal width
+     * @param height    maximal height
+     * @param cancelled supplier of cancellation of decoding
+     * @return read picture or null if reading was cancelled
+     */
+    private static Image read(final byte[] content, final int width, final int height, final BooleanSupplier cancelled) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(content))) {
+            final Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (readers.hasNext()) {
+                final ImageReader reader = readers.next();
+                try {
+                    reader.setInput(input, true, true);
+                    final int subsampling = getSubsampling(reader.getWidth(0), reader.getHeight(0), width, height);
+                    final ImageReadParam param = reader.getDefaultReadParam();
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                    reader.addIIOReadProgressListener(new CancellationListener(cancelled));
+                    return cancelled.getAsBoolean() ? null : reader.read(0, param);
+                } finally {
+                    reader.dispose();
+                }
+            }
+        } catch (final IOException | RuntimeException ex) {
+            // picture is read by Swing
+        }
+
+        return new ImageIcon(content).getImage();
+    }
+
+    /**
+     * Returns subsampling, so picture after subsampling isn't smaller than picture scaled to fit into specified size.
+     *
+     * @param pictureWidth  width of picture
+     * @param pictureHeight height of picture
+     * @param width         maximal width
+     * @param height        maximal height
+     * @return subsampling
+     */
+    static int getSubsampling(final int pictureWidth, final int pictureHeight, final int width, final int height) {
+        final double ratio = Math.max((double) pictureWidth / width, (double) pictureHeight / height);
+
+        return Math.max(1, (int) Math.floor(ratio));
+    }
+
+    /**
+     * Returns picture scaled to fit into specified size. Smaller pictures aren't scaled.
+     *
+     * @param image  picture
+     * @param width  maximal width
+     * @param height maximal height
+     * @return scaled picture
+     */
+    private static Image scale(final Image image, final int width, final int height) {
+        final int imageWidth = image.getWidth(null);
+        final int imageHeight = image.getHeight(null);
+        if (imageWidth <= 0 || imageHeight <= 0) {
+            return image;
+        }
+        final double ratio = Math.min((double) width / imageWidth, (double) height / imageHeight);
+        if (ratio >= 1.0) {
+            return image;
+        }
+
+        final int scaledWidth = Math.max(1, (int) Math.round(imageWidth * ratio));
+        final int scaledHeight = Math.max(1, (int) Math.round(imageHeight * ratio));
+
+        return draw(image, scaledWidth, scaledHeight, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    /**
+     * Returns picture drawn with specified size and type.
+     *
+     * @param image  picture
+     * @param width  width
+     * @param height height
+     * @param type   type of picture
+     * @return drawn picture
+     */
+    static BufferedImage draw(final Image image, final int width, final int height, final int type) {
+        final BufferedImage result = new BufferedImage(width, height, type);
+        final Graphics2D graphics = result.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        return result;
+    }
+
+    /**
+     * A class represents listener, which aborts reading of picture, if decoding is cancelled.
+     */
+    private static final class CancellationListener implements IIOReadProgressListener {
+
+        /**
+         * Supplier of cancellation of decoding
+         */
+        private final BooleanSupplier cancelled;
+
+        /**
+         * Creates a new instance of CancellationListener.
+         *
+         * @param cancelled supplier of cancellation of decoding
+         */
+        CancellationListener(final BooleanSupplier cancelled) {
+            this.cancelled = cancelled;
+        }
+
+        @Override
+        public void imageProgress(final ImageReader source, final float percentageDone) {
+            if (cancelled.getAsBoolean()) {
+                source.abort();
+            }
+        }
+
+        @Override
+        public void sequenceStarted(final ImageReader source, final int minIndex) {
+        }
+
+        @Override
+        public void sequenceComplete(final ImageReader source) {
+        }
+
+        @Override
+        public void imageStarted(final ImageReader source, final int imageIndex) {
+        }
+
+        @Override
+        public void imageComplete(final ImageReader source) {
+        }
+
+        @Override
+        public void thumbnailStarted(final ImageReader source, final int imageIndex, final int thumbnailIndex) {
+        }
+
+        @Override
+        public void thumbnailProgress(final ImageReader source, final float percentageDone) {
+        }
+
+        @Override
+        public void thumbnailComplete(final ImageReader source) {
+        }
+
+        @Override
+        public void readAborted(final ImageReader source) {
+        }
+
+    }
+
+}
@@ -0,0 +1,250 @@
+package cz.vhromada.catalog.gui.common;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.util.Assert;
+
+/**
+ * A class represents importer of pictures from files.
+ * <p>
+ * File is read as stream and it must be picture readable by ImageIO. Pictures bigger than maximal size are decoded with subsampling, scaled to fit
+ * into maximal size and compressed again (JPEG, or PNG for pictures with transparency). Pictures, which aren't bigger than maximal size and which are
+ * in JPEG or PNG format, are imported without change.
+ * <p>
+ * Maximal size is set by system property <code>catalog.picture.maxSize</code> (default 1024 pixels).
+ *
+ * @author Vladimir Hromada
+ */
+public final class PictureImporter {
+
+    /**
+     * System property with maximal size of picture
+     */
+    public static final String MAX_SIZE_PROPERTY = "catalog.picture.maxSize";
+
+    /**
+     * Maximal size of file - 256 MB
+     */
+    public static final long MAX_FILE_SIZE = 256L * 1024L * 1024L;
+
+    /**
+     * Default maximal size of picture
+     */
+    private static final int DEFAULT_MAX_SIZE = 1024;
+
+    /**
+     * Count of bytes in kilobyte
+     */
+    private static final double KILOBYTE = 1024.0;
+
+    /**
+     * Quality of JPEG compression
+     */
+    private static final float JPEG_QUALITY = 0.85F;
+
+    /**
+     * Formats of pictures, which are imported without change if they aren't bigger than maximal size
+     */
+    private static final Set<String> KEPT_FORMATS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList("jpeg", "jpg", "png")));
+
+    /**
+     * Creates a new instance of PictureImporter.
+     */
+    private PictureImporter() {
+    }
+
+    /**
+     * Returns maximal size of picture.
+     *
+     * @return maximal size of picture
+     */
+    public static int getMaxSize() {
+        final int maxSize = Integer.getInteger(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE);
+
+        return maxSize > 0 ? maxSize : DEFAULT_MAX_SIZE;
+    }
+
+    /**
+     * Returns formatted size.
+     *
+     * @param size size in bytes
+     * @return formatted size
+     */
+    public static String formatSize(final long size) {
+        if (size < KILOBYTE) {
+            return size + " B";
+        }
+        if (size < KILOBYTE * KILOBYTE) {
+            return String.format(Locale.ENGLISH, "%.1f kB", size / KILOBYTE);
+        }
+
+        return String.format(Locale.ENGLISH, "%.1f MB", size / KILOBYTE / KILOBYTE);
+    }
+
+    /**
+     * Returns imported picture.
+     *
+     * @param file file with picture
+     * @return imported picture
+     * @throws IllegalArgumentException if file is null
+     * @throws IOException              if file can't be read or file isn't picture
+     */
+    public static ImportedPicture importPicture(final Path file) throws IOException {
+        Assert.notNull(file, "File mustn't be null.");
+
+        final long size = Files.size(file);
+        if (size > MAX_FILE_SIZE) {
+            throw new IOException("File is too big.");
+        }
+
+        final int maxSize = getMaxSize();
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            final Iterator<ImageReader> readers = input == null ? Collections.emptyIterator() : ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("File isn't picture.");
+            }
+
+            final ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                final int width = reader.getWidth(0);
+                final int height = reader.getHeight(0);
+                final boolean small = width <= maxSize && height <= maxSize;
+                if (small && KEPT_FORMATS.contains(reader.getFormatName().toLowerCase(Locale.ENGLISH))) {
+                    return new ImportedPicture(Files.readAllBytes(file), size);
+                }
+
+                final ImageReadParam param = reader.getDefaultReadParam();
+                final int subsampling = PictureDecoder.getSubsampling(width, height, maxSize, maxSize);
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                final byte[] content = encode(scale(reader.read(0, param), maxSize));
+                if (small && content.length >= size) {
+                    return new ImportedPicture(Files.readAllBytes(file), size);
+                }
+
+                return new ImportedPicture(content, size);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Returns picture scaled to fit into maximal size. Smaller pictures aren't scaled.
+     *
+     * @param image   picture
+     * @param maxSize maximal size
+     * @return scaled picture
+     */
+    private static BufferedImage scale(final BufferedImage image, final int maxSize) {
+        final double ratio = Math.min(1.0, Math.min((double) maxSize / image.getWidth(), (double) maxSize / image.getHeight()));
+        final int width = Math.max(1, (int) Math.round(image.getWidth() * ratio));
+        final int height = Math.max(1, (int) Math.round(image.getHeight() * ratio));
+        final int type = image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        return PictureDecoder.draw(image, width, height, type);
+    }
+
+    /**
+     * Returns compressed picture. Pictures with transparency are compressed as PNG, other pictures as JPEG.
+     *
+     * @param image picture
+     * @return compressed picture
+     * @throws IOException if picture can't be compressed
+     */
+    private static byte[] encode(final BufferedImage image) throws IOException {
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        if (image.getColorModel().hasAlpha()) {
+            ImageIO.write(image, "png", result);
+            return result.toByteArray();
+        }
+
+        final ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(result)) {
+            final ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+
+        return result.toByteArray();
+    }
+
+    /**
+     * A class represents imported picture.
+     */
+    public static final class ImportedPicture {
+
+        /**
+         * Content of picture
+         */
+        private final byte[] content;
+
+        /**
+         * Size of file
+         */
+        private final long fileSize;
+
+        /**
+         * Creates a new instance of ImportedPicture.
+         *
+         * @param content  content of picture
+         * @param fileSize size of file
+         */
+        ImportedPicture(final byte[] content, final long fileSize) {
+            this.content = content;
+            this.fileSize = fileSize;
+        }
+
+        /**
+         * Returns content of picture.
+         *
+         * @return content of picture
+         */
+        public byte[] getContent() {
+            return content;
+        }
+
+        /**
+         * Returns size of file.
+         *
+         * @return size of file
+         */
+        public long getFileSize() {
+            return fileSize;
+        }
+
+        /**
+         * Returns count of saved bytes.
+         *
+         * @return count of saved bytes
+         */
+        public long getSavedBytes() {
+            return Math.max(0L, fileSize - content.length);
+        }
+
+    }
+
+}
@@ -0,0 +1,130 @@
+package cz.vhromada.catalog.gui.common;
+
+import java.util.concurrent.ExecutionException;
+
+import javax.swing.ImageIcon;
+import javax.swing.JLabel;
+import javax.swing.SwingWorker;
+
+import org.springframework.util.Assert;
+
+/**
+ * A class represents loader of pictures to label.
+ * <p>
+ * Cached picture is shown immediately. Other pictures are loaded and decoded in background and they are shown in event dispatch thread. Loading
+ * of picture, which haven't been finished yet, is cancelled when another picture is requested.
+ *
+ * @author Vladimir Hromada
+ */
+public class PictureLoader {
+
+    /**
+     * Cache for pictures
+     */
+    private final PictureCache pictureCache;
+
+    /**
+     * Label for picture
+     */
+    private final JLabel pictureData;
+
+    /**
+     * Worker for loading picture - null if no picture is loading
+     */
+    private Worker worker;
+
+    /**
+     * Creates a new instance of PictureLoader.
+     *
+     * @param pictureCache cache for pictures
+     * @param pictureData  label for picture
+     * @throws IllegalArgumentException if cache for pictures is null
+     *                                  or label for picture is null
+     */
+    public PictureLoader(final PictureCache pictureCache, final JLabel pictureData) {
+        Assert.notNull(pictureCache, "Cache for pictures mustn't be null.");
+        Assert.notNull(pictureData, "Label for picture mustn't be null.");
+
+        this.pictureCache = pictureCache;
+        this.pictureData = pictureData;
+    }
+
+    /**
+     * Loads picture. It must be called in event dispatch thread.
+     *
+     * @param id ID of picture, null if there isn't picture
+     */
+    public void load(final Integer id) {
+        cancel();
+        if (id == null) {
+            pictureData.setIcon(null);
+            return;
+        }
+
+        final ImageIcon cachedPicture = pictureCache.getCachedPicture(id);
+        if (cachedPicture == null) {
+            pictureData.setIcon(null);
+            worker = new Worker(id);
+            worker.execute();
+        } else {
+            pictureData.setIcon(cachedPicture);
+        }
+    }
+
+    /**
+     * Cancels loading of picture. It must be called in event dispatch thread.
+     */
+    public void cancel() {
+        if (worker != null) {
+            worker.cancel(false);
+            worker = null;
+        }
+    }
+
+    /**
+     * A class represents worker for loading picture.
+     */
+    private final class Worker extends SwingWorker<ImageIcon, Void> {
+
+        /**
+         * ID of picture
+         */
+        private final Integer id;
+
+        /**
+         * Creates a new instance of Worker.
+         *
+         * @param id ID of picture
+         */
+        Worker(final Integer id) {
+            this.id = id;
+        }
+
+        @Override
+        protected ImageIcon doInBackground() {
+            return pictureCache.getPicture(id, this::isCancelled);
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled() || worker != this) {
+                return;
+            }
+
+            worker = null;
+            try {
+                pictureData.setIcon(get());
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Loading of picture was interrupted.", ex);
+            } catch (final ExecutionException ex) {
+                if (ex.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) ex.getCause();
+                }
+                throw new IllegalStateException("Can't load picture.", ex.getCause());
+            }
+        }
+
+    }
+
+}
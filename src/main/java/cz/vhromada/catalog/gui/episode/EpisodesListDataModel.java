@@ -46,7 +46,6 @@ public class EpisodesListDataModel extends AbstractListDataModel<Episode> {
 
         this.episodeFacade = episodeFacade;
         this.season = season;
-        update();
     }
 
     @Override
@@ -71,7 +71,12 @@ public class EpisodesPanel extends AbstractOverviewDataPanel<Episode> {
     }
 
     @Override
-    public void save() {
+    public long getChanges() {
+        throw new UnsupportedOperationException("Getting count of changes of data is not allowed for episodes.");
+    }
+
+    @Override
+    public void save(final long count) {
         throw new UnsupportedOperationException("Saving data is not allowed for episodes.");
     }
 
@@ -100,6 +105,11 @@ public class EpisodesPanel extends AbstractOverviewDataPanel<Episode> {
         episodeFacade.update(data);
     }
 
+    @Override
+    protected void updatePosition(final Episode data) {
+        episodeFacade.update(getPositionData(episodeFacade.get(data.getId()), data));
+    }
+
     @Override
     protected void removeData(final Episode data) {
         episodeFacade.remove(data);
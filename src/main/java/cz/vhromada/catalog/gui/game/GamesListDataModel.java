@@ -36,7 +36,6 @@ public class GamesListDataModel extends AbstractListDataModel<Game> {
         Assert.notNull(gameFacade, "Facade for games mustn't be null");
 
         this.gameFacade = gameFacade;
-        update();
     }
 
     @Override
@@ -32,7 +32,7 @@ public class GamesPanel extends AbstractOverviewDataPanel<Game> {
      * @throws IllegalArgumentException if facade for games is null
      */
     public GamesPanel(final GameFacade gameFacade) {
-        super(getGamesListDataModel(gameFacade), getGamesStatsTableDataModel(gameFacade));
+        super(getGamesListDataModel(gameFacade), new GamesStatsTableDataModel());
 
         this.gameFacade = gameFacade;
     }
@@ -57,6 +57,11 @@ public class GamesPanel extends AbstractOverviewDataPanel<Game> {
         gameFacade.update(data);
     }
 
+    @Override
+    protected void updatePosition(final Game data) {
+        gameFacade.update(getPositionData(gameFacade.get(data.getId()), data));
+    }
+
     @Override
     protected void removeData(final Game data) {
         gameFacade.remove(data);
@@ -97,15 +102,4 @@ public class GamesPanel extends AbstractOverviewDataPanel<Game> {
         return new GamesListDataModel(facade);
     }
 
-    /**
-     * Returns data model for table with stats for games.
-     *
-     * @param facade facade for games
-     * @return data model for table with stats for games
-     * @throws IllegalArgumentException if facade for games is null
-     */
-    private static GamesStatsTableDataModel getGamesStatsTableDataModel(final GameFacade facade) {
-        return new GamesStatsTableDataModel(facade);
-    }
-
 }
@@ -1,14 +1,7 @@
 package cz.vhromada.catalog.gui.game;
 
-import java.util.List;
-
 import cz.vhromada.catalog.entity.Game;
-import cz.vhromada.catalog.facade.GameFacade;
 import cz.vhromada.catalog.gui.common.AbstractStatsTableDataModel;
-import cz.vhromada.validation.result.Result;
-import cz.vhromada.validation.result.Status;
-
-import org.springframework.util.Assert;
 
 /**
  * A class represents data model for table with stats for games.
@@ -16,53 +9,13 @@ import org.springframework.util.Assert;
  * @author Vladimir Hromada
  */
 @SuppressWarnings("Duplicates")
-public class GamesStatsTableDataModel extends AbstractStatsTableDataModel {
+public class GamesStatsTableDataModel extends AbstractStatsTableDataModel<Game> {
 
     /**
      * SerialVersionUID
      */
     private static final long serialVersionUID = 1L;
 
-    /**
-     * Facade for games
-     */
-    private final GameFacade gameFacade;
-
-    /**
-     * List of games
-     */
-    private List<Game> games;
-
-    /**
-     * Total count of media
-     */
-    private int totalMediaCount;
-
-    /**
-     * Creates a new instance of GamesStatsTableDataModel.
-     *
-     * @param gameFacade facade for games
-     * @throws IllegalArgumentException if facade for games is null
-     */
-    public GamesStatsTableDataModel(final GameFacade gameFacade) {
-        Assert.notNull(gameFacade, "Facade for games mustn't be null.");
-
-        this.gameFacade = gameFacade;
-        update();
-    }
-
-    @Override
-    public Object getValueAt(final int rowIndex, final int columnIndex) {
-        switch (columnIndex) {
-            case 0:
-                return games.size();
-            case 1:
-                return totalMediaCount;
-            default:
-                throw new IndexOutOfBoundsException("Bad column");
-        }
-    }
-
     @Override
     public int getColumnCount() {
         return 2;
@@ -91,20 +44,20 @@ public class GamesStatsTableDataModel extends AbstractStatsTableDataModel {
     }
 
     @Override
-    public final void update() {
-        final Result<List<Game>> gamesResult = gameFacade.getAll();
-        final Result<Integer> totalMediaCountResult = gameFacade.getTotalMediaCount();
-
-        final Result<Void> result = new Result<>();
-        result.addEvents(gamesResult.getEvents());
-        result.addEvents(totalMediaCountResult.getEvents());
-
-        if (Status.OK == result.getStatus()) {
-            games = gamesResult.getData();
-            totalMediaCount = totalMediaCountResult.getData();
-        } else {
-            throw new IllegalArgumentException("Can't get data. " + result);
+    protected Object getValue(final int columnIndex) {
+        switch (columnIndex) {
+            case 0:
+                return getStat(0);
+            case 1:
+                return getStat(1);
+            default:
+                throw new IndexOutOfBoundsException("Bad column");
         }
     }
 
+    @Override
+    protected int[] getStats(final Game data) {
+        return new int[] { 1, data.getMediaCount() };
+    }
+
 }
@@ -157,6 +157,7 @@ public final class GenreChooseDialog extends JDialog {
         setResizable(false);
 
         genreListDataModel = new GenresListDataModel(genreFacade);
+        genreListDataModel.update();
         list.setModel(genreListDataModel);
         list.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
         list.setSelectedIndices(getSelectedIndexes());
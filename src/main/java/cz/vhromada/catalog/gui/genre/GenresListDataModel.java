@@ -36,7 +36,6 @@ public class GenresListDataModel extends AbstractListDataModel<Genre> {
         Assert.notNull(genreFacade, "Facade for genres mustn't be null.");
 
         this.genreFacade = genreFacade;
-        update();
     }
 
     @Override
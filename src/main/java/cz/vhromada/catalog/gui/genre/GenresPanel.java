@@ -32,7 +32,7 @@ public class GenresPanel extends AbstractOverviewDataPanel<Genre> {
      * @throws IllegalArgumentException if facade for genres is null
      */
     public GenresPanel(final GenreFacade genreFacade) {
-        super(getGenresListDataModel(genreFacade), getGenresStatsTableDataModel(genreFacade));
+        super(getGenresListDataModel(genreFacade), new GenresStatsTableDataModel());
 
         this.genreFacade = genreFacade;
     }
@@ -57,6 +57,11 @@ public class GenresPanel extends AbstractOverviewDataPanel<Genre> {
         genreFacade.update(data);
     }
 
+    @Override
+    protected void updatePosition(final Genre data) {
+        genreFacade.update(getPositionData(genreFacade.get(data.getId()), data));
+    }
+
     @Override
     protected void removeData(final Genre data) {
         genreFacade.remove(data);
@@ -97,15 +102,4 @@ public class GenresPanel extends AbstractOverviewDataPanel<Genre> {
         return new GenresListDataModel(facade);
     }
 
-    /**
-     * Returns data model for table with stats for genres.
-     *
-     * @param facade facade for genres
-     * @return data model for table with stats for genres
-     * @throws IllegalArgumentException if facade for genres is null
-     */
-    private static GenresStatsTableDataModel getGenresStatsTableDataModel(final GenreFacade facade) {
-        return new GenresStatsTableDataModel(facade);
-    }
-
 }
@@ -1,60 +1,20 @@
 package cz.vhromada.catalog.gui.genre;
 
-import java.util.List;
-
 import cz.vhromada.catalog.entity.Genre;
-import cz.vhromada.catalog.facade.GenreFacade;
 import cz.vhromada.catalog.gui.common.AbstractStatsTableDataModel;
-import cz.vhromada.validation.result.Result;
-import cz.vhromada.validation.result.Status;
-
-import org.springframework.util.Assert;
 
 /**
  * A class represents data model for table with stats for genres.
  *
  * @author Vladimir Hromada
  */
-public class GenresStatsTableDataModel extends AbstractStatsTableDataModel {
+public class GenresStatsTableDataModel extends AbstractStatsTableDataModel<Genre> {
 
     /**
      * SerialVersionUID
      */
     private static final long serialVersionUID = 1L;
 
-    /**
-     * Facade for genres
-     */
-    private final GenreFacade genreFacade;
-
-    /**
-     * List of genres
-     */
-    private List<Genre> genres;
-
-    /**
-     * Creates a new instance of GenresStatsTableDataModel.
-     *
-     * @param genreFacade facade for genres
-     * @throws IllegalArgumentException if facade for genres is null
-     */
-    public GenresStatsTableDataModel(final GenreFacade genreFacade) {
-        Assert.notNull(genreFacade, "Facade for genres mustn't be null.");
-
-        this.genreFacade = genreFacade;
-        update();
-    }
-
-    @Override
-    public Object getValueAt(final int rowIndex, final int columnIndex) {
-        switch (columnIndex) {
-            case 0:
-                return genres.size();
-            default:
-                throw new IndexOutOfBoundsException("Bad column");
-        }
-    }
-
     @Override
     public int getColumnCount() {
         return 1;
@@ -81,14 +41,18 @@ public class GenresStatsTableDataModel extends AbstractStatsTableDataModel {
     }
 
     @Override
-    public final void update() {
-        final Result<List<Genre>> result = genreFacade.getAll();
-
-        if (Status.OK == result.getStatus()) {
-            genres = result.getData();
-        } else {
-            throw new IllegalArgumentException("Can't get data. " + result);
+    protected Object getValue(final int columnIndex) {
+        switch (columnIndex) {
+            case 0:
+                return getStat(0);
+            default:
+                throw new IndexOutOfBoundsException("Bad column");
         }
     }
 
+    @Override
+    protected int[] getStats(final Genre data) {
+        return new int[] { 1 };
+    }
+
 }
@@ -8,8 +8,9 @@ import javax.swing.JLabel;
 
 import cz.vhromada.catalog.entity.Medium;
 import cz.vhromada.catalog.entity.Movie;
-import cz.vhromada.catalog.facade.PictureFacade;
 import cz.vhromada.catalog.gui.common.AbstractDataPanel;
+import cz.vhromada.catalog.gui.common.PictureCache;
+import cz.vhromada.catalog.gui.common.PictureLoader;
 import cz.vhromada.catalog.gui.common.WebPageButtonType;
 import cz.vhromada.common.Time;
 
@@ -28,9 +29,9 @@ public class MovieDataPanel extends AbstractDataPanel<Movie> {
     private static final long serialVersionUID = 1L;
 
     /**
-     * Facade for pictures
+     * Loader of pictures
      */
-    private PictureFacade pictureFacade;
+    private final PictureLoader pictureLoader;
 
     /**
      * Label for picture
@@ -170,15 +171,15 @@ public class MovieDataPanel extends AbstractDataPanel<Movie> {
     /**
      * Creates a new instance of MovieDataPanel.
      *
-     * @param movie         movie
-     * @param pictureFacade facade for pictures
+     * @param movie        movie
+     * @param pictureCache cache for pictures
      * @throws IllegalArgumentException if movie is null
-     *                                  or facade for pictures is null
+     *                                  or cache for pictures is null
      */
-    public MovieDataPanel(final Movie movie, final PictureFacade pictureFacade) {
-        Assert.notNull(pictureFacade, "Facade for pictures mustn't be null.");
+    public MovieDataPanel(final Movie movie, final PictureCache pictureCache) {
+        Assert.notNull(pictureCache, "Cache for pictures mustn't be null.");
 
-        this.pictureFacade = pictureFacade;
+        this.pictureLoader = new PictureLoader(pictureCache, pictureData);
 
         updateData(movie);
 
@@ -206,7 +207,7 @@ public class MovieDataPanel extends AbstractDataPanel<Movie> {
     protected void updateComponentData(final Movie data) {
         Assert.notNull(data, "movie");
 
-        loadPicture(data.getPicture(), pictureFacade, pictureData);
+        pictureLoader.load(data.getPicture());
 
         czechNameData.setText(data.getCzechName());
         originalNameData.setText(data.getOriginalName());
@@ -18,11 +18,11 @@ import cz.vhromada.catalog.entity.Genre;
 import cz.vhromada.catalog.entity.Medium;
 import cz.vhromada.catalog.entity.Movie;
 import cz.vhromada.catalog.facade.GenreFacade;
-import cz.vhromada.catalog.facade.PictureFacade;
 import cz.vhromada.catalog.gui.common.AbstractInfoDialog;
 import cz.vhromada.catalog.gui.common.CatalogSwingConstants;
 import cz.vhromada.catalog.gui.common.DialogResult;
 import cz.vhromada.catalog.gui.common.Picture;
+import cz.vhromada.catalog.gui.common.PictureCache;
 import cz.vhromada.common.Time;
 import cz.vhromada.common.utils.Constants;
 
@@ -47,9 +47,9 @@ public class MovieInfoDialog extends AbstractInfoDialog<Movie> {
     private GenreFacade genreFacade;
 
     /**
-     * Facade for pictures
+     * Cache for pictures
      */
-    private PictureFacade pictureFacade;
+    private PictureCache pictureCache;
 
     /**
      * List of genres
@@ -245,14 +245,14 @@ public class MovieInfoDialog extends AbstractInfoDialog<Movie> {
      * Creates a new instance of MovieInfoDialog.
      *
      * @param genreFacade   facade for genres
-     * @param pictureFacade facade for pictures
+     * @param pictureCache  cache for pictures
      * @throws IllegalArgumentException if facade for genres is null
-     *                                  or facade for pictures is null
+     *                                  or cache for pictures is null
      */
-    public MovieInfoDialog(final GenreFacade genreFacade, final PictureFacade pictureFacade) {
+    public MovieInfoDialog(final GenreFacade genreFacade, final PictureCache pictureCache) {
         init();
         setGenreFacade(genreFacade);
-        setPictureFacade(pictureFacade);
+        setPictureCache(pictureCache);
         imdbCodeData.setEnabled(false);
     }
 
@@ -260,18 +260,18 @@ public class MovieInfoDialog extends AbstractInfoDialog<Movie> {
      * Creates a new instance of MovieInfoDialog.
      *
      * @param genreFacade   facade for genres
-     * @param pictureFacade facade for pictures
+     * @param pictureCache  cache for pictures
      * @param movie         movie
      * @throws IllegalArgumentException if facade for genres is null
-     *                                  or facade for pictures is null
+     *                                  or cache for pictures is null
      *                                  or movie is null
      */
-    public MovieInfoDialog(final GenreFacade genreFacade, final PictureFacade pictureFacade, final Movie movie) {
+    public MovieInfoDialog(final GenreFacade genreFacade, final PictureCache pictureCache, final Movie movie) {
         super(movie);
 
         init();
         setGenreFacade(genreFacade);
-        setPictureFacade(pictureFacade);
+        setPictureCache(pictureCache);
         this.genres = movie.getGenres();
         this.media = movie.getMedia();
         if (movie.getPicture() != null) {
@@ -330,7 +330,7 @@ public class MovieInfoDialog extends AbstractInfoDialog<Movie> {
 
         mediaButton.addActionListener(e -> mediaAction());
 
-        pictureButton.addActionListener(e -> pictureAction(pictureFacade, pictures, pictureData));
+        pictureButton.addActionListener(e -> pictureAction(pictureCache, pictures, pictureData));
 
         genresButton.addActionListener(e -> genresAction(genreFacade, genres, genreData));
     }
@@ -460,14 +460,14 @@ public class MovieInfoDialog extends AbstractInfoDialog<Movie> {
     }
 
     /**
-     * Initializes facade for pictures.
+     * Initializes cache for pictures.
      *
-     * @throws IllegalArgumentException if facade for pictures is null
+     * @throws IllegalArgumentException if cache for pictures is null
      */
-    private void setPictureFacade(final PictureFacade pictureFacade) {
-        Assert.notNull(pictureFacade, "Facade for pictures mustn't be null.");
+    private void setPictureCache(final PictureCache pictureCache) {
+        Assert.notNull(pictureCache, "Cache for pictures mustn't be null.");
 
-        this.pictureFacade = pictureFacade;
+        this.pictureCache = pictureCache;
     }
 
     /**
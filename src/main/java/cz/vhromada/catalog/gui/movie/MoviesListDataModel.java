@@ -36,7 +36,6 @@ public class MoviesListDataModel extends AbstractListDataModel<Movie> {
         Assert.notNull(movieFacade, "Facade for movies mustn't be null.");
 
         this.movieFacade = movieFacade;
-        update();
     }
 
     @Override
@@ -6,9 +6,9 @@ import javax.swing.JTabbedPane;
 import cz.vhromada.catalog.entity.Movie;
 import cz.vhromada.catalog.facade.GenreFacade;
 import cz.vhromada.catalog.facade.MovieFacade;
-import cz.vhromada.catalog.facade.PictureFacade;
 import cz.vhromada.catalog.gui.common.AbstractInfoDialog;
 import cz.vhromada.catalog.gui.common.AbstractOverviewDataPanel;
+import cz.vhromada.catalog.gui.common.PictureCache;
 
 import org.springframework.util.Assert;
 
@@ -35,34 +35,34 @@ public class MoviesPanel extends AbstractOverviewDataPanel<Movie> {
     private final GenreFacade genreFacade;
 
     /**
-     * Facade for pictures
+     * Cache for pictures
      */
-    private final PictureFacade pictureFacade;
+    private final PictureCache pictureCache;
 
     /**
      * Creates a new instance of MoviesPanel.
      *
      * @param movieFacade   facade for movies
      * @param genreFacade   facade for genres
-     * @param pictureFacade facade for pictures
+     * @param pictureCache cache for pictures
      * @throws IllegalArgumentException if facade for movies is null
      *                                  or facade for genres is null
-     *                                  or facade for pictures is null
+     *                                  or cache for pictures is null
      */
-    public MoviesPanel(final MovieFacade movieFacade, final GenreFacade genreFacade, final PictureFacade pictureFacade) {
-        super(getMoviesListDataModel(movieFacade), getMoviesStatsTableDataModel(movieFacade));
+    public MoviesPanel(final MovieFacade movieFacade, final GenreFacade genreFacade, final PictureCache pictureCache) {
+        super(getMoviesListDataModel(movieFacade), new MoviesStatsTableDataModel());
 
         Assert.notNull(genreFacade, "Facade for genres mustn't be null.");
-        Assert.notNull(pictureFacade, "Facade for pictures mustn't be null.");
+        Assert.notNull(pictureCache, "Cache for pictures mustn't be null.");
 
         this.movieFacade = movieFacade;
         this.genreFacade = genreFacade;
-        this.pictureFacade = pictureFacade;
+        this.pictureCache = pictureCache;
     }
 
     @Override
     protected AbstractInfoDialog<Movie> getInfoDialog(final boolean add, final Movie data) {
-        return add ? new MovieInfoDialog(genreFacade, pictureFacade) : new MovieInfoDialog(genreFacade, pictureFacade, data);
+        return add ? new MovieInfoDialog(genreFacade, pictureCache) : new MovieInfoDialog(genreFacade, pictureCache, data);
     }
 
     @Override
@@ -80,6 +80,11 @@ public class MoviesPanel extends AbstractOverviewDataPanel<Movie> {
         movieFacade.update(data);
     }
 
+    @Override
+    protected void updatePosition(final Movie data) {
+        movieFacade.update(getPositionData(movieFacade.get(data.getId()), data));
+    }
+
     @Override
     protected void removeData(final Movie data) {
         movieFacade.remove(data);
@@ -102,7 +107,7 @@ public class MoviesPanel extends AbstractOverviewDataPanel<Movie> {
 
     @Override
     protected JPanel getDataPanel(final Movie data) {
-        return new MovieDataPanel(data, pictureFacade);
+        return new MovieDataPanel(data, pictureCache);
     }
 
     @Override
@@ -120,15 +125,4 @@ public class MoviesPanel extends AbstractOverviewDataPanel<Movie> {
         return new MoviesListDataModel(facade);
     }
 
-    /**
-     * Returns data model for table with stats for movies.
-     *
-     * @param facade facade for movies
-     * @return data model for table with stats for movies
-     * @throws IllegalArgumentException if facade for movies is null
-     */
-    private static MoviesStatsTableDataModel getMoviesStatsTableDataModel(final MovieFacade facade) {
-        return new MoviesStatsTableDataModel(facade);
-    }
-
 }
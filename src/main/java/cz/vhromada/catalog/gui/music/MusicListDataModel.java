@@ -36,7 +36,6 @@ public class MusicListDataModel extends AbstractListDataModel<Music> {
         Assert.notNull(musicFacade, "Facade for music mustn't be null.");
 
         this.musicFacade = musicFacade;
-        update();
     }
 
     @Override
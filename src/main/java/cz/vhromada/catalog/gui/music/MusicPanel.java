@@ -71,6 +71,11 @@ public class MusicPanel extends AbstractOverviewDataPanel<Music> {
         musicFacade.update(data);
     }
 
+    @Override
+    protected void updatePosition(final Music data) {
+        musicFacade.update(getPositionData(musicFacade.get(data.getId()), data));
+    }
+
     @Override
     protected void removeData(final Music data) {
         musicFacade.remove(data);
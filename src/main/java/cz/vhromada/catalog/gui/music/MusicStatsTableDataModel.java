@@ -1,7 +1,5 @@
 package cz.vhromada.catalog.gui.music;
 
-import java.util.List;
-
 import cz.vhromada.catalog.entity.Music;
 import cz.vhromada.catalog.facade.MusicFacade;
 import cz.vhromada.catalog.gui.common.AbstractStatsTableDataModel;
@@ -17,7 +15,7 @@ import org.springframework.util.Assert;
  * @author Vladimir Hromada
  */
 @SuppressWarnings("Duplicates")
-public class MusicStatsTableDataModel extends AbstractStatsTableDataModel {
+public class MusicStatsTableDataModel extends AbstractStatsTableDataModel<Music> {
 
     /**
      * SerialVersionUID
@@ -34,26 +32,6 @@ public class MusicStatsTableDataModel extends AbstractStatsTableDataModel {
      */
     private final MusicFacade musicFacade;
 
-    /**
-     * List of music
-     */
-    private List<Music> musicList;
-
-    /**
-     * Total count of media
-     */
-    private int totalMediaCount;
-
-    /**
-     * Cunt of songs from all music
-     */
-    private int songsCount;
-
-    /**
-     * Total length of all songs
-     */
-    private Time totalLength;
-
     /**
      * Creates a new instance of MusicStatsTableDataModel.
      *
@@ -64,23 +42,6 @@ public class MusicStatsTableDataModel extends AbstractStatsTableDataModel {
         Assert.notNull(musicFacade, "Facade for music mustn't be null.");
 
         this.musicFacade = musicFacade;
-        update();
-    }
-
-    @Override
-    public Object getValueAt(final int rowIndex, final int columnIndex) {
-        switch (columnIndex) {
-            case 0:
-                return musicList.size();
-            case 1:
-                return totalMediaCount;
-            case 2:
-                return songsCount;
-            case 3:
-                return totalLength.toString();
-            default:
-                throw new IndexOutOfBoundsException(BAD_COLUMN_ERROR_MESSAGE);
-        }
     }
 
     @Override
@@ -126,23 +87,42 @@ public class MusicStatsTableDataModel extends AbstractStatsTableDataModel {
     }
 
     @Override
-    public final void update() {
-        final Result<List<Music>> musicResult = musicFacade.getAll();
-        final Result<Integer> totalMediaCountResult = musicFacade.getTotalMediaCount();
+    protected Object getValue(final int columnIndex) {
+        switch (columnIndex) {
+            case 0:
+                return getStat(0);
+            case 1:
+                return getStat(1);
+            case 2:
+                return getStat(2);
+            case 3:
+                return new Time(getStat(3)).toString();
+            default:
+                throw new IndexOutOfBoundsException(BAD_COLUMN_ERROR_MESSAGE);
+        }
+    }
+
+    @Override
+    public boolean hasNestedStats() {
+        return true;
+    }
+
+    @Override
+    protected int[] getStats(final Music data) {
+        return new int[] { 1, data.getMediaCount(), 0, 0 };
+    }
+
+    @Override
+    protected int[] getNestedStats() {
         final Result<Integer> songsCountResult = musicFacade.getSongsCount();
         final Result<Time> totalLengthResult = musicFacade.getTotalLength();
 
         final Result<Void> result = new Result<>();
-        result.addEvents(musicResult.getEvents());
-        result.addEvents(totalMediaCountResult.getEvents());
         result.addEvents(songsCountResult.getEvents());
         result.addEvents(totalLengthResult.getEvents());
 
         if (Status.OK == result.getStatus()) {
-            musicList = musicResult.getData();
-            totalMediaCount = totalMediaCountResult.getData();
-            songsCount = songsCountResult.getData();
-            totalLength = totalLengthResult.getData();
+            return new int[] { 0, 0, songsCountResult.getData(), totalLengthResult.getData().getLength() };
         } else {
             throw new IllegalArgumentException("Can't get data. " + result);
         }
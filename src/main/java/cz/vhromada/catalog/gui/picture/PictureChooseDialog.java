@@ -1,10 +1,11 @@
 package cz.vhromada.catalog.gui.picture;
 
+import java.awt.Cursor;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 import javax.swing.GroupLayout;
-import javax.swing.ImageIcon;
 import javax.swing.JButton;
 import javax.swing.JDialog;
 import javax.swing.JFrame;
@@ -12,19 +13,22 @@ import javax.swing.JLabel;
 import javax.swing.JList;
 import javax.swing.JScrollPane;
 import javax.swing.ListSelectionModel;
+import javax.swing.SwingConstants;
+import javax.swing.SwingWorker;
 import javax.swing.WindowConstants;
 
 import cz.vhromada.catalog.entity.Picture;
-import cz.vhromada.catalog.facade.PictureFacade;
 import cz.vhromada.catalog.gui.common.CatalogSwingConstants;
 import cz.vhromada.catalog.gui.common.DialogResult;
-import cz.vhromada.validation.result.Result;
-import cz.vhromada.validation.result.Status;
+import cz.vhromada.catalog.gui.common.FilterIndex;
+import cz.vhromada.catalog.gui.common.PictureCache;
+import cz.vhromada.catalog.gui.common.PictureLoader;
 
 import org.springframework.util.Assert;
 
 /**
- * A class represents dialog for choosing picture.
+ * A class represents dialog for choosing picture. Pictures are shown as grid of thumbnails, which are decoded only for shown rows. Listing of
+ * pictures is loaded in background, so opening of dialog isn't blocked, if listing isn't cached.
  *
  * @author Vladimir Hromada
  */
@@ -43,7 +47,12 @@ public final class PictureChooseDialog extends JDialog {
     /**
      * Horizontal scroll pane size
      */
-    private static final int HORIZONTAL_SCROLL_PANE_SIZE = 310;
+    private static final int HORIZONTAL_SCROLL_PANE_SIZE = 430;
+
+    /**
+     * Size of cell with thumbnail
+     */
+    private static final int CELL_SIZE = 100;
 
     /**
      * Horizontal button size
@@ -58,7 +67,7 @@ public final class PictureChooseDialog extends JDialog {
     /**
      * Horizontal size of gap between button
      */
-    private static final int HORIZONTAL_BUTTONS_GAP_SIZE = 154;
+    private static final int HORIZONTAL_BUTTONS_GAP_SIZE = 274;
 
     /**
      * Horizontal gap size
@@ -86,9 +95,9 @@ public final class PictureChooseDialog extends JDialog {
     private DialogResult returnStatus = DialogResult.CANCEL;
 
     /**
-     * Facade for pictures
+     * Cache for pictures
      */
-    private final PictureFacade pictureFacade;
+    private final PictureCache pictureCache;
 
     /**
      * Picture
@@ -105,11 +114,21 @@ public final class PictureChooseDialog extends JDialog {
      */
     private final JScrollPane listScrollPane = new JScrollPane(list);
 
+    /**
+     * Label shown instead of list with pictures while pictures are loading
+     */
+    private final JLabel loadingLabel = new JLabel("Loading pictures...", SwingConstants.CENTER);
+
     /**
      * Label for picture
      */
     private final JLabel pictureData = new JLabel();
 
+    /**
+     * Loader of pictures
+     */
+    private final PictureLoader pictureLoader;
+
     /**
      * Button OK
      */
@@ -125,22 +144,33 @@ public final class PictureChooseDialog extends JDialog {
      */
     private PicturesListDataModel pictureListDataModel;
 
+    /**
+     * Loader of thumbnails
+     */
+    private ThumbnailLoader thumbnailLoader;
+
+    /**
+     * Loader of pictures in list - null if pictures are loaded
+     */
+    private ListLoader listLoader;
+
     /**
      * Creates a new instance of PictureChooseDialog.
      *
-     * @param pictureFacade facade for pictures
-     * @param picture       picture
-     * @throws IllegalArgumentException if facade for pictures is null
+     * @param pictureCache cache for pictures
+     * @param picture      picture
+     * @throws IllegalArgumentException if cache for pictures is null
      *                                  or picture is null
      */
-    public PictureChooseDialog(final PictureFacade pictureFacade, final Picture picture) {
+    public PictureChooseDialog(final PictureCache pictureCache, final Picture picture) {
         super(new JFrame(), "Choose", true);
 
-        Assert.notNull(pictureFacade, "Facade for pictures mustn't be null.");
+        Assert.notNull(pictureCache, "Cache for pictures mustn't be null.");
         Assert.notNull(picture, "Pictures mustn't be null.");
 
-        this.pictureFacade = pictureFacade;
+        this.pictureCache = pictureCache;
         this.picture = picture;
+        this.pictureLoader = new PictureLoader(pictureCache, pictureData);
         initComponents();
         setIconImage(cz.vhromada.catalog.gui.common.Picture.CHOOSE.getIcon().getImage());
         updatePicture(picture.getId());
@@ -174,13 +204,20 @@ public final class PictureChooseDialog extends JDialog {
         setDefaultCloseOperation(WindowConstants.DISPOSE_ON_CLOSE);
         setResizable(false);
 
-        pictureListDataModel = new PicturesListDataModel(pictureFacade);
+        pictureListDataModel = new PicturesListDataModel(pictureCache);
+        thumbnailLoader = new ThumbnailLoader(pictureCache, list, pictureListDataModel);
         list.setModel(pictureListDataModel);
+        list.setLayoutOrientation(JList.HORIZONTAL_WRAP);
+        list.setVisibleRowCount(-1);
+        list.setFixedCellWidth(CELL_SIZE);
+        list.setFixedCellHeight(CELL_SIZE);
+        list.setCellRenderer(new PictureThumbnailRenderer(thumbnailLoader));
         list.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
-        list.setSelectedIndices(getSelectedIndexes());
-        list.addListSelectionListener(e -> selectionChangeAction());
+        listScrollPane.getVerticalScrollBar().setUnitIncrement(CELL_SIZE / 4);
+        listScrollPane.getViewport().addChangeListener(e -> thumbnailLoader.cancelHidden());
+        listScrollPane.setViewportView(loadingLabel);
 
-        okButton.setEnabled(list.getSelectedIndices().length > 0);
+        okButton.setEnabled(false);
         okButton.addActionListener(e -> okAction());
 
         cancelButton.addActionListener(e -> cancelAction());
@@ -192,6 +229,38 @@ public final class PictureChooseDialog extends JDialog {
 
         pack();
         setLocationRelativeTo(getRootPane());
+        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        listLoader = new ListLoader();
+        listLoader.execute();
+    }
+
+    /**
+     * Shows loaded pictures in list and selects picture.
+     *
+     * @param data  loaded pictures
+     * @param index index for filtering of loaded pictures
+     */
+    private void listLoaded(final List<Picture> data, final FilterIndex index) {
+        pictureListDataModel.setData(data, index);
+        list.setSelectedIndices(getSelectedIndexes());
+        list.addListSelectionListener(e -> selectionChangeAction());
+        listScrollPane.setViewportView(list);
+        okButton.setEnabled(list.getSelectedIndices().length > 0);
+        setCursor(null);
+        if (list.getSelectedIndex() >= 0) {
+            list.ensureIndexIsVisible(list.getSelectedIndex());
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (listLoader != null) {
+            listLoader.cancel(false);
+            listLoader = null;
+        }
+        pictureLoader.cancel();
+        thumbnailLoader.shutdown();
+        super.dispose();
     }
 
     /**
@@ -318,16 +387,46 @@ public final class PictureChooseDialog extends JDialog {
      * @param id picture's ID
      */
     private void updatePicture(final Integer id) {
-        if (id != null) {
-            final Result<Picture> pictureResult = pictureFacade.get(id);
-            if (Status.OK == pictureResult.getStatus()) {
-                pictureData.setIcon(new ImageIcon(pictureResult.getData().getContent()));
-            } else {
-                throw new IllegalArgumentException("Can't get data. " + pictureResult);
+        pictureLoader.load(id);
+    }
+
+    /**
+     * A class represents loader of pictures in list in background.
+     */
+    private final class ListLoader extends SwingWorker<List<Picture>, Void> {
+
+        /**
+         * Index for filtering of loaded pictures
+         */
+        private FilterIndex index;
+
+        @Override
+        protected List<Picture> doInBackground() {
+            final List<Picture> data = pictureListDataModel.loadData();
+            index = pictureListDataModel.createIndex(data);
+            return data;
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled() || listLoader != this) {
+                return;
+            }
+
+            listLoader = null;
+            try {
+                listLoaded(get(), index);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Loading of pictures was interrupted.", ex);
+            } catch (final ExecutionException ex) {
+                if (ex.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) ex.getCause();
+                }
+                throw new IllegalStateException("Can't load pictures.", ex.getCause());
             }
-        } else {
-            pictureData.setIcon(null);
         }
+
     }
 
 }
@@ -1,11 +1,12 @@
 package cz.vhromada.catalog.gui.picture;
 
 import javax.swing.GroupLayout;
-import javax.swing.ImageIcon;
 import javax.swing.JLabel;
 
 import cz.vhromada.catalog.entity.Picture;
 import cz.vhromada.catalog.gui.common.AbstractDataPanel;
+import cz.vhromada.catalog.gui.common.PictureCache;
+import cz.vhromada.catalog.gui.common.PictureLoader;
 
 import org.springframework.util.Assert;
 
@@ -26,13 +27,24 @@ public class PictureDataPanel extends AbstractDataPanel<Picture> {
      */
     private final JLabel pictureData = new JLabel();
 
+    /**
+     * Loader of pictures
+     */
+    private final PictureLoader pictureLoader;
+
     /**
      * Creates a new instance of PictureDataPanel.
      *
-     * @param picture picture
+     * @param picture      picture
+     * @param pictureCache cache for pictures
      * @throws IllegalArgumentException if picture is null
+     *                                  or cache for pictures is null
      */
-    public PictureDataPanel(final Picture picture) {
+    public PictureDataPanel(final Picture picture, final PictureCache pictureCache) {
+        Assert.notNull(pictureCache, "Cache for pictures mustn't be null.");
+
+        this.pictureLoader = new PictureLoader(pictureCache, pictureData);
+
         updateData(picture);
 
         pictureData.setFocusable(false);
@@ -44,12 +56,7 @@ public class PictureDataPanel extends AbstractDataPanel<Picture> {
     protected void updateComponentData(final Picture data) {
         Assert.notNull(data, "picture");
 
-        final byte[] picture = data.getContent();
-        if (picture == null) {
-            pictureData.setIcon(null);
-        } else {
-            pictureData.setIcon(new ImageIcon(picture));
-        }
+        pictureLoader.load(data.getId());
     }
 
     @Override
@@ -1,17 +1,19 @@
 package cz.vhromada.catalog.gui.picture;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
 
 import javax.swing.GroupLayout;
 import javax.swing.JButton;
 import javax.swing.JFileChooser;
+import javax.swing.JLabel;
+import javax.swing.SwingWorker;
 
 import cz.vhromada.catalog.entity.Picture;
 import cz.vhromada.catalog.gui.common.AbstractInfoDialog;
 import cz.vhromada.catalog.gui.common.CatalogSwingConstants;
+import cz.vhromada.catalog.gui.common.PictureImporter;
 
 /**
  * A class represents dialog for picture.
@@ -25,6 +27,16 @@ public class PictureInfoDialog extends AbstractInfoDialog<Picture> {
      */
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Label for size
+     */
+    private final JLabel sizeLabel = new JLabel("Size");
+
+    /**
+     * Data with size
+     */
+    private final JLabel sizeData = new JLabel();
+
     /**
      * Button for changing media
      */
@@ -36,9 +48,14 @@ public class PictureInfoDialog extends AbstractInfoDialog<Picture> {
     private final JFileChooser contentChooser = new JFileChooser();
 
     /**
-     * File
+     * Imported picture
+     */
+    private PictureImporter.ImportedPicture importedPicture;
+
+    /**
+     * Worker for importing picture - null if no picture is importing
      */
-    private File file;
+    private ImportWorker importWorker;
 
     /**
      * Creates a new instance of PictureInfoDialog.
@@ -49,49 +66,119 @@ public class PictureInfoDialog extends AbstractInfoDialog<Picture> {
         init();
     }
 
+    @Override
+    public void dispose() {
+        if (importWorker != null) {
+            importWorker.cancel(false);
+            importWorker = null;
+        }
+        super.dispose();
+    }
+
     @Override
     protected void initComponents() {
+        initLabelComponent(sizeLabel, sizeData);
+
+        sizeData.setFocusable(false);
+
         contentButton.addActionListener(e -> contentAction());
     }
 
     @Override
     protected Picture processData(final Picture objectData) {
-        if (file == null) {
+        if (importedPicture == null) {
             return null;
         }
 
-        try {
-            final Picture picture = new Picture();
-            picture.setContent(Files.readAllBytes(Paths.get(file.getAbsolutePath())));
-            return picture;
-        } catch (final IOException ex) {
-            throw new RuntimeException("Cannot get file content.", ex);
-        }
+        final Picture picture = new Picture();
+        picture.setContent(importedPicture.getContent());
+        return picture;
     }
 
     @Override
     protected GroupLayout.Group getHorizontalLayoutWithComponents(final GroupLayout layout, final GroupLayout.Group group) {
-        return group.addComponent(contentButton, HORIZONTAL_LONG_COMPONENT_SIZE, HORIZONTAL_LONG_COMPONENT_SIZE, HORIZONTAL_LONG_COMPONENT_SIZE);
+        return group
+            .addComponent(contentButton, HORIZONTAL_LONG_COMPONENT_SIZE, HORIZONTAL_LONG_COMPONENT_SIZE, HORIZONTAL_LONG_COMPONENT_SIZE)
+            .addGroup(createHorizontalComponents(layout, sizeLabel, sizeData));
     }
 
     @Override
     protected GroupLayout.Group getVerticalLayoutWithComponents(final GroupLayout layout, final GroupLayout.Group group) {
-        return group.addComponent(contentButton, CatalogSwingConstants.VERTICAL_BUTTON_SIZE, CatalogSwingConstants.VERTICAL_BUTTON_SIZE,
-            CatalogSwingConstants.VERTICAL_BUTTON_SIZE);
+        return group
+            .addComponent(contentButton, CatalogSwingConstants.VERTICAL_BUTTON_SIZE, CatalogSwingConstants.VERTICAL_BUTTON_SIZE,
+                CatalogSwingConstants.VERTICAL_BUTTON_SIZE)
+            .addGap(VERTICAL_GAP_SIZE)
+            .addGroup(createVerticalComponents(layout, sizeLabel, sizeData));
     }
 
     /**
      * Performs action for button Upload picture.
      */
     private void contentAction() {
+        if (importWorker != null) {
+            importWorker.cancel(false);
+            importWorker = null;
+        }
+        importedPicture = null;
+        setOkButtonEnabled(false);
+
         final int returnValue = contentChooser.showOpenDialog(null);
         if (JFileChooser.APPROVE_OPTION == returnValue) {
-            file = contentChooser.getSelectedFile();
-            setOkButtonEnabled(true);
+            sizeData.setText("Importing...");
+            importWorker = new ImportWorker(contentChooser.getSelectedFile().toPath());
+            importWorker.execute();
         } else {
-            file = null;
-            setOkButtonEnabled(false);
+            sizeData.setText(null);
+        }
+    }
+
+    /**
+     * A class represents worker for importing picture.
+     */
+    private final class ImportWorker extends SwingWorker<PictureImporter.ImportedPicture, Void> {
+
+        /**
+         * File with picture
+         */
+        private final Path file;
+
+        /**
+         * Creates a new instance of ImportWorker.
+         *
+         * @param file file with picture
+         */
+        ImportWorker(final Path file) {
+            this.file = file;
+        }
+
+        @Override
+        protected PictureImporter.ImportedPicture doInBackground() throws IOException {
+            return PictureImporter.importPicture(file);
         }
+
+        @Override
+        protected void done() {
+            if (isCancelled() || importWorker != this) {
+                return;
+            }
+
+            importWorker = null;
+            try {
+                importedPicture = get();
+                sizeData.setText(PictureImporter.formatSize(importedPicture.getContent().length) + " (saved "
+                    + PictureImporter.formatSize(importedPicture.getSavedBytes()) + ")");
+                setOkButtonEnabled(true);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Importing of picture was interrupted.", ex);
+            } catch (final ExecutionException ex) {
+                if (ex.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) ex.getCause();
+                }
+                sizeData.setText(ex.getCause().getMessage());
+            }
+        }
+
     }
 
 }
@@ -0,0 +1,55 @@
+package cz.vhromada.catalog.gui.picture;
+
+import java.awt.Component;
+
+import javax.swing.DefaultListCellRenderer;
+import javax.swing.JList;
+import javax.swing.SwingConstants;
+
+import org.springframework.util.Assert;
+
+/**
+ * A class represents renderer for list with thumbnails of pictures.
+ * <p>
+ * Renderer only shows cached thumbnails, so painting of list never waits for decoding of pictures. Thumbnails, which aren't cached, are requested
+ * from loader of thumbnails and only ID of picture is shown until thumbnail is decoded.
+ *
+ * @author Vladimir Hromada
+ */
+public class PictureThumbnailRenderer extends DefaultListCellRenderer {
+
+    /**
+     * SerialVersionUID
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Loader of thumbnails
+     */
+    private final ThumbnailLoader thumbnailLoader;
+
+    /**
+     * Creates a new instance of PictureThumbnailRenderer.
+     *
+     * @param thumbnailLoader loader of thumbnails
+     * @throws IllegalArgumentException if loader of thumbnails is null
+     */
+    public PictureThumbnailRenderer(final ThumbnailLoader thumbnailLoader) {
+        Assert.notNull(thumbnailLoader, "Loader of thumbnails mustn't be null.");
+
+        this.thumbnailLoader = thumbnailLoader;
+        setHorizontalAlignment(SwingConstants.CENTER);
+        setHorizontalTextPosition(SwingConstants.CENTER);
+        setVerticalTextPosition(SwingConstants.BOTTOM);
+    }
+
+    @Override
+    public Component getListCellRendererComponent(final JList<?> list, final Object value, final int index, final boolean isSelected,
+        final boolean cellHasFocus) {
+        super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
+        setIcon(index >= 0 ? thumbnailLoader.getThumbnail(index) : null);
+
+        return this;
+    }
+
+}
@@ -0,0 +1,398 @@
+package cz.vhromada.catalog.gui.picture;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.swing.GroupLayout;
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.JFrame;
+import javax.swing.JLabel;
+import javax.swing.JProgressBar;
+import javax.swing.SwingWorker;
+import javax.swing.WindowConstants;
+
+import cz.vhromada.catalog.entity.Picture;
+import cz.vhromada.catalog.facade.PictureFacade;
+import cz.vhromada.catalog.gui.common.CatalogSwingConstants;
+import cz.vhromada.catalog.gui.common.PictureImporter;
+import cz.vhromada.validation.result.Result;
+import cz.vhromada.validation.result.Status;
+
+import org.springframework.util.Assert;
+
+/**
+ * A class represents dialog for importing pictures from files and directories.
+ * <p>
+ * Files are imported by pool of threads with one thread for each processor. Imported pictures are added to facade in order of files by one
+ * thread. Only limited count of files is imported before their pictures are added, so memory isn't filled by imported pictures. Importing can be
+ * cancelled, pictures added before cancelling are kept.
+ *
+ * @author Vladimir Hromada
+ */
+public final class PicturesImportDialog extends JDialog {
+
+    /**
+     * SerialVersionUID
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Count of threads for importing pictures
+     */
+    private static final int THREADS_COUNT = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Count of files imported ahead of adding pictures
+     */
+    private static final int IMPORT_AHEAD_COUNT = THREADS_COUNT * 4;
+
+    /**
+     * Counter of threads
+     */
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    /**
+     * Horizontal component size
+     */
+    private static final int HORIZONTAL_COMPONENT_SIZE = 400;
+
+    /**
+     * Horizontal button size
+     */
+    private static final int HORIZONTAL_BUTTON_SIZE = 96;
+
+    /**
+     * Horizontal button gap size
+     */
+    private static final int HORIZONTAL_BUTTON_GAP_SIZE = 152;
+
+    /**
+     * Horizontal gap size
+     */
+    private static final int HORIZONTAL_GAP_SIZE = 20;
+
+    /**
+     * Vertical gap size
+     */
+    private static final int VERTICAL_GAP_SIZE = 20;
+
+    /**
+     * Facade for pictures
+     */
+    private final PictureFacade pictureFacade;
+
+    /**
+     * Progress bar
+     */
+    private final JProgressBar progressBar = new JProgressBar();
+
+    /**
+     * Label for state of importing
+     */
+    private final JLabel stateLabel = new JLabel("Searching files...");
+
+    /**
+     * Button Cancel
+     */
+    private final JButton cancelButton = new JButton("Cancel", cz.vhromada.catalog.gui.common.Picture.CANCEL.getIcon());
+
+    /**
+     * Count of added pictures
+     */
+    private final AtomicInteger addedCount = new AtomicInteger();
+
+    /**
+     * Worker for importing pictures - null if pictures aren't importing
+     */
+    private ImportWorker importWorker;
+
+    /**
+     * Creates a new instance of PicturesImportDialog. Importing is started immediately.
+     *
+     * @param pictureFacade facade for pictures
+     * @param files         files and directories with pictures
+     * @throws IllegalArgumentException if facade for pictures is null
+     *                                  or files are null
+     */
+    public PicturesImportDialog(final PictureFacade pictureFacade, final List<File> files) {
+        super(new JFrame(), "Import", true);
+
+        Assert.notNull(pictureFacade, "Facade for pictures mustn't be null.");
+        Assert.notNull(files, "Files mustn't be null.");
+
+        this.pictureFacade = pictureFacade;
+        initComponents();
+        setIconImage(cz.vhromada.catalog.gui.common.Picture.ADD.getIcon().getImage());
+
+        importWorker = new ImportWorker(files);
+        importWorker.execute();
+    }
+
+    /**
+     * Returns count of added pictures.
+     *
+     * @return count of added pictures
+     */
+    public int getAddedCount() {
+        return addedCount.get();
+    }
+
+    @Override
+    public void dispose() {
+        if (importWorker != null) {
+            importWorker.cancel(false);
+            importWorker = null;
+        }
+        super.dispose();
+    }
+
+    /**
+     * Initializes components.
+     */
+    private void initComponents() {
+        setDefaultCloseOperation(WindowConstants.DISPOSE_ON_CLOSE);
+        setResizable(false);
+
+        progressBar.setIndeterminate(true);
+        progressBar.setStringPainted(true);
+
+        stateLabel.setFocusable(false);
+
+        cancelButton.addActionListener(e -> {
+            setVisible(false);
+            dispose();
+        });
+
+        final GroupLayout layout = new GroupLayout(getRootPane());
+        getRootPane().setLayout(layout);
+        layout.setHorizontalGroup(createHorizontalLayout(layout));
+        layout.setVerticalGroup(createVerticalLayout(layout));
+
+        pack();
+        setLocationRelativeTo(getRootPane());
+    }
+
+    /**
+     * Returns horizontal layout of components.
+     *
+     * @param layout layout
+     * @return horizontal layout of components
+     */
+    private GroupLayout.Group createHorizontalLayout(final GroupLayout layout) {
+        final GroupLayout.Group button = layout.createSequentialGroup()
+            .addGap(HORIZONTAL_BUTTON_GAP_SIZE)
+            .addComponent(cancelButton, HORIZONTAL_BUTTON_SIZE, HORIZONTAL_BUTTON_SIZE, HORIZONTAL_BUTTON_SIZE);
+
+        final GroupLayout.Group components = layout.createParallelGroup()
+            .addComponent(progressBar, HORIZONTAL_COMPONENT_SIZE, HORIZONTAL_COMPONENT_SIZE, HORIZONTAL_COMPONENT_SIZE)
+            .addComponent(stateLabel, HORIZONTAL_COMPONENT_SIZE, HORIZONTAL_COMPONENT_SIZE, HORIZONTAL_COMPONENT_SIZE)
+            .addGroup(button);
+
+        return layout.createSequentialGroup()
+            .addGap(HORIZONTAL_GAP_SIZE)
+            .addGroup(components)
+            .addGap(HORIZONTAL_GAP_SIZE);
+    }
+
+    /**
+     * Returns vertical layout of components.
+     *
+     * @param layout layout
+     * @return vertical layout of components
+     */
+    private GroupLayout.Group createVerticalLayout(final GroupLayout layout) {
+        return layout.createSequentialGroup()
+            .addGap(VERTICAL_GAP_SIZE)
+            .addComponent(progressBar, CatalogSwingConstants.VERTICAL_COMPONENT_SIZE, CatalogSwingConstants.VERTICAL_COMPONENT_SIZE,
+                CatalogSwingConstants.VERTICAL_COMPONENT_SIZE)
+            .addGap(VERTICAL_GAP_SIZE)
+            .addComponent(stateLabel, CatalogSwingConstants.VERTICAL_COMPONENT_SIZE, CatalogSwingConstants.VERTICAL_COMPONENT_SIZE,
+                CatalogSwingConstants.VERTICAL_COMPONENT_SIZE)
+            .addGap(VERTICAL_GAP_SIZE)
+            .addComponent(cancelButton, CatalogSwingConstants.VERTICAL_BUTTON_SIZE, CatalogSwingConstants.VERTICAL_BUTTON_SIZE,
+                CatalogSwingConstants.VERTICAL_BUTTON_SIZE)
+            .addGap(VERTICAL_GAP_SIZE);
+    }
+
+    /**
+     * Returns regular files. Directories are searched recursively.
+     *
+     * @param files files and directories
+     * @return regular files
+     * @throws IOException if directory can't be searched
+     */
+    private static List<Path> getFiles(final List<File> files) throws IOException {
+        final List<Path> result = new ArrayList<>();
+        for (final File file : files) {
+            if (file.isDirectory()) {
+                try (Stream<Path> paths = Files.walk(file.toPath())) {
+                    result.addAll(paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList()));
+                }
+            } else if (file.isFile()) {
+                result.add(file.toPath());
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * A class represents state of importing.
+     */
+    private static final class ImportState {
+
+        /**
+         * Count of processed files
+         */
+        private final int processedCount;
+
+        /**
+         * Count of files
+         */
+        private final int filesCount;
+
+        /**
+         * Creates a new instance of ImportState.
+         *
+         * @param processedCount count of processed files
+         * @param filesCount     count of files
+         */
+        ImportState(final int processedCount, final int filesCount) {
+            this.processedCount = processedCount;
+            this.filesCount = filesCount;
+        }
+
+    }
+
+    /**
+     * A class represents worker for importing pictures.
+     */
+    private final class ImportWorker extends SwingWorker<Void, ImportState> {
+
+        /**
+         * Files and directories with pictures
+         */
+        private final List<File> files;
+
+        /**
+         * Count of files, which aren't pictures or which can't be added
+         */
+        private int failedCount;
+
+        /**
+         * Count of saved bytes
+         */
+        private long savedBytes;
+
+        /**
+         * Creates a new instance of ImportWorker.
+         *
+         * @param files files and directories with pictures
+         */
+        ImportWorker(final List<File> files) {
+            this.files = files;
+        }
+
+        @Override
+        protected Void doInBackground() throws IOException, InterruptedException {
+            final List<Path> paths = getFiles(files);
+            publish(new ImportState(0, paths.size()));
+
+            final ExecutorService executor = Executors.newFixedThreadPool(THREADS_COUNT, runnable -> {
+                final Thread thread = new Thread(runnable, "picture-import-" + THREAD_COUNTER.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            try {
+                final List<Future<PictureImporter.ImportedPicture>> imports = new ArrayList<>(paths.size());
+                for (int i = 0; i < paths.size() && !isCancelled(); i++) {
+                    while (imports.size() < paths.size() && imports.size() <= i + IMPORT_AHEAD_COUNT) {
+                        final Path path = paths.get(imports.size());
+                        imports.add(executor.submit(() -> PictureImporter.importPicture(path)));
+                    }
+                    add(imports.get(i));
+                    imports.set(i, null);
+                    publish(new ImportState(i + 1, paths.size()));
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            return null;
+        }
+
+        @Override
+        protected void process(final List<ImportState> chunks) {
+            final ImportState state = chunks.get(chunks.size() - 1);
+            progressBar.setIndeterminate(false);
+            progressBar.setMaximum(state.filesCount);
+            progressBar.setValue(state.processedCount);
+            stateLabel.setText(state.processedCount + " / " + state.filesCount);
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled() || importWorker != this) {
+                return;
+            }
+
+            importWorker = null;
+            try {
+                get();
+                progressBar.setIndeterminate(false);
+                progressBar.setValue(progressBar.getMaximum());
+                stateLabel.setText("Added " + addedCount.get() + ", failed " + failedCount + ", saved " + PictureImporter.formatSize(savedBytes));
+                cancelButton.setText("OK");
+                cancelButton.setIcon(cz.vhromada.catalog.gui.common.Picture.OK.getIcon());
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Importing of pictures was interrupted.", ex);
+            } catch (final ExecutionException ex) {
+                if (ex.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) ex.getCause();
+                }
+                throw new IllegalStateException("Can't import pictures.", ex.getCause());
+            }
+        }
+
+        /**
+         * Adds imported picture to facade.
+         *
+         * @param importedPicture imported picture
+         * @throws InterruptedException if waiting for imported picture was interrupted
+         */
+        private void add(final Future<PictureImporter.ImportedPicture> importedPicture) throws InterruptedException {
+            try {
+                final PictureImporter.ImportedPicture data = importedPicture.get();
+                if (isCancelled()) {
+                    return;
+                }
+                final Picture picture = new Picture();
+                picture.setContent(data.getContent());
+                final Result<Void> result = pictureFacade.add(picture);
+                if (Status.OK == result.getStatus()) {
+                    addedCount.incrementAndGet();
+                    savedBytes += data.getSavedBytes();
+                } else {
+                    failedCount++;
+                }
+            } catch (final ExecutionException ex) {
+                failedCount++;
+            }
+        }
+
+    }
+
+}
@@ -3,14 +3,14 @@ package cz.vhromada.catalog.gui.picture;
 import java.util.List;
 
 import cz.vhromada.catalog.entity.Picture;
-import cz.vhromada.catalog.facade.PictureFacade;
 import cz.vhromada.catalog.gui.common.AbstractListDataModel;
+import cz.vhromada.catalog.gui.common.PictureCache;
 import cz.vhromada.validation.result.Result;
 
 import org.springframework.util.Assert;
 
 /**
- * A class represents data model for list with pictures.
+ * A class represents data model for list with pictures. Pictures in list have only ID and position, content is loaded only for shown picture.
  *
  * @author Vladimir Hromada
  */
@@ -22,26 +22,25 @@ public class PicturesListDataModel extends AbstractListDataModel<Picture> {
     private static final long serialVersionUID = 1L;
 
     /**
-     * Facade for pictures
+     * Cache for pictures
      */
-    private final PictureFacade pictureFacade;
+    private final PictureCache pictureCache;
 
     /**
      * Creates a new instance of PicturesListDataModel.
      *
-     * @param pictureFacade facade for pictures
-     * @throws IllegalArgumentException if facade for pictures is null
+     * @param pictureCache cache for pictures
+     * @throws IllegalArgumentException if cache for pictures is null
      */
-    public PicturesListDataModel(final PictureFacade pictureFacade) {
-        Assert.notNull(pictureFacade, "Facade for pictures mustn't be null.");
+    public PicturesListDataModel(final PictureCache pictureCache) {
+        Assert.notNull(pictureCache, "Cache for pictures mustn't be null.");
 
-        this.pictureFacade = pictureFacade;
-        update();
+        this.pictureCache = pictureCache;
     }
 
     @Override
     protected Result<List<Picture>> getData() {
-        return pictureFacade.getAll();
+        return pictureCache.getPictures();
     }
 
     @Override
@@ -1,12 +1,23 @@
 package cz.vhromada.catalog.gui.picture;
 
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
+import java.util.Arrays;
+
+import javax.swing.JFileChooser;
+import javax.swing.JMenuItem;
 import javax.swing.JPanel;
 import javax.swing.JTabbedPane;
+import javax.swing.KeyStroke;
+import javax.swing.SwingUtilities;
 
 import cz.vhromada.catalog.entity.Picture;
 import cz.vhromada.catalog.facade.PictureFacade;
 import cz.vhromada.catalog.gui.common.AbstractInfoDialog;
 import cz.vhromada.catalog.gui.common.AbstractOverviewDataPanel;
+import cz.vhromada.catalog.gui.common.PictureCache;
+
+import org.springframework.util.Assert;
 
 /**
  * A class represents panel with pictures' data.
@@ -25,16 +36,31 @@ public class PicturesPanel extends AbstractOverviewDataPanel<Picture> {
      */
     private final PictureFacade pictureFacade;
 
+    /**
+     * Cache for pictures
+     */
+    private final PictureCache pictureCache;
+
     /**
      * Creates a new instance of PicturesPanel.
      *
      * @param pictureFacade facade for pictures
+     * @param pictureCache  cache for pictures
      * @throws IllegalArgumentException if facade for pictures is null
+     *                                  or cache for pictures is null
      */
-    public PicturesPanel(final PictureFacade pictureFacade) {
-        super(getPicturesListDataModel(pictureFacade));
+    public PicturesPanel(final PictureFacade pictureFacade, final PictureCache pictureCache) {
+        super(getPicturesListDataModel(pictureCache));
+
+        Assert.notNull(pictureFacade, "Facade for pictures mustn't be null.");
 
         this.pictureFacade = pictureFacade;
+        this.pictureCache = pictureCache;
+
+        final JMenuItem importPopupMenuItem = new JMenuItem("Import", cz.vhromada.catalog.gui.common.Picture.ADD.getIcon());
+        importPopupMenuItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_I, InputEvent.CTRL_DOWN_MASK));
+        importPopupMenuItem.addActionListener(e -> importAction());
+        addPopupMenuItem(importPopupMenuItem);
     }
 
     @Override
@@ -59,6 +85,11 @@ public class PicturesPanel extends AbstractOverviewDataPanel<Picture> {
         throw new UnsupportedOperationException("Updating data is not allowed for pictures.");
     }
 
+    @Override
+    protected void updatePosition(final Picture data) {
+        pictureFacade.update(getPositionData(pictureFacade.get(data.getId()), data));
+    }
+
     @Override
     protected void removeData(final Picture data) {
         pictureFacade.remove(data);
@@ -81,22 +112,40 @@ public class PicturesPanel extends AbstractOverviewDataPanel<Picture> {
 
     @Override
     protected JPanel getDataPanel(final Picture data) {
-        return new PictureDataPanel(data);
+        return new PictureDataPanel(data, pictureCache);
     }
 
     @Override
     protected void updateDataOnChange(final JTabbedPane dataPanel, final Picture data) {
     }
 
+    /**
+     * Performs action for button Import.
+     */
+    private void importAction() {
+        SwingUtilities.invokeLater(() -> {
+            final JFileChooser chooser = new JFileChooser();
+            chooser.setMultiSelectionEnabled(true);
+            chooser.setFileSelectionMode(JFileChooser.FILES_AND_DIRECTORIES);
+            if (JFileChooser.APPROVE_OPTION == chooser.showOpenDialog(null)) {
+                final PicturesImportDialog dialog = new PicturesImportDialog(pictureFacade, Arrays.asList(chooser.getSelectedFiles()));
+                dialog.setVisible(true);
+                if (dialog.getAddedCount() > 0) {
+                    reloadAddedData();
+                }
+            }
+        });
+    }
+
     /**
      * Returns data model for list with pictures.
      *
-     * @param facade facade for pictures
+     * @param cache cache for pictures
      * @return data model for list with pictures
-     * @throws IllegalArgumentException if facade for pictures is null
+     * @throws IllegalArgumentException if cache for pictures is null
      */
-    private static PicturesListDataModel getPicturesListDataModel(final PictureFacade facade) {
-        return new PicturesListDataModel(facade);
+    private static PicturesListDataModel getPicturesListDataModel(final PictureCache cache) {
+        return new PicturesListDataModel(cache);
     }
 
 }
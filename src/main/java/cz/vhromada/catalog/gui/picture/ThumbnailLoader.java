@@ -0,0 +1,214 @@
+package cz.vhromada.catalog.gui.picture;
+
+import java.awt.Rectangle;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.swing.ImageIcon;
+import javax.swing.JList;
+import javax.swing.SwingUtilities;
+
+import cz.vhromada.catalog.gui.common.PictureCache;
+
+import org.springframework.util.Assert;
+
+/**
+ * A class represents loader of thumbnails of pictures for list with pictures.
+ * <p>
+ * Thumbnails are decoded by pool of background threads. Only thumbnails of shown rows are requested, because renderer of list is called only for
+ * them. Decoding of thumbnails of rows, which were scrolled out of view, is cancelled. After thumbnail is decoded, only its row is painted again.
+ * <p>
+ * Methods of loader must be called in event dispatch thread.
+ *
+ * @author Vladimir Hromada
+ */
+public class ThumbnailLoader {
+
+    /**
+     * Count of threads for decoding of thumbnails
+     */
+    private static final int THREADS_COUNT = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+    /**
+     * Counter of threads
+     */
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    /**
+     * Cache for pictures
+     */
+    private final PictureCache pictureCache;
+
+    /**
+     * List with pictures
+     */
+    private final JList<String> list;
+
+    /**
+     * Data model for list with pictures
+     */
+    private final PicturesListDataModel listDataModel;
+
+    /**
+     * Pool of threads for decoding of thumbnails
+     */
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS_COUNT, runnable -> {
+        final Thread thread = new Thread(runnable, "picture-thumbnail-" + THREAD_COUNTER.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Requested thumbnails - ID of picture to task
+     */
+    private final Map<Integer, Task> tasks = new HashMap<>();
+
+    /**
+     * Creates a new instance of ThumbnailLoader.
+     *
+     * @param pictureCache  cache for pictures
+     * @param list          list with pictures
+     * @param listDataModel data model for list with pictures
+     * @throws IllegalArgumentException if cache for pictures is null
+     *                                  or list with pictures is null
+     *                                  or data model for list with pictures is null
+     */
+    public ThumbnailLoader(final PictureCache pictureCache, final JList<String> list, final PicturesListDataModel listDataModel) {
+        Assert.notNull(pictureCache, "Cache for pictures mustn't be null.");
+        Assert.notNull(list, "List with pictures mustn't be null.");
+        Assert.notNull(listDataModel, "Data model for list with pictures mustn't be null.");
+
+        this.pictureCache = pictureCache;
+        this.list = list;
+        this.listDataModel = listDataModel;
+    }
+
+    /**
+     * Returns thumbnail of picture at the specified index. If thumbnail isn't cached, then it is requested and row is painted after it is decoded.
+     *
+     * @param index the index
+     * @return thumbnail of picture or null if thumbnail isn't decoded yet
+     */
+    public ImageIcon getThumbnail(final int index) {
+        final Integer id = listDataModel.getObjectAt(index).getId();
+        final ImageIcon thumbnail = pictureCache.getCachedThumbnail(id);
+        if (thumbnail == null && !executor.isShutdown() && !tasks.containsKey(id)) {
+            final Task task = new Task(id);
+            tasks.put(id, task);
+            executor.execute(task);
+        }
+
+        return thumbnail;
+    }
+
+    /**
+     * Cancels decoding of thumbnails of rows, which aren't shown.
+     */
+    public void cancelHidden() {
+        final int first = list.getFirstVisibleIndex();
+        final int last = list.getLastVisibleIndex();
+        final Iterator<Task> iterator = tasks.values().iterator();
+        while (iterator.hasNext()) {
+            final Task task = iterator.next();
+            final int index = getIndex(task.id);
+            if (index < first || index > last) {
+                task.cancelled = true;
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Cancels decoding of all thumbnails and stops threads. Threads aren't interrupted, because they can read pictures from database, so thumbnail,
+     * which is decoding, is finished and cancelled thumbnails waiting for decoding are skipped.
+     */
+    public void shutdown() {
+        for (final Task task : tasks.values()) {
+            task.cancelled = true;
+        }
+        tasks.clear();
+        executor.shutdown();
+    }
+
+    /**
+     * Returns index of picture in list.
+     *
+     * @param id ID of picture
+     * @return index of picture in list or -1 if picture isn't in list
+     */
+    private int getIndex(final Integer id) {
+        final int first = Math.max(0, list.getFirstVisibleIndex());
+        final int last = Math.min(listDataModel.getSize() - 1, list.getLastVisibleIndex());
+        for (int i = first; i <= last; i++) {
+            if (id.equals(listDataModel.getObjectAt(i).getId())) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Paints again row with decoded thumbnail.
+     *
+     * @param task task
+     */
+    private void thumbnailDecoded(final Task task) {
+        if (tasks.get(task.id) != task) {
+            return;
+        }
+
+        tasks.remove(task.id);
+        final int index = getIndex(task.id);
+        if (index >= 0 && pictureCache.getCachedThumbnail(task.id) != null) {
+            final Rectangle bounds = list.getCellBounds(index, index);
+            if (bounds != null) {
+                list.repaint(bounds);
+            }
+        }
+    }
+
+    /**
+     * A class represents task for decoding of thumbnail.
+     */
+    private final class Task implements Runnable {
+
+        /**
+         * ID of picture
+         */
+        private final Integer id;
+
+        /**
+         * True if decoding is cancelled
+         */
+        private volatile boolean cancelled;
+
+        /**
+         * Creates a new instance of Task.
+         *
+         * @param id ID of picture
+         */
+        Task(final Integer id) {
+            this.id = id;
+        }
+
+        @Override
+        public void run() {
+            if (cancelled) {
+                return;
+            }
+
+            try {
+                pictureCache.getThumbnail(id, () -> cancelled);
+            } finally {
+                SwingUtilities.invokeLater(() -> thumbnailDecoded(this));
+            }
+        }
+
+    }
+
+}
@@ -36,7 +36,6 @@ public class ProgramsListDataModel extends AbstractListDataModel<Program> {
         Assert.notNull(programFacade, "Facade for programs mustn't be null");
 
         this.programFacade = programFacade;
-        update();
     }
 
     @Override
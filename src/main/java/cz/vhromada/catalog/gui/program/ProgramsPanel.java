@@ -32,7 +32,7 @@ public class ProgramsPanel extends AbstractOverviewDataPanel<Program> {
      * @throws IllegalArgumentException if facade for programs is null
      */
     public ProgramsPanel(final ProgramFacade programFacade) {
-        super(getProgramsListDataModel(programFacade), getProgramsStatsTableDataModel(programFacade));
+        super(getProgramsListDataModel(programFacade), new ProgramsStatsTableDataModel());
 
         this.programFacade = programFacade;
     }
@@ -57,6 +57,11 @@ public class ProgramsPanel extends AbstractOverviewDataPanel<Program> {
         programFacade.update(data);
     }
 
+    @Override
+    protected void updatePosition(final Program data) {
+        programFacade.update(getPositionData(programFacade.get(data.getId()), data));
+    }
+
     @Override
     protected void removeData(final Program data) {
         programFacade.remove(data);
@@ -97,15 +102,4 @@ public class ProgramsPanel extends AbstractOverviewDataPanel<Program> {
         return new ProgramsListDataModel(facade);
     }
 
-    /**
-     * Returns data model for table with stats for programs.
-     *
-     * @param facade facade for programs
-     * @return data model for table with stats for programs
-     * @throws IllegalArgumentException if facade for programs is null
-     */
-    private static ProgramsStatsTableDataModel getProgramsStatsTableDataModel(final ProgramFacade facade) {
-        return new ProgramsStatsTableDataModel(facade);
-    }
-
 }
@@ -1,14 +1,7 @@
 package cz.vhromada.catalog.gui.program;
 
-import java.util.List;
-
 import cz.vhromada.catalog.entity.Program;
-import cz.vhromada.catalog.facade.ProgramFacade;
 import cz.vhromada.catalog.gui.common.AbstractStatsTableDataModel;
-import cz.vhromada.validation.result.Result;
-import cz.vhromada.validation.result.Status;
-
-import org.springframework.util.Assert;
 
 /**
  * A class represents data model for table with stats for programs.
@@ -16,53 +9,13 @@ import org.springframework.util.Assert;
  * @author Vladimir Hromada
  */
 @SuppressWarnings("Duplicates")
-public class ProgramsStatsTableDataModel extends AbstractStatsTableDataModel {
+public class ProgramsStatsTableDataModel extends AbstractStatsTableDataModel<Program> {
 
     /**
      * SerialVersionUID
      */
     private static final long serialVersionUID = 1L;
 
-    /**
-     * Facade for programs
-     */
-    private final ProgramFacade programFacade;
-
-    /**
-     * List of programs
-     */
-    private List<Program> programs;
-
-    /**
-     * Total count of media
-     */
-    private int totalMediaCount;
-
-    /**
-     * Creates a new instance of ProgramsStatsTableDataModel.
-     *
-     * @param programFacade facade for programs
-     * @throws IllegalArgumentException if facade for programs is null
-     */
-    public ProgramsStatsTableDataModel(final ProgramFacade programFacade) {
-        Assert.notNull(programFacade, "Facade for programs mustn't be null.");
-
-        this.programFacade = programFacade;
-        update();
-    }
-
-    @Override
-    public Object getValueAt(final int rowIndex, final int columnIndex) {
-        switch (columnIndex) {
-            case 0:
-                return programs.size();
-            case 1:
-                return totalMediaCount;
-            default:
-                throw new IndexOutOfBoundsException("Bad column");
-        }
-    }
-
     @Override
     public int getColumnCount() {
         return 2;
@@ -91,20 +44,20 @@ public class ProgramsStatsTableDataModel extends AbstractStatsTableDataModel {
     }
 
     @Override
-    public final void update() {
-        final Result<List<Program>> programsResult = programFacade.getAll();
-        final Result<Integer> totalMediaCountResult = programFacade.getTotalMediaCount();
-
-        final Result<Void> result = new Result<>();
-        result.addEvents(programsResult.getEvents());
-        result.addEvents(totalMediaCountResult.getEvents());
-
-        if (Status.OK == result.getStatus()) {
-            programs = programsResult.getData();
-            totalMediaCount = totalMediaCountResult.getData();
-        } else {
-            throw new IllegalArgumentException("Can't get data. " + result);
+    protected Object getValue(final int columnIndex) {
+        switch (columnIndex) {
+            case 0:
+                return getStat(0);
+            case 1:
+                return getStat(1);
+            default:
+                throw new IndexOutOfBoundsException("Bad column");
         }
     }
 
+    @Override
+    protected int[] getStats(final Program data) {
+        return new int[] { 1, data.getMediaCount() };
+    }
+
 }
@@ -1,17 +1,12 @@
 package cz.vhromada.catalog.gui.season;
 
-import java.util.List;
-
 import javax.swing.GroupLayout;
 import javax.swing.JLabel;
 
-import cz.vhromada.catalog.entity.Episode;
+import cz.vhromada.catalog.cache.ShowAggregateCache;
 import cz.vhromada.catalog.entity.Season;
-import cz.vhromada.catalog.facade.EpisodeFacade;
 import cz.vhromada.catalog.gui.common.AbstractDataPanel;
 import cz.vhromada.common.Time;
-import cz.vhromada.validation.result.Result;
-import cz.vhromada.validation.result.Status;
 
 import org.springframework.util.Assert;
 
@@ -28,9 +23,9 @@ public class SeasonDataPanel extends AbstractDataPanel<Season> {
     private static final long serialVersionUID = 1L;
 
     /**
-     * Facade for episodes
+     * Cache for aggregates of shows
      */
-    private final EpisodeFacade episodeFacade;
+    private final ShowAggregateCache showAggregateCache;
 
     /**
      * Label for number
@@ -105,15 +100,15 @@ public class SeasonDataPanel extends AbstractDataPanel<Season> {
     /**
      * Creates a new instance of SeasonDataPanel.
      *
-     * @param season        season
-     * @param episodeFacade facade for episodes
+     * @param season             season
+     * @param showAggregateCache cache for aggregates of shows
      * @throws IllegalArgumentException if season is null
-     *                                  or facade for episodes is null
+     *                                  or cache for aggregates of shows is null
      */
-    public SeasonDataPanel(final Season season, final EpisodeFacade episodeFacade) {
-        Assert.notNull(episodeFacade, "Facade for episodes mustn't be null.");
+    public SeasonDataPanel(final Season season, final ShowAggregateCache showAggregateCache) {
+        Assert.notNull(showAggregateCache, "Cache for aggregates of shows mustn't be null.");
 
-        this.episodeFacade = episodeFacade;
+        this.showAggregateCache = showAggregateCache;
 
         updateData(season);
 
@@ -134,8 +129,9 @@ public class SeasonDataPanel extends AbstractDataPanel<Season> {
         yearData.setText(getYear(data));
         languageData.setText(data.getLanguage().toString());
         subtitlesData.setText(getSubtitles(data.getSubtitles()));
-        episodesCountData.setText(getEpisodesCount(data));
-        totalLengthData.setText(getSeasonLength(data));
+        final ShowAggregateCache.Aggregate aggregate = showAggregateCache.getSeasonAggregate(data);
+        episodesCountData.setText(Integer.toString(aggregate.getEpisodesCount()));
+        totalLengthData.setText(new Time(aggregate.getLength()).toString());
         noteData.setText(data.getNote());
     }
 
@@ -203,40 +199,4 @@ public class SeasonDataPanel extends AbstractDataPanel<Season> {
         return startYear == endYear ? Integer.toString(startYear) : startYear + " - " + endYear;
     }
 
-    /**
-     * Returns count of season's episodes.
-     *
-     * @param season season
-     * @return count of season's episodes
-     */
-    private String getEpisodesCount(final Season season) {
-        final Result<List<Episode>> result = episodeFacade.find(season);
-
-        if (Status.OK == result.getStatus()) {
-            return Integer.toString(result.getData().size());
-        } else {
-            throw new IllegalArgumentException("Can't get data. " + result);
-        }
-    }
-
-    /**
-     * Returns total length of all season's episodes.
-     *
-     * @param season season
-     * @return total length of all season's episodes
-     */
-    private String getSeasonLength(final Season season) {
-        final Result<List<Episode>> result = episodeFacade.find(season);
-
-        if (Status.OK == result.getStatus()) {
-            int totalLength = 0;
-            for (final Episode episode : result.getData()) {
-                totalLength += episode.getLength();
-            }
-            return new Time(totalLength).toString();
-        } else {
-            throw new IllegalArgumentException("Can't get data. " + result);
-        }
-    }
-
 }
@@ -46,7 +46,6 @@ public class SeasonsListDataModel extends AbstractListDataModel<Season> {
 
         this.seasonFacade = seasonFacade;
         this.show = show;
-        update();
     }
 
     @Override
@@ -3,6 +3,7 @@ package cz.vhromada.catalog.gui.season;
 import javax.swing.JPanel;
 import javax.swing.JTabbedPane;
 
+import cz.vhromada.catalog.cache.ShowAggregateCache;
 import cz.vhromada.catalog.entity.Season;
 import cz.vhromada.catalog.entity.Show;
 import cz.vhromada.catalog.facade.EpisodeFacade;
@@ -35,6 +36,11 @@ public class SeasonsPanel extends AbstractOverviewDataPanel<Season> {
      */
     private final EpisodeFacade episodeFacade;
 
+    /**
+     * Cache for aggregates of shows
+     */
+    private final ShowAggregateCache showAggregateCache;
+
     /**
      * Show
      */
@@ -43,20 +49,25 @@ public class SeasonsPanel extends AbstractOverviewDataPanel<Season> {
     /**
      * Creates a new instance of SeasonsPanel.
      *
-     * @param seasonFacade  facade for seasons
-     * @param episodeFacade facade for episodes
-     * @param show          show
+     * @param seasonFacade       facade for seasons
+     * @param episodeFacade      facade for episodes
+     * @param showAggregateCache cache for aggregates of shows
+     * @param show               show
      * @throws IllegalArgumentException if facade for seasons is null
      *                                  or facade for episodes is null
+     *                                  or cache for aggregates of shows is null
      *                                  or show is null
      */
-    public SeasonsPanel(final SeasonFacade seasonFacade, final EpisodeFacade episodeFacade, final Show show) {
+    public SeasonsPanel(final SeasonFacade seasonFacade, final EpisodeFacade episodeFacade, final ShowAggregateCache showAggregateCache,
+        final Show show) {
         super(getSeasonsListDataModel(seasonFacade, show));
 
         Assert.notNull(episodeFacade, "Facade for episodes mustn't be null.");
+        Assert.notNull(showAggregateCache, "Cache for aggregates of shows mustn't be null.");
 
         this.seasonFacade = seasonFacade;
         this.episodeFacade = episodeFacade;
+        this.showAggregateCache = showAggregateCache;
         this.show = show;
     }
 
@@ -83,7 +94,12 @@ public class SeasonsPanel extends AbstractOverviewDataPanel<Season> {
     }
 
     @Override
-    public void save() {
+    public long getChanges() {
+        throw new UnsupportedOperationException("Getting count of changes of data is not allowed for seasons.");
+    }
+
+    @Override
+    public void save(final long count) {
         throw new UnsupportedOperationException("Saving data is not allowed for seasons.");
     }
 
@@ -112,6 +128,11 @@ public class SeasonsPanel extends AbstractOverviewDataPanel<Season> {
         seasonFacade.update(data);
     }
 
+    @Override
+    protected void updatePosition(final Season data) {
+        seasonFacade.update(getPositionData(seasonFacade.get(data.getId()), data));
+    }
+
     @Override
     protected void removeData(final Season data) {
         seasonFacade.remove(data);
@@ -134,7 +155,7 @@ public class SeasonsPanel extends AbstractOverviewDataPanel<Season> {
 
     @Override
     protected JPanel getDataPanel(final Season data) {
-        return new SeasonDataPanel(data, episodeFacade);
+        return new SeasonDataPanel(data, showAggregateCache);
     }
 
     @Override
@@ -142,6 +163,7 @@ public class SeasonsPanel extends AbstractOverviewDataPanel<Season> {
         final EpisodesPanel episodesPanel = new EpisodesPanel(episodeFacade, data);
         episodesPanel.addPropertyChangeListener("update", evt -> {
             if (Boolean.TRUE.equals(evt.getNewValue())) {
+                showAggregateCache.seasonChanged(data);
                 updateModel(data);
                 episodesPanel.setSeason(data);
                 firePropertyChange("update", false, true);
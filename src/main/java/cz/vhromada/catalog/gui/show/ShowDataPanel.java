@@ -1,22 +1,16 @@
 package cz.vhromada.catalog.gui.show;
 
-import java.util.List;
-
 import javax.swing.GroupLayout;
 import javax.swing.JButton;
 import javax.swing.JLabel;
 
-import cz.vhromada.catalog.entity.Episode;
-import cz.vhromada.catalog.entity.Season;
+import cz.vhromada.catalog.cache.ShowAggregateCache;
 import cz.vhromada.catalog.entity.Show;
-import cz.vhromada.catalog.facade.EpisodeFacade;
-import cz.vhromada.catalog.facade.PictureFacade;
-import cz.vhromada.catalog.facade.SeasonFacade;
 import cz.vhromada.catalog.gui.common.AbstractDataPanel;
+import cz.vhromada.catalog.gui.common.PictureCache;
+import cz.vhromada.catalog.gui.common.PictureLoader;
 import cz.vhromada.catalog.gui.common.WebPageButtonType;
 import cz.vhromada.common.Time;
-import cz.vhromada.validation.result.Result;
-import cz.vhromada.validation.result.Status;
 
 import org.springframework.util.Assert;
 
@@ -33,23 +27,13 @@ public class ShowDataPanel extends AbstractDataPanel<Show> {
     private static final long serialVersionUID = 1L;
 
     /**
-     * Error message for result with errors
+     * Cache for aggregates of shows
      */
-    private static final String RESULT_WITH_ERROR_MESSAGE = "Can't get data. ";
-
+    private final ShowAggregateCache showAggregateCache;
     /**
-     * Facade for seasons
+     * Loader of pictures
      */
-    private final SeasonFacade seasonFacade;
-
-    /**
-     * Facade for episodes
-     */
-    private final EpisodeFacade episodeFacade;
-    /**
-     * Facade for pictures
-     */
-    private PictureFacade pictureFacade;
+    private final PictureLoader pictureLoader;
 
     /**
      * Label for picture
@@ -169,23 +153,19 @@ public class ShowDataPanel extends AbstractDataPanel<Show> {
     /**
      * Creates a new instance of ShowDataPanel.
      *
-     * @param show          show
-     * @param seasonFacade  facade for seasons
-     * @param episodeFacade facade for episodes
-     * @param pictureFacade facade for pictures
+     * @param show               show
+     * @param showAggregateCache cache for aggregates of shows
+     * @param pictureCache       cache for pictures
      * @throws IllegalArgumentException if show is null
-     *                                  or facade for seasons is null
-     *                                  or facade for episodes is null
-     *                                  or facade for pictures is null
+     *                                  or cache for aggregates of shows is null
+     *                                  or cache for pictures is null
      */
-    public ShowDataPanel(final Show show, final SeasonFacade seasonFacade, final EpisodeFacade episodeFacade, final PictureFacade pictureFacade) {
-        Assert.notNull(seasonFacade, "Facade for seasons mustn't be null.");
-        Assert.notNull(episodeFacade, "Facade for episodes mustn't be null.");
-        Assert.notNull(pictureFacade, "Facade for pictures mustn't be null.");
+    public ShowDataPanel(final Show show, final ShowAggregateCache showAggregateCache, final PictureCache pictureCache) {
+        Assert.notNull(showAggregateCache, "Cache for aggregates of shows mustn't be null.");
+        Assert.notNull(pictureCache, "Cache for pictures mustn't be null.");
 
-        this.seasonFacade = seasonFacade;
-        this.episodeFacade = episodeFacade;
-        this.pictureFacade = pictureFacade;
+        this.showAggregateCache = showAggregateCache;
+        this.pictureLoader = new PictureLoader(pictureCache, pictureData);
 
         updateData(show);
 
@@ -209,14 +189,15 @@ public class ShowDataPanel extends AbstractDataPanel<Show> {
 
     @Override
     protected void updateComponentData(final Show data) {
-        loadPicture(data.getPicture(), pictureFacade, pictureData);
+        pictureLoader.load(data.getPicture());
 
         czechNameData.setText(data.getCzechName());
         originalNameData.setText(data.getOriginalName());
         genreData.setText(getGenres(data.getGenres()));
-        seasonsCountData.setText(getSeasonsCount(data));
-        episodesCountData.setText(getEpisodesCount(data));
-        totalLengthData.setText(getShowLength(data));
+        final ShowAggregateCache.Aggregate aggregate = showAggregateCache.getShowAggregate(data);
+        seasonsCountData.setText(Integer.toString(aggregate.getSeasonsCount()));
+        episodesCountData.setText(Integer.toString(aggregate.getEpisodesCount()));
+        totalLengthData.setText(new Time(aggregate.getLength()).toString());
         noteData.setText(data.getNote());
 
         csfd = data.getCsfd();
@@ -286,72 +267,4 @@ public class ShowDataPanel extends AbstractDataPanel<Show> {
             .addGroup(createVerticalButtons(layout, csfdButton, imdbButton, wikiCzButton, wikiEnButton));
     }
 
-    /**
-     * Returns count of show seasons.
-     *
-     * @param show show
-     * @return count of show seasons
-     */
-    private String getSeasonsCount(final Show show) {
-        final Result<List<Season>> result = seasonFacade.find(show);
-
-        if (Status.OK == result.getStatus()) {
-            return Integer.toString(result.getData().size());
-        } else {
-            throw new IllegalArgumentException(RESULT_WITH_ERROR_MESSAGE + result);
-        }
-    }
-
-    /**
-     * Returns count of show episodes.
-     *
-     * @param show show
-     * @return count of show episodes
-     */
-    private String getEpisodesCount(final Show show) {
-        final Result<List<Season>> seasonsResult = seasonFacade.find(show);
-
-        if (Status.OK == seasonsResult.getStatus()) {
-            int totalCount = 0;
-            for (final Season season : seasonsResult.getData()) {
-                final Result<List<Episode>> episodesResult = episodeFacade.find(season);
-                if (Status.OK == episodesResult.getStatus()) {
-                    totalCount += episodesResult.getData().size();
-                } else {
-                    throw new IllegalArgumentException(RESULT_WITH_ERROR_MESSAGE + episodesResult);
-                }
-            }
-            return Integer.toString(totalCount);
-        } else {
-            throw new IllegalArgumentException(RESULT_WITH_ERROR_MESSAGE + seasonsResult);
-        }
-    }
-
-    /**
-     * Returns total length of all show seasons.
-     *
-     * @param show show
-     * @return total length of all show seasons
-     */
-    private String getShowLength(final Show show) {
-        final Result<List<Season>> seasonsResult = seasonFacade.find(show);
-
-        if (Status.OK == seasonsResult.getStatus()) {
-            int totalLength = 0;
-            for (final Season season : seasonsResult.getData()) {
-                final Result<List<Episode>> episodesResult = episodeFacade.find(season);
-                if (Status.OK == episodesResult.getStatus()) {
-                    for (final Episode episode : episodesResult.getData()) {
-                        totalLength += episode.getLength();
-                    }
-                } else {
-                    throw new IllegalArgumentException(RESULT_WITH_ERROR_MESSAGE + episodesResult);
-                }
-            }
-            return new Time(totalLength).toString();
-        } else {
-            throw new IllegalArgumentException(RESULT_WITH_ERROR_MESSAGE + seasonsResult);
-        }
-    }
-
 }
@@ -14,10 +14,10 @@ import javax.swing.SpinnerNumberModel;
 import cz.vhromada.catalog.entity.Genre;
 import cz.vhromada.catalog.entity.Show;
 import cz.vhromada.catalog.facade.GenreFacade;
-import cz.vhromada.catalog.facade.PictureFacade;
 import cz.vhromada.catalog.gui.common.AbstractInfoDialog;
 import cz.vhromada.catalog.gui.common.CatalogSwingConstants;
 import cz.vhromada.catalog.gui.common.Picture;
+import cz.vhromada.catalog.gui.common.PictureCache;
 import cz.vhromada.common.utils.Constants;
 
 import org.springframework.util.Assert;
@@ -40,9 +40,9 @@ public class ShowInfoDialog extends AbstractInfoDialog<Show> {
     private GenreFacade genreFacade;
 
     /**
-     * Facade for pictures
+     * Cache for pictures
      */
-    private PictureFacade pictureFacade;
+    private PictureCache pictureCache;
 
     /**
      * List of genres
@@ -158,14 +158,14 @@ public class ShowInfoDialog extends AbstractInfoDialog<Show> {
      * Creates a new instance of ShowInfoDialog.
      *
      * @param genreFacade   facade for genres
-     * @param pictureFacade facade for pictures
+     * @param pictureCache  cache for pictures
      * @throws IllegalArgumentException if facade for genres is null
-     *                                  or facade for pictures is null
+     *                                  or cache for pictures is null
      */
-    public ShowInfoDialog(final GenreFacade genreFacade, final PictureFacade pictureFacade) {
+    public ShowInfoDialog(final GenreFacade genreFacade, final PictureCache pictureCache) {
         init();
         setGenreFacade(genreFacade);
-        setPictureFacade(pictureFacade);
+        setPictureCache(pictureCache);
         imdbCodeLabel.setSelected(false);
         imdbCodeData.setEnabled(false);
     }
@@ -174,18 +174,18 @@ public class ShowInfoDialog extends AbstractInfoDialog<Show> {
      * Creates a new instance of ShowInfoDialog.
      *
      * @param genreFacade   facade for genres
-     * @param pictureFacade facade for pictures
+     * @param pictureCache  cache for pictures
      * @param show          show
      * @throws IllegalArgumentException if facade for genres is null
-     *                                  or facade for pictures is null
+     *                                  or cache for pictures is null
      *                                  or show is null
      */
-    public ShowInfoDialog(final GenreFacade genreFacade, final PictureFacade pictureFacade, final Show show) {
+    public ShowInfoDialog(final GenreFacade genreFacade, final PictureCache pictureCache, final Show show) {
         super(show);
 
         init();
         setGenreFacade(genreFacade);
-        setPictureFacade(pictureFacade);
+        setPictureCache(pictureCache);
         this.genres = show.getGenres();
         if (show.getPicture() != null) {
             this.pictures.add(show.getPicture());
@@ -225,7 +225,7 @@ public class ShowInfoDialog extends AbstractInfoDialog<Show> {
 
         imdbCodeLabel.addChangeListener(e -> imdbCodeData.setEnabled(imdbCodeLabel.isSelected()));
 
-        pictureButton.addActionListener(e -> pictureAction(pictureFacade, pictures, pictureData));
+        pictureButton.addActionListener(e -> pictureAction(pictureCache, pictures, pictureData));
 
         genresButton.addActionListener(e -> genresAction(genreFacade, genres, genreData));
     }
@@ -312,14 +312,14 @@ public class ShowInfoDialog extends AbstractInfoDialog<Show> {
     }
 
     /**
-     * Initializes facade for pictures.
+     * Initializes cache for pictures.
      *
-     * @throws IllegalArgumentException if facade for pictures is null
+     * @throws IllegalArgumentException if cache for pictures is null
      */
-    private void setPictureFacade(final PictureFacade pictureFacade) {
-        Assert.notNull(pictureFacade, "Facade for pictures mustn't be null.");
+    private void setPictureCache(final PictureCache pictureCache) {
+        Assert.notNull(pictureCache, "Cache for pictures mustn't be null.");
 
-        this.pictureFacade = pictureFacade;
+        this.pictureCache = pictureCache;
     }
 
 }
@@ -36,7 +36,6 @@ public class ShowsListDataModel extends AbstractListDataModel<Show> {
         Assert.notNull(showFacade, "Facade for shows mustn't be null.");
 
         this.showFacade = showFacade;
-        update();
     }
 
     @Override
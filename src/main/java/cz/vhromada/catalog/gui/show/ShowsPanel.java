@@ -3,14 +3,15 @@ package cz.vhromada.catalog.gui.show;
 import javax.swing.JPanel;
 import javax.swing.JTabbedPane;
 
+import cz.vhromada.catalog.cache.ShowAggregateCache;
 import cz.vhromada.catalog.entity.Show;
 import cz.vhromada.catalog.facade.EpisodeFacade;
 import cz.vhromada.catalog.facade.GenreFacade;
-import cz.vhromada.catalog.facade.PictureFacade;
 import cz.vhromada.catalog.facade.SeasonFacade;
 import cz.vhromada.catalog.facade.ShowFacade;
 import cz.vhromada.catalog.gui.common.AbstractInfoDialog;
 import cz.vhromada.catalog.gui.common.AbstractOverviewDataPanel;
+import cz.vhromada.catalog.gui.common.PictureCache;
 import cz.vhromada.catalog.gui.season.SeasonsPanel;
 
 import org.springframework.util.Assert;
@@ -48,9 +49,14 @@ public class ShowsPanel extends AbstractOverviewDataPanel<Show> {
     private final GenreFacade genreFacade;
 
     /**
-     * Facade for pictures
+     * Cache for pictures
      */
-    private final PictureFacade pictureFacade;
+    private final PictureCache pictureCache;
+
+    /**
+     * Cache for aggregates of shows
+     */
+    private final ShowAggregateCache showAggregateCache;
 
     /**
      * Creates a new instance of ShowsPanel.
@@ -59,37 +65,39 @@ public class ShowsPanel extends AbstractOverviewDataPanel<Show> {
      * @param seasonFacade  facade for seasons
      * @param episodeFacade facade for episodes
      * @param genreFacade   facade for genres
-     * @param pictureFacade facade for pictures
+     * @param pictureCache  cache for pictures
      * @throws IllegalArgumentException if facade for shows is null
      *                                  or facade for seasons is null
      *                                  or facade for episodes is null
      *                                  or facade for genres is null
-     *                                  or facade for pictures is null
+     *                                  or cache for pictures is null
      */
     public ShowsPanel(final ShowFacade showFacade, final SeasonFacade seasonFacade, final EpisodeFacade episodeFacade, final GenreFacade genreFacade,
-        final PictureFacade pictureFacade) {
+        final PictureCache pictureCache) {
         super(getShowsListDataModel(showFacade), getShowsStatsTableDataModel(showFacade));
 
         Assert.notNull(seasonFacade, "Facade for seasons mustn't be null.");
         Assert.notNull(episodeFacade, "Facade for episodes mustn't be null.");
         Assert.notNull(genreFacade, "Facade for genres mustn't be null.");
-        Assert.notNull(pictureFacade, "Facade for pictures mustn't be null.");
+        Assert.notNull(pictureCache, "Cache for pictures mustn't be null.");
 
         this.showFacade = showFacade;
         this.seasonFacade = seasonFacade;
         this.episodeFacade = episodeFacade;
         this.genreFacade = genreFacade;
-        this.pictureFacade = pictureFacade;
+        this.pictureCache = pictureCache;
+        this.showAggregateCache = new ShowAggregateCache(seasonFacade, episodeFacade);
     }
 
     @Override
     protected AbstractInfoDialog<Show> getInfoDialog(final boolean add, final Show data) {
-        return add ? new ShowInfoDialog(genreFacade, pictureFacade) : new ShowInfoDialog(genreFacade, pictureFacade, data);
+        return add ? new ShowInfoDialog(genreFacade, pictureCache) : new ShowInfoDialog(genreFacade, pictureCache, data);
     }
 
     @Override
     protected void deleteData() {
         showFacade.newData();
+        showAggregateCache.clear();
     }
 
     @Override
@@ -102,6 +110,11 @@ public class ShowsPanel extends AbstractOverviewDataPanel<Show> {
         showFacade.update(data);
     }
 
+    @Override
+    protected void updatePosition(final Show data) {
+        showFacade.update(getPositionData(showFacade.get(data.getId()), data));
+    }
+
     @Override
     protected void removeData(final Show data) {
         showFacade.remove(data);
@@ -124,14 +137,15 @@ public class ShowsPanel extends AbstractOverviewDataPanel<Show> {
 
     @Override
     protected JPanel getDataPanel(final Show data) {
-        return new ShowDataPanel(data, seasonFacade, episodeFacade, pictureFacade);
+        return new ShowDataPanel(data, showAggregateCache, pictureCache);
     }
 
     @Override
     protected void updateDataOnChange(final JTabbedPane dataPanel, final Show data) {
-        final SeasonsPanel seasonsPanel = new SeasonsPanel(seasonFacade, episodeFacade, data);
+        final SeasonsPanel seasonsPanel = new SeasonsPanel(seasonFacade, episodeFacade, showAggregateCache, data);
         seasonsPanel.addPropertyChangeListener("update", evt -> {
             if (Boolean.TRUE.equals(evt.getNewValue())) {
+                showAggregateCache.showChanged(data);
                 seasonsPanel.setShow(data);
                 updateModel(data);
             }
@@ -1,7 +1,5 @@
 package cz.vhromada.catalog.gui.show;
 
-import java.util.List;
-
 import cz.vhromada.catalog.entity.Show;
 import cz.vhromada.catalog.facade.ShowFacade;
 import cz.vhromada.catalog.gui.common.AbstractStatsTableDataModel;
@@ -17,7 +15,7 @@ import org.springframework.util.Assert;
  * @author Vladimir Hromada
  */
 @SuppressWarnings("Duplicates")
-public class ShowsStatsTableDataModel extends AbstractStatsTableDataModel {
+public class ShowsStatsTableDataModel extends AbstractStatsTableDataModel<Show> {
 
     /**
      * SerialVersionUID
@@ -34,26 +32,6 @@ public class ShowsStatsTableDataModel extends AbstractStatsTableDataModel {
      */
     private final ShowFacade showFacade;
 
-    /**
-     * List of shows
-     */
-    private List<Show> shows;
-
-    /**
-     * Count of seasons from all shows
-     */
-    private int seasonsCount;
-
-    /**
-     * Count of episodes from all shows
-     */
-    private int episodesCount;
-
-    /**
-     * Total length of all shows
-     */
-    private Time totalLength;
-
     /**
      * Creates a new instance of ShowsStatsTableDataModel.
      *
@@ -64,23 +42,6 @@ public class ShowsStatsTableDataModel extends AbstractStatsTableDataModel {
         Assert.notNull(showFacade, "Facade for shows mustn't be null.");
 
         this.showFacade = showFacade;
-        update();
-    }
-
-    @Override
-    public Object getValueAt(final int rowIndex, final int columnIndex) {
-        switch (columnIndex) {
-            case 0:
-                return shows.size();
-            case 1:
-                return seasonsCount;
-            case 2:
-                return episodesCount;
-            case 3:
-                return totalLength.toString();
-            default:
-                throw new IndexOutOfBoundsException(BAD_COLUMN_ERROR_MESSAGE);
-        }
     }
 
     @Override
@@ -126,23 +87,44 @@ public class ShowsStatsTableDataModel extends AbstractStatsTableDataModel {
     }
 
     @Override
-    public final void update() {
-        final Result<List<Show>> showsResult = showFacade.getAll();
+    protected Object getValue(final int columnIndex) {
+        switch (columnIndex) {
+            case 0:
+                return getStat(0);
+            case 1:
+                return getStat(1);
+            case 2:
+                return getStat(2);
+            case 3:
+                return new Time(getStat(3)).toString();
+            default:
+                throw new IndexOutOfBoundsException(BAD_COLUMN_ERROR_MESSAGE);
+        }
+    }
+
+    @Override
+    public boolean hasNestedStats() {
+        return true;
+    }
+
+    @Override
+    protected int[] getStats(final Show data) {
+        return new int[] { 1, 0, 0, 0 };
+    }
+
+    @Override
+    protected int[] getNestedStats() {
         final Result<Integer> seasonsCountResult = showFacade.getSeasonsCount();
         final Result<Integer> episodesCountResult = showFacade.getEpisodesCount();
         final Result<Time> totalLengthResult = showFacade.getTotalLength();
 
         final Result<Void> result = new Result<>();
-        result.addEvents(showsResult.getEvents());
         result.addEvents(seasonsCountResult.getEvents());
         result.addEvents(episodesCountResult.getEvents());
         result.addEvents(totalLengthResult.getEvents());
 
         if (Status.OK == result.getStatus()) {
-            shows = showsResult.getData();
-            seasonsCount = seasonsCountResult.getData();
-            episodesCount = episodesCountResult.getData();
-            totalLength = totalLengthResult.getData();
+            return new int[] { 0, seasonsCountResult.getData(), episodesCountResult.getData(), totalLengthResult.getData().getLength() };
         } else {
             throw new IllegalArgumentException("Can't get data. " + result);
         }
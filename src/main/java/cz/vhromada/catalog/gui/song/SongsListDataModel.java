@@ -46,7 +46,6 @@ public class SongsListDataModel extends AbstractListDataModel<Song> {
 
         this.songFacade = songFacade;
         this.music = music;
-        update();
     }
 
     @Override
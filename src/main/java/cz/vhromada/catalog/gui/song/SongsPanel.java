@@ -71,7 +71,12 @@ public class SongsPanel extends AbstractOverviewDataPanel<Song> {
     }
 
     @Override
-    public void save() {
+    public long getChanges() {
+        throw new UnsupportedOperationException("Getting count of changes of data is not allowed for songs.");
+    }
+
+    @Override
+    public void save(final long count) {
         throw new UnsupportedOperationException("Saving data is not allowed for songs.");
     }
 
@@ -100,6 +105,11 @@ public class SongsPanel extends AbstractOverviewDataPanel<Song> {
         songFacade.update(data);
     }
 
+    @Override
+    protected void updatePosition(final Song data) {
+        songFacade.update(getPositionData(songFacade.get(data.getId()), data));
+    }
+
     @Override
     protected void removeData(final Song data) {
         songFacade.remove(data);
@@ -0,0 +1,322 @@
+package cz.vhromada.catalog.monitoring;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import cz.vhromada.catalog.cache.FacadeCache;
+import cz.vhromada.catalog.gui.common.PictureCache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+/**
+ * A class represents MBean with health of catalog.
+ * <p>
+ * MBean is registered to platform MBean server with name <code>cz.vhromada.catalog:type=CatalogHealth</code>. Rate of calls of facades is computed
+ * from counts of calls sampled each second by sampler thread, while MBean is registered, so reading of MBean doesn't change samples. Unsaved tabs
+ * are published by event dispatch thread after each change of saved state of tabs, so MBean reads them without waiting for event dispatch thread.
+ *
+ * @author Vladimir Hromada
+ */
+public final class CatalogHealth implements CatalogHealthMXBean {
+
+    /**
+     * Name of MBean
+     */
+    public static final String OBJECT_NAME = "cz.vhromada.catalog:type=CatalogHealth";
+
+    /**
+     * Logger
+     */
+    private static final Logger logger = LoggerFactory.getLogger(CatalogHealth.class);
+
+    /**
+     * Window for rate of calls of facades in nanoseconds
+     */
+    private static final long RATE_WINDOW = TimeUnit.MINUTES.toNanos(1L);
+
+    /**
+     * Period of sampling of count of calls of facades in milliseconds
+     */
+    private static final long SAMPLE_PERIOD = 1000L;
+
+    /**
+     * Metrics of calls of facades
+     */
+    private final FacadeMetrics facadeMetrics;
+
+    /**
+     * Cache for facades
+     */
+    private final FacadeCache facadeCache;
+
+    /**
+     * Cache for pictures
+     */
+    private final PictureCache pictureCache;
+
+    /**
+     * Samples of counts of calls of facades - time in nanoseconds and count of calls
+     */
+    private final Deque<long[]> callsSamples = new ArrayDeque<>();
+
+    /**
+     * Titles of opened tabs with unsaved data
+     */
+    private volatile List<String> unsavedTabs = Collections.emptyList();
+
+    /**
+     * Duration of last saving of data in milliseconds
+     */
+    private volatile long lastSaveDuration = -1L;
+
+    /**
+     * Name of registered MBean - null if MBean isn't registered
+     */
+    private ObjectName objectName;
+
+    /**
+     * Sampler of count of calls of facades - null if MBean isn't registered
+     */
+    private ScheduledExecutorService sampler;
+
+    /**
+     * Creates a new instance of CatalogHealth.
+     *
+     * @param facadeMetrics metrics of calls of facades
+     * @param facadeCache   cache for facades
+     * @param pictureCache  cache for pictures
+     * @throws IllegalArgumentException if metrics of calls of facades are null
+     *                                  or cache for facades is null
+     *                                  or cache for pictures is null
+     */
+    public CatalogHealth(final FacadeMetrics facadeMetrics, final FacadeCache facadeCache, final PictureCache pictureCache) {
+        Assert.notNull(facadeMetrics, "Metrics of calls of facades mustn't be null.");
+        Assert.notNull(facadeCache, "Cache for facades mustn't be null.");
+        Assert.notNull(pictureCache, "Cache for pictures mustn't be null.");
+
+        this.facadeMetrics = facadeMetrics;
+        this.facadeCache = facadeCache;
+        this.pictureCache = pictureCache;
+    }
+
+    /**
+     * Registers MBean to platform MBean server and starts sampling of count of calls of facades. Error in registration is only logged, because
+     * catalog can run without MBean.
+     */
+    public synchronized void register() {
+        if (objectName != null) {
+            return;
+        }
+
+        try {
+            final ObjectName name = new ObjectName(OBJECT_NAME);
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(this, name);
+            objectName = name;
+        } catch (final JMException ex) {
+            logger.error("Error in registering MBean {}.", OBJECT_NAME, ex);
+            return;
+        }
+        sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "catalog-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampler.scheduleAtFixedRate(() -> sample(System.nanoTime()), 0L, SAMPLE_PERIOD, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops sampling of count of calls of facades and unregisters MBean from platform MBean server.
+     */
+    public synchronized void unregister() {
+        if (objectName == null) {
+            return;
+        }
+
+        sampler.shutdown();
+        sampler = null;
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (final JMException ex) {
+            logger.error("Error in unregistering MBean {}.", OBJECT_NAME, ex);
+        }
+        objectName = null;
+    }
+
+    /**
+     * Sets duration of last saving of data.
+     *
+     * @param duration duration in nanoseconds
+     */
+    public void setLastSaveDuration(final long duration) {
+        lastSaveDuration = TimeUnit.NANOSECONDS.toMillis(duration);
+    }
+
+    /**
+     * Sets titles of opened tabs with unsaved data. It is called in event dispatch thread after change of saved state of tabs.
+     *
+     * @param tabs titles of opened tabs with unsaved data
+     * @throws IllegalArgumentException if titles of opened tabs with unsaved data are null
+     */
+    public void setUnsavedTabs(final List<String> tabs) {
+        Assert.notNull(tabs, "Unsaved tabs mustn't be null.");
+
+        unsavedTabs = Collections.unmodifiableList(new ArrayList<>(tabs));
+    }
+
+    @Override
+    public long getFacadeCallsCount() {
+        return facadeMetrics.getCount();
+    }
+
+    @Override
+    public double getFacadeCallsRate() {
+        synchronized (callsSamples) {
+            if (callsSamples.size() < 2) {
+                return 0.0;
+            }
+            final long[] first = callsSamples.getFirst();
+            final long[] last = callsSamples.getLast();
+
+            return Math.max(last[1] - first[1], 0L) * (double) TimeUnit.SECONDS.toNanos(1L) / (last[0] - first[0]);
+        }
+    }
+
+    @Override
+    public Map<String, Long> getFacadeCallsCounts() {
+        final Map<String, Long> result = new LinkedHashMap<>();
+        for (final MethodMetrics methodMetrics : facadeMetrics.getMetrics()) {
+            result.merge(methodMetrics.getFacade(), methodMetrics.getCount(), Long::sum);
+        }
+
+        return result;
+    }
+
+    @Override
+    public long getCacheHits() {
+        return facadeCache.getHits();
+    }
+
+    @Override
+    public long getCacheMisses() {
+        return facadeCache.getMisses();
+    }
+
+    @Override
+    public double getCacheHitRatio() {
+        return getRatio(facadeCache.getHits(), facadeCache.getMisses());
+    }
+
+    @Override
+    public Map<String, Double> getCacheHitRatios() {
+        final Map<String, Double> result = new LinkedHashMap<>();
+        for (final Class<?> facade : facadeCache.getFacades()) {
+            result.put(facade.getSimpleName(), getRatio(facadeCache.getHits(facade), facadeCache.getMisses(facade)));
+        }
+
+        return result;
+    }
+
+    @Override
+    public Map<String, Integer> getCacheSizes() {
+        final Map<String, Integer> result = new LinkedHashMap<>();
+        for (final Class<?> facade : facadeCache.getFacades()) {
+            result.put(facade.getSimpleName(), facadeCache.getSize(facade));
+        }
+
+        return result;
+    }
+
+    @Override
+    public int getCachedPicturesCount() {
+        return pictureCache.getSize();
+    }
+
+    @Override
+    public int getCachedThumbnailsCount() {
+        return pictureCache.getThumbnailsSize();
+    }
+
+    @Override
+    public long getDecodedPicturesBytes() {
+        return pictureCache.getBytes() + pictureCache.getThumbnailsBytes();
+    }
+
+    @Override
+    public long getEventsCount() {
+        final EventQueueMonitor monitor = EventQueueMonitor.getInstance();
+        return monitor == null ? 0L : monitor.getEventsCount();
+    }
+
+    @Override
+    public long getStallsCount() {
+        final EventQueueMonitor monitor = EventQueueMonitor.getInstance();
+        return monitor == null ? 0L : monitor.getStallsCount();
+    }
+
+    @Override
+    public long getMaxEventDuration() {
+        final EventQueueMonitor monitor = EventQueueMonitor.getInstance();
+        return monitor == null ? 0L : monitor.getMaxDuration();
+    }
+
+    @Override
+    public boolean isSaved() {
+        return getUnsavedTabs().isEmpty();
+    }
+
+    @Override
+    public List<String> getUnsavedTabs() {
+        return unsavedTabs;
+    }
+
+    @Override
+    public long getLastSaveDuration() {
+        return lastSaveDuration;
+    }
+
+    /**
+     * Samples count of calls of facades. Samples older than window for rate of calls are removed.
+     *
+     * @param time time of sample in nanoseconds
+     */
+    void sample(final long time) {
+        final long count = facadeMetrics.getCount();
+        synchronized (callsSamples) {
+            while (!callsSamples.isEmpty() && time - callsSamples.getFirst()[0] > RATE_WINDOW) {
+                callsSamples.removeFirst();
+            }
+            callsSamples.addLast(new long[] { time, count });
+        }
+    }
+
+    /**
+     * Returns ratio of hits to all reads.
+     *
+     * @param hits   count of hits
+     * @param misses count of misses
+     * @return ratio of hits to all reads, 0 if nothing was read
+     */
+    private static double getRatio(final long hits, final long misses) {
+        return hits + misses == 0L ? 0.0 : hits / (double) (hits + misses);
+    }
+
+}
@@ -0,0 +1,132 @@
+package cz.vhromada.catalog.monitoring;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An interface represents MBean with health of catalog - calls of facades, caches, decoded pictures, event dispatch thread and saving.
+ *
+ * @author Vladimir Hromada
+ */
+public interface CatalogHealthMXBean {
+
+    /**
+     * Returns total count of calls of facades.
+     *
+     * @return total count of calls of facades
+     */
+    long getFacadeCallsCount();
+
+    /**
+     * Returns count of calls of facades per second in last minute.
+     *
+     * @return count of calls of facades per second in last minute
+     */
+    double getFacadeCallsRate();
+
+    /**
+     * Returns counts of calls of facades.
+     *
+     * @return counts of calls of facades - name of facade to count of calls
+     */
+    Map<String, Long> getFacadeCallsCounts();
+
+    /**
+     * Returns total count of hits of cache for facades.
+     *
+     * @return total count of hits of cache for facades
+     */
+    long getCacheHits();
+
+    /**
+     * Returns total count of misses of cache for facades.
+     *
+     * @return total count of misses of cache for facades
+     */
+    long getCacheMisses();
+
+    /**
+     * Returns ratio of hits of cache for facades to all reads.
+     *
+     * @return ratio of hits of cache for facades to all reads, 0 if nothing was read
+     */
+    double getCacheHitRatio();
+
+    /**
+     * Returns ratios of hits of cache for facades to all reads.
+     *
+     * @return ratios of hits of cache for facades to all reads - name of facade to ratio
+     */
+    Map<String, Double> getCacheHitRatios();
+
+    /**
+     * Returns counts of cached results of facades.
+     *
+     * @return counts of cached results of facades - name of facade to count of cached results
+     */
+    Map<String, Integer> getCacheSizes();
+
+    /**
+     * Returns count of decoded pictures in cache.
+     *
+     * @return count of decoded pictures in cache
+     */
+    int getCachedPicturesCount();
+
+    /**
+     * Returns count of decoded thumbnails in cache.
+     *
+     * @return count of decoded thumbnails in cache
+     */
+    int getCachedThumbnailsCount();
+
+    /**
+     * Returns count of bytes of pixels of decoded pictures and thumbnails in cache.
+     *
+     * @return count of bytes of pixels of decoded pictures and thumbnails in cache
+     */
+    long getDecodedPicturesBytes();
+
+    /**
+     * Returns count of events dispatched in event dispatch thread.
+     *
+     * @return count of events dispatched in event dispatch thread, 0 if event dispatch thread isn't monitored
+     */
+    long getEventsCount();
+
+    /**
+     * Returns count of stalls of event dispatch thread.
+     *
+     * @return count of stalls of event dispatch thread, 0 if event dispatch thread isn't monitored
+     */
+    long getStallsCount();
+
+    /**
+     * Returns maximal duration of event in event dispatch thread in milliseconds.
+     *
+     * @return maximal duration of event in event dispatch thread in milliseconds, 0 if event dispatch thread isn't monitored
+     */
+    long getMaxEventDuration();
+
+    /**
+     * Returns true if data in all opened tabs are saved.
+     *
+     * @return true if data in all opened tabs are saved
+     */
+    boolean isSaved();
+
+    /**
+     * Returns titles of opened tabs with unsaved data.
+     *
+     * @return titles of opened tabs with unsaved data
+     */
+    List<String> getUnsavedTabs();
+
+    /**
+     * Returns duration of last saving of data in milliseconds.
+     *
+     * @return duration of last saving of data in milliseconds, -1 if data weren't saved yet
+     */
+    long getLastSaveDuration();
+
+}
@@ -0,0 +1,446 @@
+package cz.vhromada.catalog.monitoring;
+
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A class represents event queue, which measures dispatching of events in event dispatch thread.
+ * <p>
+ * Durations of all events are counted in histogram. Event dispatched longer than threshold (100 ms by default, set by system property
+ * <code>catalog.edt.stallThreshold</code> in milliseconds) is stall. Stack of event dispatch thread is captured by watchdog thread while stall is
+ * still running, so it shows code, which blocks event dispatch thread. Last stalls are kept and they are written to log.
+ * <p>
+ * Events, which dispatch other events (e.g. showing of modal dialog), aren't measured, because they wait for closing of dialog.
+ *
+ * @author Vladimir Hromada
+ */
+public final class EventQueueMonitor extends EventQueue {
+
+    /**
+     * System property for threshold of stall in milliseconds
+     */
+    public static final String THRESHOLD_PROPERTY = "catalog.edt.stallThreshold";
+
+    /**
+     * Logger
+     */
+    private static final Logger logger = LoggerFactory.getLogger(EventQueueMonitor.class);
+
+    /**
+     * Default threshold of stall in milliseconds
+     */
+    private static final long DEFAULT_THRESHOLD = 100L;
+
+    /**
+     * Minimal period of watchdog in milliseconds
+     */
+    private static final long MIN_WATCHDOG_PERIOD = 10L;
+
+    /**
+     * Count of kept stalls
+     */
+    private static final int MAX_STALLS = 50;
+
+    /**
+     * Upper limits of buckets of histogram in milliseconds - last bucket is without limit
+     */
+    private static final long[] BUCKET_LIMITS = { 1L, 2L, 4L, 8L, 16L, 32L, 64L, 128L, 256L, 512L, 1024L, 2048L };
+
+    /**
+     * Installed monitor
+     */
+    private static EventQueueMonitor instance;
+
+    /**
+     * Threshold of stall in nanoseconds
+     */
+    private final long threshold;
+
+    /**
+     * Counts of events in buckets of histogram
+     */
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKET_LIMITS.length + 1);
+
+    /**
+     * Count of stalls
+     */
+    private final AtomicLong stallsCount = new AtomicLong();
+
+    /**
+     * Maximal duration of event in nanoseconds
+     */
+    private final AtomicLong maxDuration = new AtomicLong();
+
+    /**
+     * Last stalls
+     */
+    private final Deque<Stall> stalls = new ArrayDeque<>(MAX_STALLS);
+
+    /**
+     * Watchdog for capturing stacks of stalls
+     */
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "catalog-edt-monitor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Event dispatch thread
+     */
+    private volatile Thread dispatchThread;
+
+    /**
+     * Count of events being dispatched - more than 1 for events dispatched by other events
+     */
+    private volatile int depth;
+
+    /**
+     * Start of dispatching of current event in nanoseconds
+     */
+    private volatile long dispatchStart;
+
+    /**
+     * Stack captured for current event
+     */
+    private volatile Capture capture;
+
+    /**
+     * True if current event dispatched other events
+     */
+    private boolean nestedDispatch;
+
+    /**
+     * Creates a new instance of EventQueueMonitor.
+     *
+     * @param threshold threshold of stall in milliseconds
+     */
+    private EventQueueMonitor(final long threshold) {
+        this.threshold = TimeUnit.MILLISECONDS.toNanos(threshold);
+        final long period = Math.max(threshold / 2, MIN_WATCHDOG_PERIOD);
+        watchdog.scheduleAtFixedRate(this::captureStall, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Installs monitor to system event queue, if it hasn't been installed yet.
+     *
+     * @return installed monitor
+     */
+    public static synchronized EventQueueMonitor install() {
+        if (instance == null) {
+            instance = new EventQueueMonitor(Long.getLong(THRESHOLD_PROPERTY, DEFAULT_THRESHOLD));
+            Toolkit.getDefaultToolkit().getSystemEventQueue().push(instance);
+        }
+
+        return instance;
+    }
+
+    /**
+     * Returns installed monitor.
+     *
+     * @return installed monitor or null if monitor hasn't been installed
+     */
+    public static synchronized EventQueueMonitor getInstance() {
+        return instance;
+    }
+
+    /**
+     * Returns upper limits of buckets of histogram in milliseconds. Last bucket is without limit.
+     *
+     * @return upper limits of buckets of histogram in milliseconds
+     */
+    public static long[] getBucketLimits() {
+        return BUCKET_LIMITS.clone();
+    }
+
+    /**
+     * Returns threshold of stall in milliseconds.
+     *
+     * @return threshold of stall in milliseconds
+     */
+    public long getThreshold() {
+        return TimeUnit.NANOSECONDS.toMillis(threshold);
+    }
+
+    /**
+     * Returns counts of events in buckets of histogram.
+     *
+     * @return counts of events in buckets of histogram
+     */
+    public long[] getHistogram() {
+        final long[] result = new long[histogram.length()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = histogram.get(i);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns count of measured events.
+     *
+     * @return count of measured events
+     */
+    public long getEventsCount() {
+        long result = 0L;
+        for (int i = 0; i < histogram.length(); i++) {
+            result += histogram.get(i);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns count of stalls.
+     *
+     * @return count of stalls
+     */
+    public long getStallsCount() {
+        return stallsCount.get();
+    }
+
+    /**
+     * Returns maximal duration of event in milliseconds.
+     *
+     * @return maximal duration of event in milliseconds
+     */
+    public long getMaxDuration() {
+        return TimeUnit.NANOSECONDS.toMillis(maxDuration.get());
+    }
+
+    /**
+     * Returns last stalls from the newest.
+     *
+     * @return last stalls
+     */
+    public List<Stall> getStalls() {
+        synchronized (stalls) {
+            return new ArrayList<>(stalls);
+        }
+    }
+
+    /**
+     * Removes all measured data.
+     */
+    public void clear() {
+        for (int i = 0; i < histogram.length(); i++) {
+            histogram.set(i, 0L);
+        }
+        stallsCount.set(0L);
+        maxDuration.set(0L);
+        synchronized (stalls) {
+            stalls.clear();
+        }
+    }
+
+    @Override
+    protected void dispatchEvent(final AWTEvent event) {
+        final long outerStart = dispatchStart;
+        final int outerDepth = depth;
+        final long start = System.nanoTime();
+        dispatchThread = Thread.currentThread();
+        nestedDispatch = false;
+        dispatchStart = start;
+        depth = outerDepth + 1;
+        try {
+            super.dispatchEvent(event);
+        } finally {
+            final long duration = System.nanoTime() - start;
+            final boolean nested = nestedDispatch;
+            final Capture stallCapture = capture;
+            depth = outerDepth;
+            dispatchStart = outerStart;
+            nestedDispatch = outerDepth > 0;
+            if (!nested) {
+                record(event, duration, stallCapture != null && stallCapture.start == start ? stallCapture.stack : null);
+            }
+        }
+    }
+
+    /**
+     * Captures stack of event dispatch thread, if current event is dispatched longer than threshold.
+     */
+    private void captureStall() {
+        final Thread thread = dispatchThread;
+        final long start = dispatchStart;
+        final Capture stallCapture = capture;
+        if (thread != null && depth > 0 && System.nanoTime() - start >= threshold && (stallCapture == null || stallCapture.start != start)) {
+            capture = new Capture(start, thread.getStackTrace());
+        }
+    }
+
+    /**
+     * Records duration of event.
+     *
+     * @param event    event
+     * @param duration duration in nanoseconds
+     * @param stack    captured stack of event dispatch thread, null if stack wasn't captured
+     */
+    private void record(final AWTEvent event, final long duration, final StackTraceElement[] stack) {
+        final long millis = TimeUnit.NANOSECONDS.toMillis(duration);
+        int bucket = 0;
+        while (bucket < BUCKET_LIMITS.length && millis >= BUCKET_LIMITS[bucket]) {
+            bucket++;
+        }
+        histogram.incrementAndGet(bucket);
+        maxDuration.accumulateAndGet(duration, Math::max);
+        if (duration < threshold) {
+            return;
+        }
+
+        stallsCount.incrementAndGet();
+        final Stall stall = new Stall(System.currentTimeMillis(), millis, describe(event), stack == null ? new StackTraceElement[0] : stack);
+        synchronized (stalls) {
+            if (stalls.size() == MAX_STALLS) {
+                stalls.removeLast();
+            }
+            stalls.addFirst(stall);
+        }
+        logger.warn("Event dispatch thread was blocked for {} ms by {}.{}", millis, stall.getEvent(), stall.getStackTraceText());
+    }
+
+    /**
+     * Returns description of event.
+     *
+     * @param event event
+     * @return description of event
+     */
+    private static String describe(final AWTEvent event) {
+        final Object source = event.getSource();
+        return event.getClass().getSimpleName() + (source == null ? "" : " on " + source.getClass().getName()) + " [" + event.paramString() + "]";
+    }
+
+    /**
+     * A class represents stack captured for event.
+     */
+    private static final class Capture {
+
+        /**
+         * Start of dispatching of event in nanoseconds
+         */
+        private final long start;
+
+        /**
+         * Stack of event dispatch thread
+         */
+        private final StackTraceElement[] stack;
+
+        /**
+         * Creates a new instance of Capture.
+         *
+         * @param start start of dispatching of event in nanoseconds
+         * @param stack stack of event dispatch thread
+         */
+        Capture(final long start, final StackTraceElement[] stack) {
+            this.start = start;
+            this.stack = stack;
+        }
+
+    }
+
+    /**
+     * A class represents event dispatched longer than threshold.
+     */
+    public static final class Stall {
+
+        /**
+         * Time of end of event in milliseconds from epoch
+         */
+        private final long time;
+
+        /**
+         * Duration in milliseconds
+         */
+        private final long duration;
+
+        /**
+         * Description of event
+         */
+        private final String event;
+
+        /**
+         * Stack of event dispatch thread captured during event
+         */
+        private final StackTraceElement[] stackTrace;
+
+        /**
+         * Creates a new instance of Stall.
+         *
+         * @param time       time of end of event in milliseconds from epoch
+         * @param duration   duration in milliseconds
+         * @param event      description of event
+         * @param stackTrace stack of event dispatch thread captured during event
+         */
+        Stall(final long time, final long duration, final String event, final StackTraceElement[] stackTrace) {
+            this.time = time;
+            this.duration = duration;
+            this.event = event;
+            this.stackTrace = stackTrace;
+        }
+
+        /**
+         * Returns time of end of event in milliseconds from epoch.
+         *
+         * @return time of end of event in milliseconds from epoch
+         */
+        public long getTime() {
+            return time;
+        }
+
+        /**
+         * Returns duration in milliseconds.
+         *
+         * @return duration in milliseconds
+         */
+        public long getDuration() {
+            return duration;
+        }
+
+        /**
+         * Returns description of event.
+         *
+         * @return description of event
+         */
+        public String getEvent() {
+            return event;
+        }
+
+        /**
+         * Returns stack of event dispatch thread captured during event.
+         *
+         * @return stack of event dispatch thread captured during event, empty if stack wasn't captured
+         */
+        public StackTraceElement[] getStackTrace() {
+            return stackTrace.clone();
+        }
+
+        /**
+         * Returns stack of event dispatch thread as text with one frame on line.
+         *
+         * @return stack of event dispatch thread as text
+         */
+        public String getStackTraceText() {
+            final StringBuilder result = new StringBuilder();
+            for (final StackTraceElement element : stackTrace) {
+                result.append(System.lineSeparator()).append("\tat ").append(element);
+            }
+
+            return result.toString();
+        }
+
+    }
+
+}
@@ -0,0 +1,195 @@
+package cz.vhromada.catalog.monitoring;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import cz.vhromada.catalog.cache.FacadeCache;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * A class represents metrics of calls of facades.
+ * <p>
+ * Facades from application context (interfaces <code>cz.vhromada.catalog.facade.*Facade</code>) are replaced by proxies, which count calls of each
+ * method and record their durations. Facades are proxied after they are proxied by {@link FacadeCache}, so calls served from cache are measured too
+ * and metrics show calls made by GUI. Metrics can be exported to CSV.
+ *
+ * @author Vladimir Hromada
+ */
+@Component
+public class FacadeMetrics implements BeanPostProcessor, Ordered {
+
+    /**
+     * Package of facades
+     */
+    private static final String FACADE_PACKAGE = "cz.vhromada.catalog.facade";
+
+    /**
+     * Suffix of facades
+     */
+    private static final String FACADE_SUFFIX = "Facade";
+
+    /**
+     * Percentiles of durations
+     */
+    private static final double[] PERCENTILES = { 50.0, 90.0, 99.0 };
+
+    /**
+     * Header of CSV
+     */
+    private static final String CSV_HEADER = "facade,method,count,errors,total_ms,mean_ms,p50_ms,p90_ms,p99_ms,max_ms";
+
+    /**
+     * Metrics of methods
+     */
+    private final List<MethodMetrics> metrics = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        final Class<?>[] facades = ClassUtils.getAllInterfacesAsSet(bean).stream()
+            .filter(FacadeMetrics::isFacade)
+            .toArray(Class<?>[]::new);
+        if (facades.length == 0) {
+            return bean;
+        }
+
+        final Map<Method, MethodMetrics> facadeMetrics = new LinkedHashMap<>();
+        for (final Class<?> facade : facades) {
+            for (final Method method : facade.getMethods()) {
+                if (!Modifier.isStatic(method.getModifiers()) && !facadeMetrics.containsKey(method)) {
+                    final MethodMetrics methodMetrics = new MethodMetrics(facade.getSimpleName(), getName(method));
+                    facadeMetrics.put(method, methodMetrics);
+                    metrics.add(methodMetrics);
+                }
+            }
+        }
+
+        return Proxy.newProxyInstance(facades[0].getClassLoader(), facades, new TimingInvocationHandler(bean, facadeMetrics));
+    }
+
+    @Override
+    public int getOrder() {
+        return FacadeCache.ORDER + 1;
+    }
+
+    /**
+     * Returns metrics of methods sorted by facade and method.
+     *
+     * @return metrics of methods
+     */
+    public List<MethodMetrics> getMetrics() {
+        return metrics.stream()
+            .sorted(Comparator.comparing(MethodMetrics::getFacade).thenComparing(MethodMetrics::getMethod))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns metrics of called methods sorted by facade and method.
+     *
+     * @return metrics of called methods
+     */
+    public List<MethodMetrics> getCalledMetrics() {
+        return getMetrics().stream()
+            .filter(methodMetrics -> methodMetrics.getCount() > 0L)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns total count of calls.
+     *
+     * @return total count of calls
+     */
+    public long getCount() {
+        return metrics.stream().mapToLong(MethodMetrics::getCount).sum();
+    }
+
+    /**
+     * Returns count of calls of facade.
+     *
+     * @param facade name of facade (e.g. MovieFacade)
+     * @return count of calls of facade
+     * @throws IllegalArgumentException if name of facade is null
+     */
+    public long getCount(final String facade) {
+        Assert.notNull(facade, "Facade mustn't be null.");
+
+        return metrics.stream().filter(methodMetrics -> facade.equals(methodMetrics.getFacade())).mapToLong(MethodMetrics::getCount).sum();
+    }
+
+    /**
+     * Returns percentiles used in CSV (50th, 90th and 99th).
+     *
+     * @return percentiles used in CSV
+     */
+    public static double[] getPercentiles() {
+        return PERCENTILES.clone();
+    }
+
+    /**
+     * Removes all recorded calls.
+     */
+    public void clear() {
+        metrics.forEach(MethodMetrics::clear);
+    }
+
+    /**
+     * Writes metrics of called methods as CSV.
+     *
+     * @param writer writer
+     * @throws IllegalArgumentException if writer is null
+     * @throws IOException              if writing fails
+     */
+    public void writeCsv(final Writer writer) throws IOException {
+        Assert.notNull(writer, "Writer mustn't be null.");
+
+        writer.write(CSV_HEADER);
+        writer.write(System.lineSeparator());
+        for (final MethodMetrics methodMetrics : getCalledMetrics()) {
+            final double[] percentiles = methodMetrics.getPercentiles(PERCENTILES);
+            writer.write(String.format(Locale.ROOT, "%s,\"%s\",%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f%n", methodMetrics.getFacade(),
+                methodMetrics.getMethod(), methodMetrics.getCount(), methodMetrics.getErrors(), methodMetrics.getTotalDuration(),
+                methodMetrics.getMeanDuration(), percentiles[0], percentiles[1], percentiles[2], methodMetrics.getMaxDuration()));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FacadeMetrics [count=" + getCount() + ", metrics=" + getCalledMetrics() + ']';
+    }
+
+    /**
+     * Returns true if interface is facade.
+     *
+     * @param type interface
+     * @return true if interface is facade
+     */
+    private static boolean isFacade(final Class<?> type) {
+        return type.getName().startsWith(FACADE_PACKAGE + '.') && type.getSimpleName().endsWith(FACADE_SUFFIX);
+    }
+
+    /**
+     * Returns name of method with simple names of types of parameters.
+     *
+     * @param method method
+     * @return name of method with simple names of types of parameters
+     */
+    private static String getName(final Method method) {
+        return method.getName() + Arrays.stream(method.getParameterTypes()).map(Class::getSimpleName).collect(Collectors.joining(", ", "(", ")"));
+    }
+
+}
@@ -0,0 +1,195 @@
+package cz.vhromada.catalog.monitoring;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A class represents metrics of calls of method of facade.
+ * <p>
+ * Count, total and maximal duration are computed from all calls. Percentiles are computed from durations of last calls.
+ *
+ * @author Vladimir Hromada
+ */
+public final class MethodMetrics {
+
+    /**
+     * Count of kept durations of last calls
+     */
+    private static final int MAX_SAMPLES = 1024;
+
+    /**
+     * Name of facade
+     */
+    private final String facade;
+
+    /**
+     * Name of method with types of parameters
+     */
+    private final String method;
+
+    /**
+     * Durations of last calls in nanoseconds
+     */
+    private final long[] samples = new long[MAX_SAMPLES];
+
+    /**
+     * Count of calls
+     */
+    private long count;
+
+    /**
+     * Count of calls, which threw exception
+     */
+    private long errors;
+
+    /**
+     * Total duration in nanoseconds
+     */
+    private long totalDuration;
+
+    /**
+     * Maximal duration in nanoseconds
+     */
+    private long maxDuration;
+
+    /**
+     * Creates a new instance of MethodMetrics.
+     *
+     * @param facade name of facade
+     * @param method name of method with types of parameters
+     */
+    MethodMetrics(final String facade, final String method) {
+        this.facade = facade;
+        this.method = method;
+    }
+
+    /**
+     * Returns name of facade.
+     *
+     * @return name of facade
+     */
+    public String getFacade() {
+        return facade;
+    }
+
+    /**
+     * Returns name of method with types of parameters.
+     *
+     * @return name of method with types of parameters
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Returns count of calls.
+     *
+     * @return count of calls
+     */
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns count of calls, which threw exception.
+     *
+     * @return count of calls, which threw exception
+     */
+    public synchronized long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Returns total duration in milliseconds.
+     *
+     * @return total duration in milliseconds
+     */
+    public synchronized double getTotalDuration() {
+        return toMillis(totalDuration);
+    }
+
+    /**
+     * Returns mean duration in milliseconds.
+     *
+     * @return mean duration in milliseconds
+     */
+    public synchronized double getMeanDuration() {
+        return count == 0L ? 0.0 : toMillis(totalDuration) / count;
+    }
+
+    /**
+     * Returns maximal duration in milliseconds.
+     *
+     * @return maximal duration in milliseconds
+     */
+    public synchronized double getMaxDuration() {
+        return toMillis(maxDuration);
+    }
+
+    /**
+     * Returns percentiles of durations of last calls in milliseconds.
+     *
+     * @param percentiles percentiles (e.g. 50.0 for median)
+     * @return percentiles of durations of last calls in milliseconds
+     */
+    public double[] getPercentiles(final double... percentiles) {
+        final long[] sorted;
+        synchronized (this) {
+            sorted = Arrays.copyOf(samples, (int) Math.min(count, MAX_SAMPLES));
+        }
+        Arrays.sort(sorted);
+
+        final double[] result = new double[percentiles.length];
+        if (sorted.length > 0) {
+            for (int i = 0; i < percentiles.length; i++) {
+                final int index = (int) Math.ceil(percentiles[i] / 100.0 * sorted.length) - 1;
+                result[i] = toMillis(sorted[Math.max(0, Math.min(index, sorted.length - 1))]);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Records call.
+     *
+     * @param duration duration in nanoseconds
+     * @param error    true if call threw exception
+     */
+    synchronized void record(final long duration, final boolean error) {
+        samples[(int) (count % MAX_SAMPLES)] = duration;
+        count++;
+        if (error) {
+            errors++;
+        }
+        totalDuration += duration;
+        maxDuration = Math.max(maxDuration, duration);
+    }
+
+    /**
+     * Removes all recorded calls.
+     */
+    synchronized void clear() {
+        count = 0L;
+        errors = 0L;
+        totalDuration = 0L;
+        maxDuration = 0L;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MethodMetrics [facade=%s, method=%s, count=%d, errors=%d, mean=%.3f ms, max=%.3f ms]", facade, method, getCount(),
+            getErrors(), getMeanDuration(), getMaxDuration());
+    }
+
+    /**
+     * Returns duration in milliseconds.
+     *
+     * @param duration duration in nanoseconds
+     * @return duration in milliseconds
+     */
+    private static double toMillis(final long duration) {
+        return duration / (double) TimeUnit.MILLISECONDS.toNanos(1L);
+    }
+
+}
@@ -0,0 +1,267 @@
+package cz.vhromada.catalog.monitoring;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A class represents timeline of phases of application startup.
+ * <p>
+ * Timeline is enabled by command line argument <code>--startup-timeline</code>. Without value timeline is written to log, with value
+ * (e.g. <code>--startup-timeline=timeline.json</code>) timeline is written to file. If file has extension <code>json</code>, then timeline is written
+ * as JSON, otherwise as text. Timeline is written after first paint of first panel with data.
+ * <p>
+ * All times are measured by monotonic clock and they are relative to start of application.
+ *
+ * @author Vladimir Hromada
+ */
+public final class StartupTimeline {
+
+    /**
+     * Command line argument for enabling timeline
+     */
+    private static final String ARGUMENT = "--startup-timeline";
+
+    /**
+     * Logger
+     */
+    private static final Logger logger = LoggerFactory.getLogger(StartupTimeline.class);
+
+    /**
+     * Recorded phases - name of phase to phase
+     */
+    private static final Map<String, Phase> PHASES = new LinkedHashMap<>();
+
+    /**
+     * Time of start of application in nanoseconds
+     */
+    private static long origin = System.nanoTime();
+
+    /**
+     * True if timeline is enabled
+     */
+    private static volatile boolean enabled;
+
+    /**
+     * True if timeline is finished
+     */
+    private static volatile boolean finished;
+
+    /**
+     * File for timeline
+     */
+    private static String file;
+
+    /**
+     * Creates a new instance of StartupTimeline.
+     */
+    private StartupTimeline() {
+    }
+
+    /**
+     * Initializes timeline.
+     *
+     * @param args the command line arguments
+     */
+    public static void init(final String... args) {
+        origin = System.nanoTime();
+        for (final String arg : args) {
+            if (ARGUMENT.equals(arg)) {
+                enabled = true;
+            } else if (arg.startsWith(ARGUMENT + "=")) {
+                enabled = true;
+                file = arg.substring(ARGUMENT.length() + 1);
+            }
+        }
+    }
+
+    /**
+     * Returns true if timeline is recording.
+     *
+     * @return true if timeline is recording
+     */
+    public static boolean isRecording() {
+        return enabled && !finished;
+    }
+
+    /**
+     * Records phase which started at specified time and ends now. Only first occurrence of phase with same name is recorded.
+     *
+     * @param name  name of phase
+     * @param start start of phase in nanoseconds
+     */
+    public static void record(final String name, final long start) {
+        if (isRecording()) {
+            addPhase(new Phase(name, Thread.currentThread().getName(), start - origin, System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Records event which occurs now. Only first occurrence of event with same name is recorded.
+     *
+     * @param name name of event
+     */
+    public static void mark(final String name) {
+        if (isRecording()) {
+            addPhase(new Phase(name, Thread.currentThread().getName(), System.nanoTime() - origin, 0L));
+        }
+    }
+
+    /**
+     * Finishes timeline and writes it.
+     */
+    public static void finish() {
+        if (!isRecording()) {
+            return;
+        }
+
+        finished = true;
+        if (file == null) {
+            logger.info("Startup timeline:{}{}", System.lineSeparator(), toText());
+        } else {
+            final String content = file.endsWith(".json") ? toJson() : toText();
+            try {
+                Files.write(Paths.get(file), content.getBytes(StandardCharsets.UTF_8));
+            } catch (final IOException ex) {
+                logger.error("Error in writing startup timeline to file {}.", file, ex);
+            }
+        }
+    }
+
+    /**
+     * Returns timeline as text.
+     *
+     * @return timeline as text
+     */
+    public static String toText() {
+        final StringBuilder result = new StringBuilder();
+        for (final Phase phase : getPhases()) {
+            result.append(String.format(Locale.ROOT, "%10.1f ms %10.1f ms  %-40s [%s]%n", toMillis(phase.start), toMillis(phase.duration), phase.name,
+                phase.thread));
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Returns timeline as JSON.
+     *
+     * @return timeline as JSON
+     */
+    public static String toJson() {
+        final StringBuilder result = new StringBuilder("{\"phases\":[");
+        final List<Phase> phases = getPhases();
+        for (int i = 0; i < phases.size(); i++) {
+            final Phase phase = phases.get(i);
+            if (i > 0) {
+                result.append(',');
+            }
+            result.append("{\"name\":\"").append(escape(phase.name))
+                .append("\",\"thread\":\"").append(escape(phase.thread))
+                .append("\",\"startMs\":").append(String.format(Locale.ROOT, "%.3f", toMillis(phase.start)))
+                .append(",\"durationMs\":").append(String.format(Locale.ROOT, "%.3f", toMillis(phase.duration)))
+                .append('}');
+        }
+
+        return result.append("]}").toString();
+    }
+
+    /**
+     * Adds phase.
+     *
+     * @param phase phase
+     */
+    private static void addPhase(final Phase phase) {
+        synchronized (PHASES) {
+            PHASES.putIfAbsent(phase.name, phase);
+        }
+    }
+
+    /**
+     * Returns recorded phases sorted by start.
+     *
+     * @return recorded phases sorted by start
+     */
+    private static List<Phase> getPhases() {
+        final List<Phase> phases;
+        synchronized (PHASES) {
+            phases = new ArrayList<>(PHASES.values());
+        }
+        phases.sort((phase1, phase2) -> Long.compare(phase1.start, phase2.start));
+
+        return phases;
+    }
+
+    /**
+     * Returns nanoseconds converted to milliseconds.
+     *
+     * @param nanos nanoseconds
+     * @return nanoseconds converted to milliseconds
+     */
+    private static double toMillis(final long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1L);
+    }
+
+    /**
+     * Returns string escaped for JSON.
+     *
+     * @param value string
+     * @return string escaped for JSON
+     */
+    private static String escape(final String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    /**
+     * A class represents phase of startup.
+     */
+    private static final class Phase {
+
+        /**
+         * Name
+         */
+        private final String name;
+
+        /**
+         * Name of thread
+         */
+        private final String thread;
+
+        /**
+         * Start relative to start of application in nanoseconds
+         */
+        private final long start;
+
+        /**
+         * Duration in nanoseconds
+         */
+        private final long duration;
+
+        /**
+         * Creates a new instance of Phase.
+         *
+         * @param name     name
+         * @param thread   name of thread
+         * @param start    start relative to start of application in nanoseconds
+         * @param duration duration in nanoseconds
+         */
+        Phase(final String name, final String thread, final long start, final long duration) {
+            this.name = name;
+            this.thread = thread;
+            this.start = start;
+            this.duration = duration;
+        }
+
+    }
+
+}
@@ -0,0 +1,72 @@
+package cz.vhromada.catalog.monitoring;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+
+/**
+ * A class represents invocation handler for measuring calls of facade.
+ * <p>
+ * Each call of method of facade (except methods of {@link Object}) is counted and its duration is recorded to metrics of method.
+ *
+ * @author Vladimir Hromada
+ */
+final class TimingInvocationHandler implements InvocationHandler {
+
+    /**
+     * Facade
+     */
+    private final Object facade;
+
+    /**
+     * Metrics of methods of facade
+     */
+    private final Map<Method, MethodMetrics> metrics;
+
+    /**
+     * Creates a new instance of TimingInvocationHandler.
+     *
+     * @param facade  facade
+     * @param metrics metrics of methods of facade
+     */
+    TimingInvocationHandler(final Object facade, final Map<Method, MethodMetrics> metrics) {
+        this.facade = facade;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+        final MethodMetrics methodMetrics = metrics.get(method);
+        if (methodMetrics == null) {
+            return invokeFacade(method, args);
+        }
+
+        final long start = System.nanoTime();
+        boolean error = true;
+        try {
+            final Object result = invokeFacade(method, args);
+            error = false;
+            return result;
+        } finally {
+            methodMetrics.record(System.nanoTime() - start, error);
+        }
+    }
+
+    /**
+     * Invokes facade.
+     *
+     * @param method method
+     * @param args   arguments
+     * @return result
+     * @throws Throwable if facade throws exception
+     */
+    private Object invokeFacade(final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(facade, args);
+        } catch (final InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+}
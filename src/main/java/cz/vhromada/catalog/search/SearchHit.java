@@ -0,0 +1,163 @@
+package cz.vhromada.catalog.search;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A class represents data found by search.
+ *
+ * @author Vladimir Hromada
+ */
+public final class SearchHit {
+
+    /**
+     * Type of data
+     */
+    private final Type type;
+
+    /**
+     * Label - names of data and of its parents
+     */
+    private final String label;
+
+    /**
+     * IDs of data and of its parents - ID of root data is first
+     */
+    private final List<Integer> path;
+
+    /**
+     * Creates a new instance of SearchHit.
+     *
+     * @param type  type of data
+     * @param label label
+     * @param path  IDs of data and of its parents
+     */
+    SearchHit(final Type type, final String label, final List<Integer> path) {
+        this.type = type;
+        this.label = label;
+        this.path = Collections.unmodifiableList(path);
+    }
+
+    /**
+     * Returns type of data.
+     *
+     * @return type of data
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns label - names of data and of its parents.
+     *
+     * @return label
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Returns IDs of data and of its parents - ID of root data is first.
+     *
+     * @return IDs of data and of its parents
+     */
+    public List<Integer> getPath() {
+        return path;
+    }
+
+    /**
+     * An enumeration represents type of searched data.
+     */
+    public enum Type {
+
+        /**
+         * Movie
+         */
+        MOVIE("Movie", null),
+
+        /**
+         * Show
+         */
+        SHOW("Show", null),
+
+        /**
+         * Season
+         */
+        SEASON("Season", SHOW),
+
+        /**
+         * Episode
+         */
+        EPISODE("Episode", SEASON),
+
+        /**
+         * Music
+         */
+        MUSIC("Music", null),
+
+        /**
+         * Song
+         */
+        SONG("Song", MUSIC),
+
+        /**
+         * Game
+         */
+        GAME("Game", null),
+
+        /**
+         * Program
+         */
+        PROGRAM("Program", null);
+
+        /**
+         * Title
+         */
+        private final String title;
+
+        /**
+         * Type of parent data - null if data haven't parent
+         */
+        private final Type parent;
+
+        /**
+         * Creates a new instance of Type.
+         *
+         * @param title  title
+         * @param parent type of parent data
+         */
+        Type(final String title, final Type parent) {
+            this.title = title;
+            this.parent = parent;
+        }
+
+        /**
+         * Returns title.
+         *
+         * @return title
+         */
+        public String getTitle() {
+            return title;
+        }
+
+        /**
+         * Returns type of parent data.
+         *
+         * @return type of parent data or null if data haven't parent
+         */
+        public Type getParent() {
+            return parent;
+        }
+
+        /**
+         * Returns type of root data (e.g. show for episode).
+         *
+         * @return type of root data
+         */
+        public Type getRoot() {
+            return parent == null ? this : parent.getRoot();
+        }
+
+    }
+
+}
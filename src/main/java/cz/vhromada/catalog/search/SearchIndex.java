@@ -0,0 +1,742 @@
+package cz.vhromada.catalog.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+
+import cz.vhromada.catalog.cache.FacadeChangeListener;
+import cz.vhromada.catalog.entity.Episode;
+import cz.vhromada.catalog.entity.Game;
+import cz.vhromada.catalog.entity.Movie;
+import cz.vhromada.catalog.entity.Music;
+import cz.vhromada.catalog.entity.Program;
+import cz.vhromada.catalog.entity.Season;
+import cz.vhromada.catalog.entity.Show;
+import cz.vhromada.catalog.entity.Song;
+import cz.vhromada.catalog.facade.EpisodeFacade;
+import cz.vhromada.catalog.facade.GameFacade;
+import cz.vhromada.catalog.facade.MovieFacade;
+import cz.vhromada.catalog.facade.MusicFacade;
+import cz.vhromada.catalog.facade.ProgramFacade;
+import cz.vhromada.catalog.facade.SeasonFacade;
+import cz.vhromada.catalog.facade.ShowFacade;
+import cz.vhromada.catalog.facade.SongFacade;
+import cz.vhromada.catalog.gui.common.FilterIndex;
+import cz.vhromada.common.Movable;
+import cz.vhromada.validation.result.Result;
+import cz.vhromada.validation.result.Status;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+/**
+ * A class represents index for searching of movies, shows, seasons, episodes, music, songs, games and programs.
+ * <p>
+ * Names and notes of data are normalized (lowercased and without diacritics) and split to words. Index maps words to data, so data are found by
+ * prefixes of words without scanning all data. If search contains more words, then data must contain all of them.
+ * <p>
+ * Index is built and changed by one background thread. Index listens to changes of data in facades - updated and removed data are changed in
+ * index directly, added and duplicated data are found between data with same parent (e.g. seasons of show) by their IDs and they are indexed
+ * with their children. New data load data with same root data (e.g. all shows with seasons and episodes) again. More new data made before
+ * loading is started load data only once.
+ *
+ * @author Vladimir Hromada
+ */
+//CHECKSTYLE.OFF: ClassDataAbstractionCoupling
+//CHECKSTYLE.OFF: ClassFanOutComplexity
+public final class SearchIndex implements FacadeChangeListener {
+
+    /**
+     * Logger
+     */
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndex.class);
+
+    /**
+     * Pattern for separators of words
+     */
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /**
+     * Separator of names in label
+     */
+    private static final String LABEL_SEPARATOR = " / ";
+
+    /**
+     * Facades - facade to type of data
+     */
+    private static final Map<Class<?>, SearchHit.Type> FACADES = createFacades();
+
+    /**
+     * Facade for movies
+     */
+    private final MovieFacade movieFacade;
+
+    /**
+     * Facade for shows
+     */
+    private final ShowFacade showFacade;
+
+    /**
+     * Facade for seasons
+     */
+    private final SeasonFacade seasonFacade;
+
+    /**
+     * Facade for episodes
+     */
+    private final EpisodeFacade episodeFacade;
+
+    /**
+     * Facade for music
+     */
+    private final MusicFacade musicFacade;
+
+    /**
+     * Facade for songs
+     */
+    private final SongFacade songFacade;
+
+    /**
+     * Facade for games
+     */
+    private final GameFacade gameFacade;
+
+    /**
+     * Facade for programs
+     */
+    private final ProgramFacade programFacade;
+
+    /**
+     * Thread for building and changing of index
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Indexed data - type of data to ID of data to indexed data
+     */
+    private final Map<SearchHit.Type, Map<Integer, Document>> documents = new EnumMap<>(SearchHit.Type.class);
+
+    /**
+     * Words - word to data with word
+     */
+    private final NavigableMap<String, Set<Document>> words = new TreeMap<>();
+
+    /**
+     * True if index is built
+     */
+    private volatile boolean built;
+
+    /**
+     * Types of root data, which are waiting for loading again
+     */
+    private final Set<SearchHit.Type> pendingReindexes = Collections.synchronizedSet(EnumSet.noneOf(SearchHit.Type.class));
+
+    /**
+     * Creates a new instance of SearchIndex.
+     *
+     * @param movieFacade   facade for movies
+     * @param showFacade    facade for shows
+     * @param seasonFacade  facade for seasons
+     * @param episodeFacade facade for episodes
+     * @param musicFacade   facade for music
+     * @param songFacade    facade for songs
+     * @param gameFacade    facade for games
+     * @param programFacade facade for programs
+     * @throws IllegalArgumentException if any of facades is null
+     */
+    //CHECKSTYLE.OFF: ParameterNumber
+    public SearchIndex(final MovieFacade movieFacade, final ShowFacade showFacade, final SeasonFacade seasonFacade, final EpisodeFacade episodeFacade,
+        final MusicFacade musicFacade, final SongFacade songFacade, final GameFacade gameFacade, final ProgramFacade programFacade) {
+        this(movieFacade, showFacade, seasonFacade, episodeFacade, musicFacade, songFacade, gameFacade, programFacade, createExecutor());
+    }
+
+    /**
+     * Creates a new instance of SearchIndex with specified thread for building and changing of index.
+     *
+     * @param movieFacade   facade for movies
+     * @param showFacade    facade for shows
+     * @param seasonFacade  facade for seasons
+     * @param episodeFacade facade for episodes
+     * @param musicFacade   facade for music
+     * @param songFacade    facade for songs
+     * @param gameFacade    facade for games
+     * @param programFacade facade for programs
+     * @param executor      thread for building and changing of index
+     * @throws IllegalArgumentException if any of facades is null
+     *                                  or thread for building and changing of index is null
+     */
+    SearchIndex(final MovieFacade movieFacade, final ShowFacade showFacade, final SeasonFacade seasonFacade, final EpisodeFacade episodeFacade,
+        final MusicFacade musicFacade, final SongFacade songFacade, final GameFacade gameFacade, final ProgramFacade programFacade,
+        final ExecutorService executor) {
+        Assert.notNull(movieFacade, "Facade for movies mustn't be null.");
+        Assert.notNull(showFacade, "Facade for shows mustn't be null.");
+        Assert.notNull(seasonFacade, "Facade for seasons mustn't be null.");
+        Assert.notNull(episodeFacade, "Facade for episodes mustn't be null.");
+        Assert.notNull(musicFacade, "Facade for music mustn't be null.");
+        Assert.notNull(songFacade, "Facade for songs mustn't be null.");
+        Assert.notNull(gameFacade, "Facade for games mustn't be null.");
+        Assert.notNull(programFacade, "Facade for programs mustn't be null.");
+        Assert.notNull(executor, "Thread for building and changing of index mustn't be null.");
+
+        this.movieFacade = movieFacade;
+        this.showFacade = showFacade;
+        this.seasonFacade = seasonFacade;
+        this.episodeFacade = episodeFacade;
+        this.musicFacade = musicFacade;
+        this.songFacade = songFacade;
+        this.gameFacade = gameFacade;
+        this.programFacade = programFacade;
+        this.executor = executor;
+        for (final SearchHit.Type type : SearchHit.Type.values()) {
+            documents.put(type, new HashMap<>());
+        }
+    }
+    //CHECKSTYLE.ON: ParameterNumber
+
+    /**
+     * Builds index in background.
+     */
+    public void build() {
+        execute(() -> {
+            for (final SearchHit.Type type : SearchHit.Type.values()) {
+                if (executor.isShutdown()) {
+                    return;
+                }
+                if (type.getRoot() == type) {
+                    reindex(type);
+                }
+            }
+            built = true;
+        });
+    }
+
+    /**
+     * Returns true if index is built.
+     *
+     * @return true if index is built
+     */
+    public boolean isBuilt() {
+        return built;
+    }
+
+    /**
+     * Stops building and changing of index. Thread isn't interrupted, because it can read data from database, so running task is finished
+     * and waiting tasks are skipped.
+     */
+    public void close() {
+        executor.shutdown();
+    }
+
+    /**
+     * Returns found data. Data must contain all words of text - each word of text is prefix of word of data.
+     *
+     * @param text     text
+     * @param maxCount maximal count of found data
+     * @return found data sorted by type and label
+     * @throws IllegalArgumentException if text is null
+     */
+    public List<SearchHit> search(final String text, final int maxCount) {
+        Assert.notNull(text, "Text mustn't be null.");
+
+        final Set<String> textWords = getWords(text);
+        if (textWords.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final List<SearchHit> result = new ArrayList<>();
+        synchronized (this) {
+            Set<Document> found = null;
+            for (final String word : textWords) {
+                final Set<Document> wordDocuments = new HashSet<>();
+                for (final Set<Document> prefixDocuments : words.subMap(word, true, word + Character.MAX_VALUE, true).values()) {
+                    wordDocuments.addAll(prefixDocuments);
+                }
+                if (found == null) {
+                    found = wordDocuments;
+                } else {
+                    found.retainAll(wordDocuments);
+                }
+                if (found.isEmpty()) {
+                    return Collections.emptyList();
+                }
+            }
+            for (final Document document : found) {
+                result.add(document.getHit());
+            }
+        }
+        result.sort(Comparator.comparing(SearchHit::getType).thenComparing(SearchHit::getLabel, String.CASE_INSENSITIVE_ORDER));
+
+        return result.size() > maxCount ? new ArrayList<>(result.subList(0, maxCount)) : result;
+    }
+
+    @Override
+    public void dataChanged(final Class<?> facade, final String method, final Object parent, final Object data) {
+        final SearchHit.Type type = FACADES.get(facade);
+        if (type == null) {
+            return;
+        }
+
+        switch (method) {
+            case "update":
+                if (data instanceof Movable) {
+                    final Document document = createDocument(type, data, null);
+                    execute(() -> updateDocument(document));
+                }
+                break;
+            case "remove":
+                if (data instanceof Movable) {
+                    final Integer id = ((Movable) data).getId();
+                    execute(() -> removeDocument(type, id));
+                }
+                break;
+            case "add":
+                final Integer parentId = parent instanceof Movable ? ((Movable) parent).getId() : null;
+                execute(() -> addDocuments(type, getParentDocument(type, parentId)));
+                break;
+            case "duplicate":
+                if (data instanceof Movable) {
+                    final Integer id = ((Movable) data).getId();
+                    execute(() -> {
+                        final Document duplicated = documents.get(type).get(id);
+                        addDocuments(type, duplicated == null ? getParentDocument(type, null) : duplicated.parent);
+                    });
+                }
+                break;
+            case "moveUp":
+            case "moveDown":
+            case "updatePositions":
+                break;
+            default:
+                final SearchHit.Type root = type.getRoot();
+                if (pendingReindexes.add(root)) {
+                    execute(() -> {
+                        pendingReindexes.remove(root);
+                        reindex(root);
+                    });
+                }
+                break;
+        }
+    }
+
+    /**
+     * Executes task in thread for building and changing of index.
+     *
+     * @param task task
+     */
+    private void execute(final Runnable task) {
+        if (executor.isShutdown()) {
+            return;
+        }
+
+        executor.execute(() -> {
+            if (executor.isShutdown()) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (final RuntimeException ex) {
+                logger.warn("Can't change index for search.", ex);
+            }
+        });
+    }
+
+    /**
+     * Loads data with root data of specified type again and replaces them in index.
+     *
+     * @param root type of root data
+     */
+    private void reindex(final SearchHit.Type root) {
+        final List<Document> loaded = load(root);
+        synchronized (this) {
+            for (final Map.Entry<SearchHit.Type, Map<Integer, Document>> typeDocuments : documents.entrySet()) {
+                if (typeDocuments.getKey().getRoot() == root) {
+                    typeDocuments.getValue().values().forEach(this::removeWords);
+                    typeDocuments.getValue().clear();
+                }
+            }
+            for (final Document document : loaded) {
+                documents.get(document.type).put(document.id, document);
+                addWords(document);
+            }
+        }
+    }
+
+    /**
+     * Adds data, which aren't in index, with specified parent and their children to index. If data have parent and parent isn't in index, then
+     * data with same root data are loaded again.
+     *
+     * @param type   type of data
+     * @param parent parent data or null if data haven't parent
+     */
+    private void addDocuments(final SearchHit.Type type, final Document parent) {
+        if (type.getParent() != null && parent == null) {
+            reindex(type.getRoot());
+            return;
+        }
+
+        final Map<Integer, Document> typeDocuments = documents.get(type);
+        final List<Document> added = new ArrayList<>();
+        for (final Object data : loadChildren(type, parent)) {
+            if (!typeDocuments.containsKey(((Movable) data).getId())) {
+                final Document document = createDocument(type, data, parent);
+                added.add(document);
+                loadDescendants(document, added);
+            }
+        }
+        synchronized (this) {
+            for (final Document document : added) {
+                documents.get(document.type).put(document.id, document);
+                addWords(document);
+            }
+        }
+    }
+
+    /**
+     * Returns parent data in index.
+     *
+     * @param type     type of data
+     * @param parentId ID of parent data
+     * @return parent data in index or null if data haven't parent or parent isn't in index
+     */
+    private Document getParentDocument(final SearchHit.Type type, final Integer parentId) {
+        return type.getParent() == null || parentId == null ? null : documents.get(type.getParent()).get(parentId);
+    }
+
+    /**
+     * Updates name and words of data in index. Parent of data isn't changed.
+     *
+     * @param document data with new name and words
+     */
+    private synchronized void updateDocument(final Document document) {
+        final Document indexed = documents.get(document.type).get(document.id);
+        if (indexed != null) {
+            removeWords(indexed);
+            indexed.name = document.name;
+            indexed.words = document.words;
+            addWords(indexed);
+        }
+    }
+
+    /**
+     * Removes data and their children from index.
+     *
+     * @param type type of data
+     * @param id   ID of data
+     */
+    private synchronized void removeDocument(final SearchHit.Type type, final Integer id) {
+        final Document removed = documents.get(type).remove(id);
+        if (removed == null) {
+            return;
+        }
+
+        removeWords(removed);
+        for (final Map<Integer, Document> typeDocuments : documents.values()) {
+            typeDocuments.values().removeIf(document -> {
+                if (document.hasAncestor(removed)) {
+                    removeWords(document);
+                    return true;
+                }
+                return false;
+            });
+        }
+    }
+
+    /**
+     * Adds words of data to index.
+     *
+     * @param document data
+     */
+    private void addWords(final Document document) {
+        for (final String word : document.words) {
+            words.computeIfAbsent(word, key -> new HashSet<>()).add(document);
+        }
+    }
+
+    /**
+     * Removes words of data from index.
+     *
+     * @param document data
+     */
+    private void removeWords(final Document document) {
+        for (final String word : document.words) {
+            final Set<Document> wordDocuments = words.get(word);
+            if (wordDocuments != null) {
+                wordDocuments.remove(document);
+                if (wordDocuments.isEmpty()) {
+                    words.remove(word);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns loaded data with root data of specified type.
+     *
+     * @param root type of root data
+     * @return loaded data with root data of specified type
+     */
+    private List<Document> load(final SearchHit.Type root) {
+        final List<Document> result = new ArrayList<>();
+        for (final Object data : loadChildren(root, null)) {
+            final Document document = createDocument(root, data, null);
+            result.add(document);
+            loadDescendants(document, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Loads descendants of data (e.g. seasons and episodes of show).
+     *
+     * @param document data
+     * @param result   loaded descendants
+     */
+    private void loadDescendants(final Document document, final List<Document> result) {
+        for (final SearchHit.Type type : SearchHit.Type.values()) {
+            if (type.getParent() == document.type) {
+                for (final Object data : loadChildren(type, document)) {
+                    final Document child = createDocument(type, data, document);
+                    result.add(child);
+                    loadDescendants(child, result);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns loaded data of specified type with specified parent.
+     *
+     * @param type   type of data
+     * @param parent parent data or null if data haven't parent
+     * @return loaded data of specified type with specified parent
+     */
+    private List<?> loadChildren(final SearchHit.Type type, final Document parent) {
+        switch (type) {
+            case MOVIE:
+                return getData(movieFacade.getAll());
+            case SHOW:
+                return getData(showFacade.getAll());
+            case SEASON:
+                return getData(seasonFacade.find(getData(showFacade.get(parent.id))));
+            case EPISODE:
+                return getData(episodeFacade.find(getData(seasonFacade.get(parent.id))));
+            case MUSIC:
+                return getData(musicFacade.getAll());
+            case SONG:
+                return getData(songFacade.find(getData(musicFacade.get(parent.id))));
+            case GAME:
+                return getData(gameFacade.getAll());
+            case PROGRAM:
+                return getData(programFacade.getAll());
+            default:
+                throw new IllegalArgumentException("Bad type of data.");
+        }
+    }
+
+    /**
+     * Returns data for index.
+     *
+     * @param type   type of data
+     * @param data   data
+     * @param parent parent data
+     * @return data for index
+     */
+    private static Document createDocument(final SearchHit.Type type, final Object data, final Document parent) {
+        switch (type) {
+            case MOVIE:
+                final Movie movie = (Movie) data;
+                return new Document(type, movie.getId(), parent, movie.getCzechName(), movie.getCzechName(), movie.getOriginalName(),
+                    movie.getNote());
+            case SHOW:
+                final Show show = (Show) data;
+                return new Document(type, show.getId(), parent, show.getCzechName(), show.getCzechName(), show.getOriginalName(), show.getNote());
+            case SEASON:
+                final Season season = (Season) data;
+                return new Document(type, season.getId(), parent, "Season " + season.getNumber(), season.getNote());
+            case EPISODE:
+                final Episode episode = (Episode) data;
+                return new Document(type, episode.getId(), parent, episode.getName(), episode.getName(), episode.getNote());
+            case MUSIC:
+                final Music music = (Music) data;
+                return new Document(type, music.getId(), parent, music.getName(), music.getName(), music.getNote());
+            case SONG:
+                final Song song = (Song) data;
+                return new Document(type, song.getId(), parent, song.getName(), song.getName(), song.getNote());
+            case GAME:
+                final Game game = (Game) data;
+                return new Document(type, game.getId(), parent, game.getName(), game.getName(), game.getNote());
+            case PROGRAM:
+                final Program program = (Program) data;
+                return new Document(type, program.getId(), parent, program.getName(), program.getName(), program.getNote());
+            default:
+                throw new IllegalArgumentException("Bad type of data.");
+        }
+    }
+
+    /**
+     * Returns data from result.
+     *
+     * @param result result
+     * @param <T>    type of data
+     * @return data from result
+     * @throws IllegalArgumentException if result hasn't status OK
+     */
+    private static <T> T getData(final Result<T> result) {
+        if (Status.OK == result.getStatus()) {
+            return result.getData();
+        }
+
+        throw new IllegalArgumentException("Can't get data. " + result);
+    }
+
+    /**
+     * Returns normalized words of texts.
+     *
+     * @param texts texts
+     * @return normalized words of texts
+     */
+    private static Set<String> getWords(final String... texts) {
+        final Set<String> result = new LinkedHashSet<>();
+        for (final String text : texts) {
+            for (final String word : SEPARATORS.split(FilterIndex.normalize(text))) {
+                if (!word.isEmpty()) {
+                    result.add(word);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns thread for building and changing of index.
+     *
+     * @return thread for building and changing of index
+     */
+    private static ExecutorService createExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "catalog-search");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns facades with type of data.
+     *
+     * @return facades with type of data
+     */
+    private static Map<Class<?>, SearchHit.Type> createFacades() {
+        final Map<Class<?>, SearchHit.Type> facades = new HashMap<>();
+        facades.put(MovieFacade.class, SearchHit.Type.MOVIE);
+        facades.put(ShowFacade.class, SearchHit.Type.SHOW);
+        facades.put(SeasonFacade.class, SearchHit.Type.SEASON);
+        facades.put(EpisodeFacade.class, SearchHit.Type.EPISODE);
+        facades.put(MusicFacade.class, SearchHit.Type.MUSIC);
+        facades.put(SongFacade.class, SearchHit.Type.SONG);
+        facades.put(GameFacade.class, SearchHit.Type.GAME);
+        facades.put(ProgramFacade.class, SearchHit.Type.PROGRAM);
+
+        return Collections.unmodifiableMap(facades);
+    }
+
+    /**
+     * A class represents indexed data.
+     */
+    private static final class Document {
+
+        /**
+         * Type of data
+         */
+        private final SearchHit.Type type;
+
+        /**
+         * ID of data
+         */
+        private final Integer id;
+
+        /**
+         * Parent data - null if data haven't parent
+         */
+        private final Document parent;
+
+        /**
+         * Name
+         */
+        private String name;
+
+        /**
+         * Normalized words
+         */
+        private Set<String> words;
+
+        /**
+         * Creates a new instance of Document.
+         *
+         * @param type   type of data
+         * @param id     ID of data
+         * @param parent parent data
+         * @param name   name
+         * @param texts  searched texts
+         */
+        Document(final SearchHit.Type type, final Integer id, final Document parent, final String name, final String... texts) {
+            this.type = type;
+            this.id = id;
+            this.parent = parent;
+            this.name = name;
+            this.words = getWords(texts);
+        }
+
+        /**
+         * Returns true if data have specified ancestor.
+         *
+         * @param ancestor ancestor
+         * @return true if data have specified ancestor
+         */
+        boolean hasAncestor(final Document ancestor) {
+            for (Document document = parent; document != null; document = document.parent) {
+                if (document == ancestor) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        /**
+         * Returns found data.
+         *
+         * @return found data
+         */
+        SearchHit getHit() {
+            final LinkedList<String> names = new LinkedList<>();
+            final LinkedList<Integer> path = new LinkedList<>();
+            for (Document document = this; document != null; document = document.parent) {
+                names.addFirst(document.name);
+                path.addFirst(document.id);
+            }
+
+            return new SearchHit(type, String.join(LABEL_SEPARATOR, names), new ArrayList<>(path));
+        }
+
+    }
+
+}
+//CHECKSTYLE.ON: ClassFanOutComplexity
+//CHECKSTYLE.ON: ClassDataAbstractionCoupling
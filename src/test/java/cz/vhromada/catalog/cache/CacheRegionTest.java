@@ -0,0 +1,127 @@
+package cz.vhromada.catalog.cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * A class represents test for class {@link CacheRegion}.
+ *
+ * @author Vladimir Hromada
+ */
+class CacheRegionTest {
+
+    /**
+     * Key of cached result of getting of data
+     */
+    private static final List<Object> GET_KEY = Arrays.asList("get", 1);
+
+    /**
+     * Key of cached result of getting of all data
+     */
+    private static final List<Object> GET_ALL_KEY = Arrays.asList("getAll");
+
+    /**
+     * Maximal count of cached results
+     */
+    private static final int MAX_SIZE = 2;
+
+    /**
+     * Instance of {@link CacheRegion}
+     */
+    private CacheRegion region;
+
+    /**
+     * Initializes region.
+     */
+    @BeforeEach
+    void setUp() {
+        region = new CacheRegion("Region", MAX_SIZE);
+    }
+
+    /**
+     * Test method for {@link CacheRegion#get(List)} with cached and not cached result.
+     */
+    @Test
+    void get() {
+        region.put(GET_KEY, "Data", region.getGeneration());
+
+        assertAll(
+            () -> assertEquals("Data", region.get(GET_KEY)),
+            () -> assertNull(region.get(GET_ALL_KEY)),
+            () -> assertEquals(1L, region.getHits()),
+            () -> assertEquals(1L, region.getMisses()),
+            () -> assertEquals(1, region.getSize()));
+    }
+
+    /**
+     * Test method for {@link CacheRegion#put(List, Object, long)} with result loaded before invalidation.
+     */
+    @Test
+    void put_ChangedGeneration() {
+        final long generation = region.getGeneration();
+        region.invalidateAll();
+        region.put(GET_KEY, "Data", generation);
+
+        assertAll(
+            () -> assertNull(region.get(GET_KEY)),
+            () -> assertEquals(0, region.getSize()));
+    }
+
+    /**
+     * Test method for {@link CacheRegion#put(List, Object, long)} with more results than maximum.
+     */
+    @Test
+    void put_MaxSize() {
+        final List<Object> findKey = Arrays.asList("find", "Name");
+        final long generation = region.getGeneration();
+        region.put(GET_KEY, "Data", generation);
+        region.put(GET_ALL_KEY, "All data", generation);
+        region.get(GET_KEY);
+        region.put(findKey, "Found data", generation);
+
+        assertAll(
+            () -> assertEquals(MAX_SIZE, region.getSize()),
+            () -> assertEquals("Data", region.get(GET_KEY)),
+            () -> assertNull(region.get(GET_ALL_KEY)),
+            () -> assertEquals("Found data", region.get(findKey)));
+    }
+
+    /**
+     * Test method for {@link CacheRegion#invalidate(java.util.function.Predicate)}.
+     */
+    @Test
+    void invalidate() {
+        final long generation = region.getGeneration();
+        region.put(GET_KEY, "Data", generation);
+        region.put(GET_ALL_KEY, "All data", generation);
+
+        region.invalidate(key -> !"get".equals(key.get(0)));
+
+        assertAll(
+            () -> assertEquals("Data", region.get(GET_KEY)),
+            () -> assertNull(region.get(GET_ALL_KEY)),
+            () -> assertEquals(generation + 1L, region.getGeneration()));
+    }
+
+    /**
+     * Test method for {@link CacheRegion#invalidateAll()}.
+     */
+    @Test
+    void invalidateAll() {
+        final long generation = region.getGeneration();
+        region.put(GET_KEY, "Data", generation);
+        region.put(GET_ALL_KEY, "All data", generation);
+
+        region.invalidateAll();
+
+        assertEquals(0, region.getSize());
+    }
+
+}
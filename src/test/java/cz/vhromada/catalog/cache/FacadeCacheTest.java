@@ -0,0 +1,188 @@
+package cz.vhromada.catalog.cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import cz.vhromada.catalog.entity.Movie;
+import cz.vhromada.catalog.facade.MovieFacade;
+import cz.vhromada.common.Movable;
+import cz.vhromada.validation.result.Result;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * A class represents test for class {@link FacadeCache}.
+ *
+ * @author Vladimir Hromada
+ */
+class FacadeCacheTest {
+
+    /**
+     * Facade for movies
+     */
+    private MovieFacade facade;
+
+    /**
+     * Cached facade for movies
+     */
+    private MovieFacade cachedFacade;
+
+    /**
+     * Notified changes of data - name of method and ID of data
+     */
+    private List<String> notifiedChanges;
+
+    /**
+     * Instance of {@link FacadeCache}
+     */
+    private FacadeCache cache;
+
+    /**
+     * Initializes facade and cache.
+     */
+    @BeforeEach
+    void setUp() {
+        facade = mock(MovieFacade.class);
+        when(facade.get(any(Integer.class))).thenAnswer(invocation -> Result.of(createMovie(invocation.getArgument(0))));
+        when(facade.getAll()).thenReturn(Result.of(Collections.singletonList(createMovie(1))));
+        when(facade.update(any(Movie.class))).thenReturn(Result.of(null));
+        when(facade.remove(any(Movie.class))).thenReturn(Result.of(null));
+
+        notifiedChanges = new ArrayList<>();
+        cache = new FacadeCache();
+        cache.addChangeListener((facadeType, method, parent, data) -> {
+            final String id = data == null ? "" : " " + ((Movable) data).getId();
+            notifiedChanges.add(method + id);
+        });
+        cachedFacade = (MovieFacade) cache.postProcessAfterInitialization(facade, "movieFacade");
+    }
+
+    /**
+     * Test method for cached result.
+     */
+    @Test
+    void get() {
+        cachedFacade.get(1);
+        final Movie movie = cachedFacade.get(1).getData();
+
+        assertAll(
+            () -> assertEquals(Integer.valueOf(1), movie.getId()),
+            () -> assertEquals(1L, cache.getHits(MovieFacade.class)),
+            () -> assertEquals(1L, cache.getMisses(MovieFacade.class)));
+        verify(facade, times(1)).get(1);
+    }
+
+    /**
+     * Test method for cached list of data.
+     */
+    @Test
+    void getAll() {
+        final List<Movie> movies = cachedFacade.getAll().getData();
+        final List<Movie> cachedMovies = cachedFacade.getAll().getData();
+
+        assertAll(
+            () -> assertSame(movies, cachedMovies),
+            () -> assertNotSame(facade.getAll().getData().get(0), movies.get(0)),
+            () -> assertThrows(UnsupportedOperationException.class, () -> cachedMovies.add(createMovie(2))));
+    }
+
+    /**
+     * Test method for {@link FacadeCache#copy(Object)}.
+     */
+    @Test
+    void copy() {
+        final Movie movie = cachedFacade.get(1).getData();
+
+        final Movie copy = FacadeCache.copy(movie);
+        copy.setPosition(5);
+
+        assertAll(
+            () -> assertNotSame(movie, copy),
+            () -> assertEquals(movie.getId(), copy.getId()),
+            () -> assertEquals(movie.getPosition(), cachedFacade.get(1).getData().getPosition()));
+    }
+
+    /**
+     * Test method for invalidation of cached results after change of data.
+     */
+    @Test
+    void update() {
+        cachedFacade.get(1);
+        cachedFacade.get(2);
+
+        cachedFacade.update(createMovie(1));
+        cachedFacade.get(1);
+        cachedFacade.get(2);
+
+        assertEquals(Collections.singletonList("update 1"), notifiedChanges);
+        verify(facade, times(2)).get(1);
+        verify(facade, times(1)).get(2);
+    }
+
+    /**
+     * Test method for {@link FacadeCache#runBatch(Runnable)}.
+     */
+    @Test
+    void runBatch() {
+        cachedFacade.getAll();
+
+        FacadeCache.runBatch(() -> {
+            cachedFacade.remove(createMovie(1));
+            cachedFacade.remove(createMovie(2));
+            cachedFacade.update(createMovie(3));
+            cachedFacade.update(createMovie(3));
+            assertEquals(Collections.emptyList(), notifiedChanges);
+        });
+        cachedFacade.getAll();
+
+        assertEquals(Arrays.asList("remove 1", "remove 2", "update 3"), notifiedChanges);
+        verify(facade, times(2)).getAll();
+    }
+
+    /**
+     * Test method for {@link FacadeCache#runPositionsBatch(Runnable)}.
+     */
+    @Test
+    void runPositionsBatch() {
+        cachedFacade.get(1);
+        cachedFacade.get(3);
+
+        FacadeCache.runPositionsBatch(() -> {
+            cachedFacade.update(createMovie(1));
+            cachedFacade.update(createMovie(2));
+        });
+        cachedFacade.get(1);
+        cachedFacade.get(3);
+
+        assertEquals(Collections.singletonList("updatePositions"), notifiedChanges);
+        verify(facade, times(2)).get(1);
+        verify(facade, times(1)).get(3);
+    }
+
+    /**
+     * Returns movie.
+     *
+     * @param id ID
+     * @return movie
+     */
+    private static Movie createMovie(final Integer id) {
+        final Movie movie = new Movie();
+        movie.setId(id);
+        return movie;
+    }
+
+}
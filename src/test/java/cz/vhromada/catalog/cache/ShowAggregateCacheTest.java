@@ -0,0 +1,204 @@
+package cz.vhromada.catalog.cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+
+import cz.vhromada.catalog.entity.Episode;
+import cz.vhromada.catalog.entity.Season;
+import cz.vhromada.catalog.entity.Show;
+import cz.vhromada.catalog.facade.EpisodeFacade;
+import cz.vhromada.catalog.facade.SeasonFacade;
+import cz.vhromada.validation.result.Result;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * A class represents test for class {@link ShowAggregateCache}.
+ *
+ * @author Vladimir Hromada
+ */
+class ShowAggregateCacheTest {
+
+    /**
+     * Facade for seasons
+     */
+    private SeasonFacade seasonFacade;
+
+    /**
+     * Facade for episodes
+     */
+    private EpisodeFacade episodeFacade;
+
+    /**
+     * Show
+     */
+    private Show show;
+
+    /**
+     * First season of show
+     */
+    private Season season1;
+
+    /**
+     * Second season of show
+     */
+    private Season season2;
+
+    /**
+     * Instance of {@link ShowAggregateCache}
+     */
+    private ShowAggregateCache cache;
+
+    /**
+     * Initializes facades and cache.
+     */
+    @BeforeEach
+    void setUp() {
+        seasonFacade = mock(SeasonFacade.class);
+        episodeFacade = mock(EpisodeFacade.class);
+
+        show = new Show();
+        show.setId(1);
+        season1 = createSeason(1, 2000, 2001);
+        season2 = createSeason(2, 2002, 2004);
+        when(seasonFacade.find(any(Show.class))).thenReturn(Result.of(Arrays.asList(season1, season2)));
+        when(episodeFacade.find(season1)).thenReturn(Result.of(Arrays.asList(createEpisode(10), createEpisode(20))));
+        when(episodeFacade.find(season2)).thenReturn(Result.of(Arrays.asList(createEpisode(30))));
+
+        cache = new ShowAggregateCache(seasonFacade, episodeFacade);
+    }
+
+    /**
+     * Test method for {@link ShowAggregateCache#getShowAggregate(Show)}.
+     */
+    @Test
+    void getShowAggregate() {
+        final ShowAggregateCache.Aggregate aggregate = cache.getShowAggregate(show);
+
+        assertAll(
+            () -> assertEquals(2, aggregate.getSeasonsCount()),
+            () -> assertEquals(3, aggregate.getEpisodesCount()),
+            () -> assertEquals(60, aggregate.getLength()),
+            () -> assertEquals(2000, aggregate.getStartYear()),
+            () -> assertEquals(2004, aggregate.getEndYear()));
+    }
+
+    /**
+     * Test method for {@link ShowAggregateCache#getShowAggregate(Show)} with cached aggregate.
+     */
+    @Test
+    void getShowAggregate_Cached() {
+        final ShowAggregateCache.Aggregate aggregate = cache.getShowAggregate(show);
+
+        assertSame(aggregate, cache.getShowAggregate(show));
+        verify(seasonFacade, times(1)).find(any(Show.class));
+        verify(episodeFacade, times(1)).find(season1);
+        verify(episodeFacade, times(1)).find(season2);
+    }
+
+    /**
+     * Test method for {@link ShowAggregateCache#getSeasonAggregate(Season)}.
+     */
+    @Test
+    void getSeasonAggregate() {
+        final ShowAggregateCache.Aggregate aggregate = cache.getSeasonAggregate(season1);
+
+        assertAll(
+            () -> assertEquals(1, aggregate.getSeasonsCount()),
+            () -> assertEquals(2, aggregate.getEpisodesCount()),
+            () -> assertEquals(30, aggregate.getLength()),
+            () -> assertEquals(2000, aggregate.getStartYear()),
+            () -> assertEquals(2001, aggregate.getEndYear()));
+    }
+
+    /**
+     * Test method for {@link ShowAggregateCache#seasonChanged(Season)}. Only episodes of changed season are loaded again.
+     */
+    @Test
+    void seasonChanged() {
+        cache.getShowAggregate(show);
+        when(episodeFacade.find(season1)).thenReturn(Result.of(Arrays.asList(createEpisode(10), createEpisode(20), createEpisode(40))));
+
+        cache.seasonChanged(season1);
+        final ShowAggregateCache.Aggregate aggregate = cache.getShowAggregate(show);
+
+        assertAll(
+            () -> assertEquals(4, aggregate.getEpisodesCount()),
+            () -> assertEquals(100, aggregate.getLength()));
+        verify(seasonFacade, times(1)).find(any(Show.class));
+        verify(episodeFacade, times(2)).find(season1);
+        verify(episodeFacade, times(1)).find(season2);
+    }
+
+    /**
+     * Test method for {@link ShowAggregateCache#showChanged(Show)}. Seasons are loaded again, but aggregates of seasons are kept.
+     */
+    @Test
+    void showChanged() {
+        cache.getShowAggregate(show);
+        when(seasonFacade.find(any(Show.class))).thenReturn(Result.of(Arrays.asList(season1)));
+
+        cache.showChanged(show);
+        final ShowAggregateCache.Aggregate aggregate = cache.getShowAggregate(show);
+
+        assertAll(
+            () -> assertEquals(1, aggregate.getSeasonsCount()),
+            () -> assertEquals(2, aggregate.getEpisodesCount()),
+            () -> assertEquals(2001, aggregate.getEndYear()));
+        verify(seasonFacade, times(2)).find(any(Show.class));
+        verify(episodeFacade, times(1)).find(season1);
+    }
+
+    /**
+     * Test method for {@link ShowAggregateCache#clear()}.
+     */
+    @Test
+    void clear() {
+        cache.getShowAggregate(show);
+
+        cache.clear();
+        cache.getShowAggregate(show);
+
+        verify(seasonFacade, times(2)).find(any(Show.class));
+        verify(episodeFacade, times(2)).find(season1);
+    }
+
+    /**
+     * Returns season.
+     *
+     * @param id        ID
+     * @param startYear starting year
+     * @param endYear   ending year
+     * @return season
+     */
+    private static Season createSeason(final int id, final int startYear, final int endYear) {
+        final Season season = new Season();
+        season.setId(id);
+        season.setNumber(id);
+        season.setStartYear(startYear);
+        season.setEndYear(endYear);
+        return season;
+    }
+
+    /**
+     * Returns episode.
+     *
+     * @param length length
+     * @return episode
+     */
+    private static Episode createEpisode(final int length) {
+        final Episode episode = new Episode();
+        episode.setLength(length);
+        return episode;
+    }
+
+}
@@ -0,0 +1,238 @@
+package cz.vhromada.catalog.gui.common;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+
+import cz.vhromada.validation.result.Result;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * A class represents test for class {@link AbstractListDataModel}.
+ *
+ * @author Vladimir Hromada
+ */
+class AbstractListDataModelTest {
+
+    /**
+     * Instance of {@link AbstractListDataModel}
+     */
+    private AbstractListDataModel<String> model;
+
+    /**
+     * Events of listener - type, first index and last index
+     */
+    private List<String> events;
+
+    /**
+     * Changed display values - data to display value
+     */
+    private Map<String, String> displayValues;
+
+    /**
+     * Initializes model with data and listener.
+     */
+    @BeforeEach
+    void setUp() {
+        displayValues = new HashMap<>();
+        model = new AbstractListDataModel<String>() {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected Result<List<String>> getData() {
+                return Result.of(new ArrayList<>());
+            }
+
+            @Override
+            protected String getDisplayValue(final String dataObject) {
+                return displayValues.getOrDefault(dataObject, dataObject);
+            }
+
+        };
+        model.setData(Arrays.asList("A", "B", "C", "D", "E"));
+        events = new ArrayList<>();
+        model.addListDataListener(new ListDataListener() {
+
+            @Override
+            public void intervalAdded(final ListDataEvent e) {
+                events.add("added " + e.getIndex0() + '-' + e.getIndex1());
+            }
+
+            @Override
+            public void intervalRemoved(final ListDataEvent e) {
+                events.add("removed " + e.getIndex0() + '-' + e.getIndex1());
+            }
+
+            @Override
+            public void contentsChanged(final ListDataEvent e) {
+                events.add("changed " + e.getIndex0() + '-' + e.getIndex1());
+            }
+
+        });
+    }
+
+    /**
+     * Test method for {@link AbstractListDataModel#setData(List)} with same data.
+     */
+    @Test
+    void setData_Unchanged() {
+        model.setData(Arrays.asList("A", "B", "C", "D", "E"));
+
+        assertEquals(0, events.size());
+    }
+
+    /**
+     * Test method for {@link AbstractListDataModel#setData(List)} with changed data between common beginning and end.
+     */
+    @Test
+    void setData_Changed() {
+        model.setData(Arrays.asList("A", "X", "Y", "D", "E"));
+
+        assertAll(
+            () -> assertEquals(Arrays.asList("changed 1-2"), events),
+            () -> assertEquals("X", model.getElementAt(1)));
+    }
+
+    /**
+     * Test method for {@link AbstractListDataModel#setData(List)} with same data with changed display values in common beginning and end.
+     */
+    @Test
+    void setData_ChangedDisplayValues() {
+        displayValues.put("A", "A2");
+        displayValues.put("B", "B2");
+        displayValues.put("E", "E2");
+        model.setData(Arrays.asList("A", "B", "X", "E"));
+
+        assertAll(
+            () -> assertEquals(Arrays.asList("changed 0-1", "changed 2-2", "removed 3-3", "changed 3-3"), events),
+            () -> assertEquals("B2", model.getElementAt(1)),
+            () -> assertEquals("E2", model.getElementAt(3)));
+    }
+
+    /**
+     * Test method for {@link AbstractListDataModel#setData(List)} with added data.
+     */
+    @Test
+    void setData_Added() {
+        model.setData(Arrays.asList("A", "B", "C", "D", "E", "F", "G"));
+
+        assertAll(
+            () -> assertEquals(Arrays.asList("added 5-6"), events),
+            () -> assertEquals(7, model.getSize()));
+    }
+
+    /**
+     * Test method for {@link AbstractListDataModel#setData(List)} with removed and changed data.
+     */
+    @Test
+    void setData_Removed() {
+        model.setData(Arrays.asList("A", "X", "E"));
+
+        assertAll(
+            () -> assertEquals(Arrays.asList("changed 1-1", "removed 2-3"), events),
+            () -> assertEquals(3, model.getSize()));
+    }
+
+    /**
+     * Test method for {@link AbstractListDataModel#setFilter(String)}. Data starting with text are shown first.
+     */
+    @Test
+    void setFilter() {
+        model.setData(Arrays.asList("Koza", "Kočka", "Pes", "Ovce"));
+
+        model.setFilter("o");
+
+        assertAll(
+            () -> assertEquals(3, model.getSize()),
+            () -> assertEquals("Ovce", model.getElementAt(0)),
+            () -> assertEquals("Koza", model.getElementAt(1)),
+            () -> assertEquals("Kočka", model.getElementAt(2)));
+    }
+
+    /**
+     * Test method for {@link AbstractListDataModel#update(Object)} with data, which don't match filter after update.
+     */
+    @Test
+    void update_FilteredRemoved() {
+        filter();
+        displayValues.put("Koza", "Kuza");
+
+        model.update("Koza");
+
+        assertAll(
+            () -> assertEquals(Arrays.asList("removed 1-1"), events),
+            () -> assertEquals(2, model.getSize()),
+            () -> assertEquals("Kočka", model.getElementAt(1)),
+            () -> assertEquals(-1, model.indexOf("Koza")));
+    }
+
+    /**
+     * Test method for {@link AbstractListDataModel#update(Object)} with data, which match filter after update.
+     */
+    @Test
+    void update_FilteredAdded() {
+        filter();
+        displayValues.put("Pes", "Pes domácí");
+
+        model.update("Pes");
+
+        assertAll(
+            () -> assertEquals(Arrays.asList("added 3-3"), events),
+            () -> assertEquals(4, model.getSize()),
+            () -> assertEquals("Pes domácí", model.getElementAt(3)),
+            () -> assertEquals(3, model.indexOf("Pes")));
+    }
+
+    /**
+     * Test method for {@link AbstractListDataModel#update(Object)} with data, which start with filter after update.
+     */
+    @Test
+    void update_FilteredMoved() {
+        filter();
+        displayValues.put("Koza", "Oko");
+
+        model.update("Koza");
+
+        assertAll(
+            () -> assertEquals(Arrays.asList("removed 1-1", "added 0-0"), events),
+            () -> assertEquals(3, model.getSize()),
+            () -> assertEquals("Oko", model.getElementAt(0)),
+            () -> assertEquals("Ovce", model.getElementAt(1)));
+    }
+
+    /**
+     * Test method for {@link AbstractListDataModel#update(Object)} with data, which match filter before and after update.
+     */
+    @Test
+    void update_FilteredChanged() {
+        filter();
+        displayValues.put("Kočka", "Kočička");
+
+        model.update("Kočka");
+
+        assertAll(
+            () -> assertEquals(Arrays.asList("changed 2-2"), events),
+            () -> assertEquals("Kočička", model.getElementAt(2)));
+    }
+
+    /**
+     * Sets data for filtering and filters them by text <code>o</code>. Events of listener are cleared.
+     */
+    private void filter() {
+        model.setData(Arrays.asList("Koza", "Kočka", "Pes", "Ovce"));
+        model.setFilter("o");
+        events.clear();
+    }
+
+}
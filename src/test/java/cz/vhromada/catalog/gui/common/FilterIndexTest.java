@@ -0,0 +1,121 @@
+package cz.vhromada.catalog.gui.common;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * A class represents test for class {@link FilterIndex}.
+ *
+ * @author Vladimir Hromada
+ */
+class FilterIndexTest {
+
+    /**
+     * Instance of {@link FilterIndex}
+     */
+    private FilterIndex index;
+
+    /**
+     * Initializes index.
+     */
+    @BeforeEach
+    void setUp() {
+        index = new FilterIndex(Arrays.asList("Kočka", "Pes", "Kohout", "Želva", "Koza", "Ovce"));
+    }
+
+    /**
+     * Test method for {@link FilterIndex#normalize(String)}.
+     */
+    @Test
+    void normalize() {
+        assertAll(
+            () -> assertEquals("ctyri zelvy", FilterIndex.normalize("Čtyři Želvy")),
+            () -> assertEquals("", FilterIndex.normalize(null)));
+    }
+
+    /**
+     * Test method for {@link FilterIndex#find(String, int[])}.
+     */
+    @Test
+    void find() {
+        assertAll(
+            () -> assertArrayEquals(new int[] { 0, 2, 4 }, index.find("ko", null)),
+            () -> assertArrayEquals(new int[] { 1, 3, 5 }, index.find("e", null)),
+            () -> assertArrayEquals(new int[] { 3, 5 }, index.find("e", new int[] { 2, 3, 5 })));
+    }
+
+    /**
+     * Test method for {@link FilterIndex#findPrefix(String)}.
+     */
+    @Test
+    void findPrefix() {
+        assertAll(
+            () -> assertArrayEquals(new int[] { 0, 2, 4 }, index.findPrefix("ko")),
+            () -> assertArrayEquals(new int[] { 3 }, index.findPrefix("zel")),
+            () -> assertArrayEquals(new int[0], index.findPrefix("e")),
+            () -> assertArrayEquals(new int[] { 0, 1, 2, 3, 4, 5 }, index.findPrefix("")));
+    }
+
+    /**
+     * Test method for {@link FilterIndex#set(int, String)}.
+     */
+    @Test
+    void set() {
+        index.set(1, "Kobra");
+        index.set(0, "Myš");
+
+        assertAll(
+            () -> assertEquals("Kobra", index.getDisplayValue(1)),
+            () -> assertArrayEquals(new int[] { 1, 2, 4 }, index.findPrefix("ko")),
+            () -> assertArrayEquals(new int[] { 0 }, index.findPrefix("mys")),
+            () -> assertArrayEquals(new int[0], index.findPrefix("pes")));
+    }
+
+    /**
+     * Test method for {@link FilterIndex#remove(int)}.
+     */
+    @Test
+    void remove() {
+        index.remove(2);
+
+        assertAll(
+            () -> assertEquals(5, index.size()),
+            () -> assertEquals("Želva", index.getDisplayValue(2)),
+            () -> assertArrayEquals(new int[] { 0, 3 }, index.findPrefix("ko")),
+            () -> assertArrayEquals(new int[] { 4 }, index.findPrefix("ovce")));
+    }
+
+    /**
+     * Test method for {@link FilterIndex#swap(int, int)}.
+     */
+    @Test
+    void swap() {
+        index.swap(0, 1);
+
+        assertAll(
+            () -> assertEquals("Pes", index.getDisplayValue(0)),
+            () -> assertArrayEquals(new int[] { 1, 2, 4 }, index.findPrefix("ko")),
+            () -> assertArrayEquals(new int[] { 0 }, index.findPrefix("pes")));
+    }
+
+    /**
+     * Test method for {@link FilterIndex#reorder(int[])} with removed display values.
+     */
+    @Test
+    void reorder() {
+        index.reorder(new int[] { 5, 4, 0, 1 });
+
+        assertAll(
+            () -> assertEquals(4, index.size()),
+            () -> assertEquals("Ovce", index.getDisplayValue(0)),
+            () -> assertArrayEquals(new int[] { 1, 2 }, index.findPrefix("ko")),
+            () -> assertArrayEquals(new int[0], index.findPrefix("zel")));
+    }
+
+}
@@ -0,0 +1,116 @@
+package cz.vhromada.catalog.gui.common;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+import cz.vhromada.catalog.entity.Picture;
+import cz.vhromada.catalog.facade.PictureFacade;
+import cz.vhromada.validation.result.Result;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * A class represents test for class {@link PictureCache}.
+ *
+ * @author Vladimir Hromada
+ */
+class PictureCacheTest {
+
+    /**
+     * Facade for pictures
+     */
+    private PictureFacade pictureFacade;
+
+    /**
+     * Count of bytes of pixels of one cached picture
+     */
+    private long pictureBytes;
+
+    /**
+     * Instance of {@link PictureCache}
+     */
+    private PictureCache cache;
+
+    /**
+     * Initializes facade for pictures and cache with space for two pictures.
+     *
+     * @throws IOException if creating of picture fails
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        final BufferedImage image = new BufferedImage(400, 300, BufferedImage.TYPE_INT_RGB);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        final Picture picture = new Picture();
+        picture.setContent(output.toByteArray());
+
+        pictureFacade = mock(PictureFacade.class);
+        when(pictureFacade.get(any(Integer.class))).thenReturn(Result.of(picture));
+
+        final PictureCache sizeCache = new PictureCache(pictureFacade);
+        sizeCache.getPicture(1);
+        pictureBytes = sizeCache.getBytes();
+        cache = new PictureCache(pictureFacade, 2L * pictureBytes + pictureBytes / 2L);
+    }
+
+    /**
+     * Test method for {@link PictureCache#getPicture(Integer)}. Least recently used picture is removed, if cache is full.
+     */
+    @Test
+    void getPicture_Eviction() {
+        cache.getPicture(1);
+        cache.getPicture(2);
+        cache.getPicture(1);
+        cache.getPicture(3);
+
+        assertAll(
+            () -> assertNotNull(cache.getCachedPicture(1)),
+            () -> assertNull(cache.getCachedPicture(2)),
+            () -> assertNotNull(cache.getCachedPicture(3)),
+            () -> assertEquals(2, cache.getSize()),
+            () -> assertEquals(2L * pictureBytes, cache.getBytes()));
+    }
+
+    /**
+     * Test method for {@link PictureCache#getPicture(Integer)} with cached picture.
+     */
+    @Test
+    void getPicture_Cached() {
+        final Object picture = cache.getPicture(1);
+
+        assertAll(
+            () -> assertTrue(pictureBytes > 0L),
+            () -> assertEquals(picture, cache.getPicture(1)),
+            () -> assertEquals(1, cache.getSize()));
+    }
+
+    /**
+     * Test method for {@link PictureCache#invalidate(Integer)}.
+     */
+    @Test
+    void invalidate() {
+        cache.getPicture(1);
+        cache.getPicture(2);
+
+        cache.invalidate(1);
+
+        assertAll(
+            () -> assertNull(cache.getCachedPicture(1)),
+            () -> assertNotNull(cache.getCachedPicture(2)),
+            () -> assertEquals(pictureBytes, cache.getBytes()));
+    }
+
+}
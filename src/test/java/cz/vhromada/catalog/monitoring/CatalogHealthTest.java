@@ -0,0 +1,112 @@
+package cz.vhromada.catalog.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import cz.vhromada.catalog.cache.FacadeCache;
+import cz.vhromada.catalog.facade.MovieFacade;
+import cz.vhromada.catalog.facade.PictureFacade;
+import cz.vhromada.catalog.gui.common.PictureCache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * A class represents test for class {@link CatalogHealth}.
+ *
+ * @author Vladimir Hromada
+ */
+class CatalogHealthTest {
+
+    /**
+     * Precision of rate
+     */
+    private static final double PRECISION = 0.000_001;
+
+    /**
+     * Metrics of calls of facades
+     */
+    private FacadeMetrics facadeMetrics;
+
+    /**
+     * Instance of {@link CatalogHealth}
+     */
+    private CatalogHealth health;
+
+    /**
+     * Initializes health.
+     */
+    @BeforeEach
+    void setUp() {
+        facadeMetrics = new FacadeMetrics();
+        health = new CatalogHealth(facadeMetrics, new FacadeCache(), new PictureCache(mock(PictureFacade.class)));
+    }
+
+    /**
+     * Test method for {@link CatalogHealth#getFacadeCallsRate()}.
+     */
+    @Test
+    void getFacadeCallsRate() {
+        final MovieFacade facade = (MovieFacade) facadeMetrics.postProcessAfterInitialization(mock(MovieFacade.class), "movieFacade");
+        health.sample(0L);
+        for (int i = 0; i < 10; i++) {
+            facade.getAll();
+        }
+        health.sample(TimeUnit.SECONDS.toNanos(2L));
+
+        assertAll(
+            () -> assertEquals(5.0, health.getFacadeCallsRate(), PRECISION),
+            () -> assertEquals(5.0, health.getFacadeCallsRate(), PRECISION));
+    }
+
+    /**
+     * Test method for {@link CatalogHealth#getFacadeCallsRate()} with samples older than window.
+     */
+    @Test
+    void getFacadeCallsRate_OldSamples() {
+        final MovieFacade facade = (MovieFacade) facadeMetrics.postProcessAfterInitialization(mock(MovieFacade.class), "movieFacade");
+        health.sample(0L);
+        facade.getAll();
+        health.sample(TimeUnit.MINUTES.toNanos(2L));
+
+        assertEquals(0.0, health.getFacadeCallsRate(), PRECISION);
+    }
+
+    /**
+     * Test method for {@link CatalogHealth#getUnsavedTabs()}.
+     */
+    @Test
+    void getUnsavedTabs() {
+        final List<String> tabs = new ArrayList<>(Collections.singletonList("Movies"));
+        health.setUnsavedTabs(tabs);
+        tabs.add("Games");
+
+        assertAll(
+            () -> assertEquals(Collections.singletonList("Movies"), health.getUnsavedTabs()),
+            () -> assertFalse(health.isSaved()),
+            () -> assertThrows(UnsupportedOperationException.class, () -> health.getUnsavedTabs().add("Games")));
+    }
+
+    /**
+     * Test method for {@link CatalogHealth#getUnsavedTabs()} without unsaved tabs.
+     */
+    @Test
+    void getUnsavedTabs_Saved() {
+        health.setUnsavedTabs(Collections.singletonList("Movies"));
+        health.setUnsavedTabs(Collections.emptyList());
+
+        assertAll(
+            () -> assertEquals(Collections.emptyList(), health.getUnsavedTabs()),
+            () -> assertTrue(health.isSaved()));
+    }
+
+}
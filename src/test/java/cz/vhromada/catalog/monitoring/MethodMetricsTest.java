@@ -0,0 +1,91 @@
+package cz.vhromada.catalog.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * A class represents test for class {@link MethodMetrics}.
+ *
+ * @author Vladimir Hromada
+ */
+class MethodMetricsTest {
+
+    /**
+     * Precision of durations in milliseconds
+     */
+    private static final double PRECISION = 0.000_001;
+
+    /**
+     * Instance of {@link MethodMetrics}
+     */
+    private MethodMetrics metrics;
+
+    /**
+     * Initializes metrics.
+     */
+    @BeforeEach
+    void setUp() {
+        metrics = new MethodMetrics("MovieFacade", "getAll()");
+    }
+
+    /**
+     * Test method for {@link MethodMetrics#getPercentiles(double...)}.
+     */
+    @Test
+    void getPercentiles() {
+        for (int i = 100; i > 0; i--) {
+            metrics.record(TimeUnit.MILLISECONDS.toNanos(i), false);
+        }
+
+        assertArrayEquals(new double[] { 1.0, 50.0, 90.0, 99.0, 100.0 }, metrics.getPercentiles(0.0, 50.0, 90.0, 99.0, 100.0), PRECISION);
+    }
+
+    /**
+     * Test method for {@link MethodMetrics#getPercentiles(double...)} without calls.
+     */
+    @Test
+    void getPercentiles_NoCalls() {
+        assertArrayEquals(new double[] { 0.0, 0.0 }, metrics.getPercentiles(50.0, 99.0), PRECISION);
+    }
+
+    /**
+     * Test method for {@link MethodMetrics#getPercentiles(double...)} with more calls than kept durations. Only durations of last calls are used.
+     */
+    @Test
+    void getPercentiles_LastCalls() {
+        for (int i = 0; i < 1024; i++) {
+            metrics.record(TimeUnit.MILLISECONDS.toNanos(1000L), false);
+        }
+        for (int i = 0; i < 1024; i++) {
+            metrics.record(TimeUnit.MILLISECONDS.toNanos(1L), false);
+        }
+
+        assertAll(
+            () -> assertArrayEquals(new double[] { 1.0 }, metrics.getPercentiles(100.0), PRECISION),
+            () -> assertEquals(1000.0, metrics.getMaxDuration(), PRECISION),
+            () -> assertEquals(2048L, metrics.getCount()));
+    }
+
+    /**
+     * Test method for {@link MethodMetrics#record(long, boolean)}.
+     */
+    @Test
+    void record() {
+        metrics.record(TimeUnit.MILLISECONDS.toNanos(2L), false);
+        metrics.record(TimeUnit.MILLISECONDS.toNanos(4L), true);
+
+        assertAll(
+            () -> assertEquals(2L, metrics.getCount()),
+            () -> assertEquals(1L, metrics.getErrors()),
+            () -> assertEquals(6.0, metrics.getTotalDuration(), PRECISION),
+            () -> assertEquals(3.0, metrics.getMeanDuration(), PRECISION),
+            () -> assertEquals(4.0, metrics.getMaxDuration(), PRECISION));
+    }
+
+}
@@ -0,0 +1,267 @@
+package cz.vhromada.catalog.search;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import cz.vhromada.catalog.entity.Episode;
+import cz.vhromada.catalog.entity.Game;
+import cz.vhromada.catalog.entity.Movie;
+import cz.vhromada.catalog.entity.Music;
+import cz.vhromada.catalog.entity.Program;
+import cz.vhromada.catalog.entity.Season;
+import cz.vhromada.catalog.entity.Show;
+import cz.vhromada.catalog.entity.Song;
+import cz.vhromada.catalog.facade.EpisodeFacade;
+import cz.vhromada.catalog.facade.GameFacade;
+import cz.vhromada.catalog.facade.MovieFacade;
+import cz.vhromada.catalog.facade.MusicFacade;
+import cz.vhromada.catalog.facade.ProgramFacade;
+import cz.vhromada.catalog.facade.SeasonFacade;
+import cz.vhromada.catalog.facade.ShowFacade;
+import cz.vhromada.catalog.facade.SongFacade;
+import cz.vhromada.validation.result.Result;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * A class represents test for class {@link SearchIndex}.
+ *
+ * @author Vladimir Hromada
+ */
+class SearchIndexTest {
+
+    /**
+     * Timeout for changes of index in seconds
+     */
+    private static final long TIMEOUT = 5L;
+
+    /**
+     * Maximal count of found data
+     */
+    private static final int MAX_COUNT = 10;
+
+    /**
+     * Facade for movies
+     */
+    private MovieFacade movieFacade;
+
+    /**
+     * Facade for shows
+     */
+    private ShowFacade showFacade;
+
+    /**
+     * Facade for seasons
+     */
+    private SeasonFacade seasonFacade;
+
+    /**
+     * Facade for episodes
+     */
+    private EpisodeFacade episodeFacade;
+
+    /**
+     * Show
+     */
+    private Show show;
+
+    /**
+     * Season of show
+     */
+    private Season season;
+
+    /**
+     * Thread for building and changing of index
+     */
+    private ExecutorService executor;
+
+    /**
+     * Instance of {@link SearchIndex}
+     */
+    private SearchIndex index;
+
+    /**
+     * Initializes facades and builds index.
+     */
+    @BeforeEach
+    void setUp() throws Exception {
+        movieFacade = mock(MovieFacade.class);
+        showFacade = mock(ShowFacade.class);
+        seasonFacade = mock(SeasonFacade.class);
+        episodeFacade = mock(EpisodeFacade.class);
+        final MusicFacade musicFacade = mock(MusicFacade.class);
+        final SongFacade songFacade = mock(SongFacade.class);
+        final GameFacade gameFacade = mock(GameFacade.class);
+        final ProgramFacade programFacade = mock(ProgramFacade.class);
+
+        show = new Show();
+        show.setId(1);
+        show.setCzechName("Přátelé");
+        show.setOriginalName("Friends");
+        season = createSeason(1);
+        when(movieFacade.getAll()).thenReturn(Result.of(Collections.singletonList(createMovie(1, "Čtyři svatby a jeden pohřeb"))));
+        when(showFacade.getAll()).thenReturn(Result.of(Collections.singletonList(show)));
+        when(showFacade.get(1)).thenReturn(Result.of(show));
+        when(seasonFacade.find(any(Show.class))).thenReturn(Result.of(Collections.singletonList(season)));
+        when(seasonFacade.get(any(Integer.class))).thenReturn(Result.of(season));
+        when(episodeFacade.find(any(Season.class))).thenReturn(Result.of(Collections.singletonList(createEpisode(1, "Pilot"))));
+        when(musicFacade.getAll()).thenReturn(Result.of(Collections.<Music>emptyList()));
+        when(songFacade.find(any(Music.class))).thenReturn(Result.of(Collections.<Song>emptyList()));
+        when(gameFacade.getAll()).thenReturn(Result.of(Collections.<Game>emptyList()));
+        when(programFacade.getAll()).thenReturn(Result.of(Collections.<Program>emptyList()));
+
+        executor = Executors.newSingleThreadExecutor();
+        index = new SearchIndex(movieFacade, showFacade, seasonFacade, episodeFacade, musicFacade, songFacade, gameFacade, programFacade, executor);
+        index.build();
+        await();
+    }
+
+    /**
+     * Stops index.
+     */
+    @AfterEach
+    void tearDown() {
+        index.close();
+    }
+
+    /**
+     * Test method for {@link SearchIndex#search(String, int)}. Words are found by prefixes without case and diacritics.
+     */
+    @Test
+    void search() {
+        final List<SearchHit> hits = index.search("ctyri POHR", MAX_COUNT);
+
+        assertAll(
+            () -> assertTrue(index.isBuilt()),
+            () -> assertEquals(1, hits.size()),
+            () -> assertEquals(SearchHit.Type.MOVIE, hits.get(0).getType()),
+            () -> assertEquals(Collections.singletonList(1), hits.get(0).getPath()));
+    }
+
+    /**
+     * Test method for {@link SearchIndex#search(String, int)} with nested data.
+     */
+    @Test
+    void search_Nested() {
+        final List<SearchHit> hits = index.search("pilot", MAX_COUNT);
+
+        assertAll(
+            () -> assertEquals(1, hits.size()),
+            () -> assertEquals("Přátelé / Season 1 / Pilot", hits.get(0).getLabel()),
+            () -> assertEquals(Arrays.asList(1, 1, 1), hits.get(0).getPath()));
+    }
+
+    /**
+     * Test method for {@link SearchIndex#dataChanged(Class, String, Object, Object)} with added season. Only seasons of show are loaded again.
+     */
+    @Test
+    void dataChanged_Add() throws Exception {
+        final Season addedSeason = createSeason(2);
+        addedSeason.setNote("Reunion");
+        when(seasonFacade.find(any(Show.class))).thenReturn(Result.of(Arrays.asList(season, addedSeason)));
+
+        index.dataChanged(SeasonFacade.class, "add", show, addedSeason);
+        await();
+        final List<SearchHit> hits = index.search("reunion", MAX_COUNT);
+
+        assertAll(
+            () -> assertEquals(1, hits.size()),
+            () -> assertEquals(Arrays.asList(1, 2), hits.get(0).getPath()));
+        verify(showFacade, times(1)).getAll();
+    }
+
+    /**
+     * Test method for {@link SearchIndex#dataChanged(Class, String, Object, Object)} with updated movie.
+     */
+    @Test
+    void dataChanged_Update() throws Exception {
+        index.dataChanged(MovieFacade.class, "update", null, createMovie(1, "Láska nebeská"));
+        await();
+
+        assertAll(
+            () -> assertEquals(1, index.search("nebeska", MAX_COUNT).size()),
+            () -> assertTrue(index.search("svatby", MAX_COUNT).isEmpty()));
+    }
+
+    /**
+     * Test method for {@link SearchIndex#dataChanged(Class, String, Object, Object)} with removed show. Seasons and episodes of show are removed
+     * too.
+     */
+    @Test
+    void dataChanged_Remove() throws Exception {
+        index.dataChanged(ShowFacade.class, "remove", null, show);
+        await();
+
+        assertAll(
+            () -> assertTrue(index.search("pratele", MAX_COUNT).isEmpty()),
+            () -> assertTrue(index.search("pilot", MAX_COUNT).isEmpty()));
+    }
+
+    /**
+     * Waits until all changes of index are finished - thread for building and changing of index executes tasks in order.
+     *
+     * @throws Exception if waiting fails
+     */
+    private void await() throws Exception {
+        executor.submit(() -> {
+        }).get(TIMEOUT, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Returns movie.
+     *
+     * @param id   ID
+     * @param name name
+     * @return movie
+     */
+    private static Movie createMovie(final int id, final String name) {
+        final Movie movie = new Movie();
+        movie.setId(id);
+        movie.setCzechName(name);
+        movie.setOriginalName(name);
+        return movie;
+    }
+
+    /**
+     * Returns season.
+     *
+     * @param id ID
+     * @return season
+     */
+    private static Season createSeason(final int id) {
+        final Season season = new Season();
+        season.setId(id);
+        season.setNumber(id);
+        return season;
+    }
+
+    /**
+     * Returns episode.
+     *
+     * @param id   ID
+     * @param name name
+     * @return episode
+     */
+    private static Episode createEpisode(final int id, final String name) {
+        final Episode episode = new Episode();
+        episode.setId(id);
+        episode.setName(name);
+        return episode;
+    }
+
+}